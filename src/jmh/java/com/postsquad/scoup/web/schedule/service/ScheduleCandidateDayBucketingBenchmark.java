@@ -0,0 +1,85 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateReadAllResponse;
+import com.postsquad.scoup.web.schedule.domain.DayBucketingPolicy;
+import com.postsquad.scoup.web.schedule.domain.DayBuckets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 시작 시각 순으로 정렬된 후보 응답을 날짜별로 나누는 비용을 비교한다.
+ * groupingBy(HashMap) 은 변경 전 ScheduleCandidateService.readAll 의 방식이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ScheduleCandidateDayBucketingBenchmark {
+
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @Param({"100000"})
+    private int candidateCount;
+
+    private List<ScheduleCandidateReadAllResponse> sortedCandidates;
+
+    private LocalDateTime windowEnd;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        sortedCandidates = new ArrayList<>(candidateCount);
+        LocalDateTime startDateTime = WINDOW_START;
+        for (int i = 0; i < candidateCount; i++) {
+            // 하루 평균 100개 정도, 일부는 자정을 넘긴다.
+            startDateTime = startDateTime.plusMinutes(random.nextInt(29));
+            sortedCandidates.add(ScheduleCandidateReadAllResponse.builder()
+                                                                 .id(i)
+                                                                 .startDateTime(startDateTime)
+                                                                 .endDateTime(startDateTime.plusHours(1 + random.nextInt(6)))
+                                                                 .build());
+        }
+        windowEnd = startDateTime.plusDays(1);
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<ScheduleCandidateReadAllResponse>> groupingByHashMap() {
+        return sortedCandidates.stream()
+                               .collect(Collectors.groupingBy(candidate -> candidate.getStartDateTime().toLocalDate()));
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<ScheduleCandidateReadAllResponse>> startDayBuckets() {
+        return bucket(DayBucketingPolicy.START_DAY);
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<ScheduleCandidateReadAllResponse>> everyDayBuckets() {
+        return bucket(DayBucketingPolicy.EVERY_DAY);
+    }
+
+    private Map<LocalDate, List<ScheduleCandidateReadAllResponse>> bucket(DayBucketingPolicy dayBucketingPolicy) {
+        return DayBuckets.of(
+                sortedCandidates,
+                ScheduleCandidateReadAllResponse::getStartDateTime,
+                ScheduleCandidateReadAllResponse::getEndDateTime,
+                dayBucketingPolicy,
+                WINDOW_START,
+                windowEnd
+        );
+    }
+}
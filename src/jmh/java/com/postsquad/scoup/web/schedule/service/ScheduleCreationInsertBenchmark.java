@@ -0,0 +1,178 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.common.PooledLoSequenceIdGenerator;
+import com.postsquad.scoup.web.group.domain.Group;
+import com.postsquad.scoup.web.schedule.controller.request.ScheduleCandidateCreationRequest;
+import com.postsquad.scoup.web.schedule.controller.request.ScheduleCreationRequest;
+import com.postsquad.scoup.web.schedule.domain.Schedule;
+import com.postsquad.scoup.web.schedule.mapper.ScheduleMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.tools.Server;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.jpa.spi.IdentifierGeneratorStrategyProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 하나와 후보 candidateCount 개를 ScheduleService.create 와 같은 경로(ScheduleMapper + persist)로 저장하는 시간을 비교한다.
+ * 엔티티 매핑과 Hibernate 설정은 애플리케이션과 같고, id 생성기만 다르다.
+ * identity 는 변경 전 IDENTITY id 로, insert 마다 생성된 키를 받아야 해서 행마다 왕복한다.
+ * pooledLo 는 PooledLoSequenceIdGenerator 로, 시퀀스에서 incrementSize 개씩 id 를 받고 insert 를 batch 로 보낸다.
+ * 왕복 비용이 드러나도록 H2 를 TCP 서버로 띄워 접속한다. 실제 DB 는 네트워크 지연이 더 크므로 차이도 더 벌어진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScheduleCreationInsertBenchmark {
+
+    private static final String IDENTITY = "identity";
+
+    private static final String ENTITY_PACKAGE = "com.postsquad.scoup.web";
+
+    private static final LocalDateTime START = LocalDateTime.of(2021, 1, 1, 9, 0);
+
+    @Param({IDENTITY, "pooledLo"})
+    private String idGenerator;
+
+    @Param({"20"})
+    private int candidateCount;
+
+    @Param({"50"})
+    private int incrementSize;
+
+    private Server server;
+
+    private HikariDataSource dataSource;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private long groupId;
+
+    private ScheduleCreationRequest scheduleCreationRequest;
+
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        server = Server.createTcpServer("-tcpPort", String.valueOf(freePort())).start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:schedule_creation;DB_CLOSE_DELAY=-1;MODE=MYSQL");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        entityManagerFactory = entityManagerFactory();
+        groupId = persistGroup();
+        scheduleCreationRequest = scheduleCreationRequest();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public Long createSchedule() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Schedule schedule = ScheduleMapper.INSTANCE.map(groupId, scheduleCreationRequest);
+            entityManager.persist(schedule);
+            entityManager.getTransaction().commit();
+            return schedule.getId();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    // Spring Boot 의 HibernateJpaConfiguration 이 만드는 것과 같은 설정에서, identity 일 때만 BaseEntity 의 id 생성기를 IDENTITY 로 바꾼다.
+    private EntityManagerFactory entityManagerFactory() {
+        Map<String, Object> jpaProperties = new HashMap<>();
+        jpaProperties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+        jpaProperties.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, SpringPhysicalNamingStrategy.class.getName());
+        jpaProperties.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+        jpaProperties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(new DefaultListableBeanFactory()));
+        jpaProperties.put(AvailableSettings.GLOBALLY_QUOTED_IDENTIFIERS, "true");
+        jpaProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, "100");
+        jpaProperties.put(AvailableSettings.ORDER_INSERTS, "true");
+        jpaProperties.put(PooledLoSequenceIdGenerator.INCREMENT_SIZE_SETTING, String.valueOf(incrementSize));
+        if (IDENTITY.equals(idGenerator)) {
+            jpaProperties.put(AvailableSettings.IDENTIFIER_GENERATOR_STRATEGY_PROVIDER, IdentityStrategyProvider.class.getName());
+        }
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(ENTITY_PACKAGE);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(jpaProperties);
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    private long persistGroup() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Group group = Group.builder().name("group").build();
+            entityManager.persist(group);
+            entityManager.getTransaction().commit();
+            return group.getId();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private ScheduleCreationRequest scheduleCreationRequest() {
+        List<ScheduleCandidateCreationRequest> scheduleCandidates = new ArrayList<>();
+        for (int i = 0; i < candidateCount; i++) {
+            LocalDateTime startDateTime = START.plusHours(i);
+            scheduleCandidates.add(new ScheduleCandidateCreationRequest(startDateTime, startDateTime.plusHours(1)));
+        }
+
+        return ScheduleCreationRequest.builder()
+                                      .title("title")
+                                      .scheduleCandidates(scheduleCandidates)
+                                      .build();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * BaseEntity 의 @GenericGenerator 가 가리키는 PooledLoSequenceIdGenerator 대신 IdentityGenerator 를 쓰게 한다.
+     */
+    public static class IdentityStrategyProvider implements IdentifierGeneratorStrategyProvider {
+
+        @Override
+        public Map<String, Class<?>> getStrategies() {
+            return Map.of(PooledLoSequenceIdGenerator.class.getName(), IdentityGenerator.class);
+        }
+    }
+}
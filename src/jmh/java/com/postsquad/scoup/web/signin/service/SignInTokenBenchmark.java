@@ -0,0 +1,72 @@
+package com.postsquad.scoup.web.signin.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 한 번(access + refresh 토큰 발급) 기준으로
+ * 매 호출마다 signer/header 를 만드는 기존 방식과 SignInKeyRing 을 재사용하는 방식을 비교한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class SignInTokenBenchmark {
+
+    private static final String SECRET = "benchmark-secret-for-sign-in-token-generator";
+
+    private static final long USER_ID = 1L;
+
+    private SignInTokenGenerator reusedEngine;
+
+    @Setup
+    public void setUp() {
+        reusedEngine = new SignInTokenGenerator(new SignInKeyRing("benchmark", SECRET, ""));
+    }
+
+    @Benchmark
+    public String[] perCallSigner() throws JOSEException {
+        return new String[]{
+                perCallToken(LocalDateTime.now().plusMinutes(30)),
+                perCallToken(LocalDateTime.now().plusWeeks(2))
+        };
+    }
+
+    @Benchmark
+    public SignInTokens reusedEngine() {
+        return reusedEngine.issue(USER_ID);
+    }
+
+    // 변경 전 SignInTokenGenerator.signInToken 과 같은 방식
+    private String perCallToken(LocalDateTime expirationTime) throws JOSEException {
+        MACSigner jwsSigner = new MACSigner(SECRET);
+        JWSHeader jwsHeader = new JWSHeader(JWSAlgorithm.HS256);
+
+        SignedJWT signedJWT = new SignedJWT(
+                jwsHeader,
+                new JWTClaimsSet.Builder()
+                        .subject(String.valueOf(USER_ID))
+                        .expirationTime(Date.from(expirationTime.toInstant(ZoneOffset.UTC)))
+                        .build()
+        );
+        signedJWT.sign(jwsSigner);
+        return signedJWT.serialize();
+    }
+}
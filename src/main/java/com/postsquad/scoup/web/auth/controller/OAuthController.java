@@ -8,6 +8,7 @@ import com.postsquad.scoup.web.auth.controller.response.SocialAuthenticationResp
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RequiredArgsConstructor
 @RequestMapping("/oauth")
@@ -17,12 +18,12 @@ public class OAuthController {
     private final OAuthService oAuthService;
 
     @GetMapping("/user-data")
-    public SocialAuthenticationResponse readOAuthUserData(@RequestParam OAuthType type, @RequestParam String code) {
+    public Mono<SocialAuthenticationResponse> readOAuthUserData(@RequestParam OAuthType type, @RequestParam String code) {
         return oAuthService.readOAuthUserData(type, code);
     }
 
     @GetMapping("/user-data/token")
-    public SocialAuthenticationResponse readOAuthUserDataWithToken(@RequestParam OAuthType type, @RequestHeader("Authorization") String header) {
+    public Mono<SocialAuthenticationResponse> readOAuthUserDataWithToken(@RequestParam OAuthType type, @RequestHeader("Authorization") String header) {
         return oAuthService.readOAuthUserDataFromHeader(type, header);
     }
 
@@ -10,7 +10,8 @@ public class GitHubProperty extends OAuthProperty {
                           @Value("${github.web.redirect.uri}") String redirectUri,
                           @Value("${github.user.uri}") String userUri,
                           @Value("${github.web.client.id}") String clientId,
-                          @Value("${github.web.client.secret}") String clientSecret) {
-        super(accessTokenUri, redirectUri, userUri, clientId, clientSecret);
+                          @Value("${github.web.client.secret}") String clientSecret,
+                          @Value("${github.client.max-connections:50}") int maxConnections) {
+        super(accessTokenUri, redirectUri, userUri, clientId, clientSecret, maxConnections);
     }
 }
@@ -10,7 +10,8 @@ public class GoogleProperty extends OAuthProperty {
                           @Value("${google.web.redirect.uri}") String redirectUri,
                           @Value("${google.user.uri}") String userUri,
                           @Value("${google.web.client.id}") String clientId,
-                          @Value("${google.web.client.secret}") String clientSecret) {
-        super(accessTokenUri, redirectUri, userUri, clientId, clientSecret);
+                          @Value("${google.web.client.secret}") String clientSecret,
+                          @Value("${google.client.max-connections:50}") int maxConnections) {
+        super(accessTokenUri, redirectUri, userUri, clientId, clientSecret, maxConnections);
     }
 }
@@ -10,7 +10,8 @@ public class KakaoProperty extends OAuthProperty {
                          @Value("${kakao.web.redirect.uri}") String redirectUri,
                          @Value("${kakao.user.uri}") String userUri,
                          @Value("${kakao.web.client.id}") String clientId,
-                         @Value("${kakao.web.client.secret}") String clientSecret) {
-        super(accessTokenUri, redirectUri, userUri, clientId, clientSecret);
+                         @Value("${kakao.web.client.secret}") String clientSecret,
+                         @Value("${kakao.client.max-connections:50}") int maxConnections) {
+        super(accessTokenUri, redirectUri, userUri, clientId, clientSecret, maxConnections);
     }
 }
@@ -4,7 +4,7 @@ import com.postsquad.scoup.web.auth.OAuthType;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 import static com.postsquad.scoup.web.auth.OAuthType.*;
@@ -13,15 +13,15 @@ import static com.postsquad.scoup.web.auth.OAuthType.*;
 @Component
 public class OAuthProperties {
 
-    private static final Map<OAuthType, OAuthProperty> PROPERTIES = new HashMap<>();
+    private final Map<OAuthType, OAuthProperty> properties = new EnumMap<>(OAuthType.class);
 
-    private OAuthProperties(GitHubProperty gitHubProperty, KakaoProperty kakaoProperty, GoogleProperty googleProperty) {
-        PROPERTIES.put(GITHUB, gitHubProperty);
-        PROPERTIES.put(KAKAO, kakaoProperty);
-        PROPERTIES.put(GOOGLE, googleProperty);
+    public OAuthProperties(GitHubProperty gitHubProperty, KakaoProperty kakaoProperty, GoogleProperty googleProperty) {
+        properties.put(GITHUB, gitHubProperty);
+        properties.put(KAKAO, kakaoProperty);
+        properties.put(GOOGLE, googleProperty);
     }
 
     public OAuthProperty getProperty(OAuthType type) {
-        return PROPERTIES.get(type);
+        return properties.get(type);
     }
 }
@@ -16,11 +16,15 @@ public abstract class OAuthProperty {
 
     protected String clientSecret;
 
-    public OAuthProperty(String accessTokenUri, String redirectUri, String userUri, String clientId, String clientSecret) {
+    // 소셜 서비스별 커넥션 풀 크기
+    protected int maxConnections;
+
+    public OAuthProperty(String accessTokenUri, String redirectUri, String userUri, String clientId, String clientSecret, int maxConnections) {
         this.accessTokenUri = accessTokenUri;
         this.redirectUri = redirectUri;
         this.userUri = userUri;
         this.clientId = clientId;
         this.clientSecret = clientSecret;
+        this.maxConnections = maxConnections;
     }
 }
@@ -6,28 +6,25 @@ import com.postsquad.scoup.web.auth.controller.response.GitHubUserResponse;
 import com.postsquad.scoup.web.auth.controller.response.SocialAuthenticationResponse;
 import com.postsquad.scoup.web.auth.mapper.SocialAuthenticationResponseMapper;
 import com.postsquad.scoup.web.auth.exception.TokenNotFoundException;
-import com.postsquad.scoup.web.auth.exception.OAuthRequestNotValidException;
 import com.postsquad.scoup.web.auth.exception.OAuthUserNotFoundException;
 import com.postsquad.scoup.web.auth.exception.OAuthException;
 import com.postsquad.scoup.web.auth.property.OAuthProperties;
 import com.postsquad.scoup.web.auth.property.OAuthProperty;
 import com.postsquad.scoup.web.auth.OAuthType;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component("github")
 public class GitHubOAuth extends OAuth {
 
-    public GitHubOAuth(WebClient webClient, OAuthProperties oAuthProperties) {
-        super(webClient, oAuthProperties);
+    public GitHubOAuth(OAuthWebClientFactory oAuthWebClientFactory, OAuthProperties oAuthProperties) {
+        super(oAuthWebClientFactory, oAuthProperties, OAuthType.GITHUB);
     }
 
     @Override
-    protected TokenResponse getToken(OAuthProperty oAuthProperty, String code) {
+    protected Mono<TokenResponse> getToken(OAuthProperty oAuthProperty, String code) {
         TokenRequest tokenRequest = TokenRequest.builder()
                                                 .clientId(oAuthProperty.getClientId())
                                                 .clientSecret(oAuthProperty.getClientSecret())
@@ -35,28 +32,22 @@ public class GitHubOAuth extends OAuth {
                                                 .code(code)
                                                 .build();
 
-        return webClient.post()
-                        .uri(oAuthProperty.getAccessTokenUri())
-                        .accept(MediaType.APPLICATION_JSON)
-                        .bodyValue(tokenRequest)
-                        .retrieve()
-                        .onStatus(HttpStatus::is4xxClientError, error -> Mono.error(() -> new OAuthException(new OAuthRequestNotValidException())))
-                        .bodyToMono(TokenResponse.class)
-                        .blockOptional()
-                        .orElseThrow(() -> new OAuthException(new TokenNotFoundException()));
+        return retrieveToken(webClient.post()
+                                      .uri(oAuthProperty.getAccessTokenUri())
+                                      .accept(MediaType.APPLICATION_JSON)
+                                      .bodyValue(tokenRequest),
+                             TokenResponse.class,
+                             () -> new OAuthException(new TokenNotFoundException()));
     }
 
     @Override
-    protected SocialAuthenticationResponse getOAuthUserInfo(OAuthProperty oAuthProperty, TokenResponse token, OAuthType type) {
-        GitHubUserResponse gitHubUserResponse = webClient.get()
-                                                         .uri(oAuthProperty.getUserUri())
-                                                         .accept(MediaType.APPLICATION_JSON)
-                                                         .header(HttpHeaders.AUTHORIZATION, TOKEN + " " + token.getAccessToken())
-                                                         .retrieve()
-                                                         .onStatus(HttpStatus::is4xxClientError, error -> Mono.error(() -> new OAuthException(new OAuthRequestNotValidException())))
-                                                         .bodyToMono(GitHubUserResponse.class)
-                                                         .blockOptional()
-                                                         .orElseThrow(() -> new OAuthException(new OAuthUserNotFoundException()));
-        return SocialAuthenticationResponseMapper.INSTANCE.map(gitHubUserResponse, type);
+    protected Mono<SocialAuthenticationResponse> getOAuthUserInfo(OAuthProperty oAuthProperty, TokenResponse token, OAuthType type) {
+        return retrieve(webClient.get()
+                                 .uri(oAuthProperty.getUserUri())
+                                 .accept(MediaType.APPLICATION_JSON)
+                                 .header(HttpHeaders.AUTHORIZATION, TOKEN + " " + token.getAccessToken()),
+                        GitHubUserResponse.class,
+                        () -> new OAuthException(new OAuthUserNotFoundException()))
+                .map(gitHubUserResponse -> SocialAuthenticationResponseMapper.INSTANCE.map(gitHubUserResponse, type));
     }
 }
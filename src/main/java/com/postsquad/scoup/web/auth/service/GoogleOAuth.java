@@ -7,16 +7,13 @@ import com.postsquad.scoup.web.auth.controller.response.TokenResponse;
 import com.postsquad.scoup.web.auth.controller.response.SocialAuthenticationResponse;
 import com.postsquad.scoup.web.auth.mapper.SocialAuthenticationResponseMapper;
 import com.postsquad.scoup.web.auth.exception.TokenNotFoundException;
-import com.postsquad.scoup.web.auth.exception.OAuthRequestNotValidException;
 import com.postsquad.scoup.web.auth.exception.OAuthException;
 import com.postsquad.scoup.web.auth.property.OAuthProperties;
 import com.postsquad.scoup.web.auth.property.OAuthProperty;
 import com.postsquad.scoup.web.auth.OAuthType;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.text.ParseException;
@@ -25,25 +22,27 @@ import java.util.Map;
 @Component("google")
 public class GoogleOAuth extends OAuth {
 
-    public GoogleOAuth(WebClient webClient, OAuthProperties oAuthProperties) {
-        super(webClient, oAuthProperties);
+    public GoogleOAuth(OAuthWebClientFactory oAuthWebClientFactory, OAuthProperties oAuthProperties) {
+        super(oAuthWebClientFactory, oAuthProperties, OAuthType.GOOGLE);
     }
 
-    protected TokenResponse getToken(OAuthProperty oAuthProperty, String code) {
+    protected Mono<TokenResponse> getToken(OAuthProperty oAuthProperty, String code) {
         MultiValueMap<String, String> tokenRequest = TokenRequestWithGrantType.of(oAuthProperty, code);
-        return webClient.post()
-                        .uri(oAuthProperty.getAccessTokenUri())
-                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                        .bodyValue(tokenRequest)
-                        .retrieve()
-                        .onStatus(HttpStatus::is4xxClientError, error -> Mono.error(() -> new OAuthException(new OAuthRequestNotValidException())))
-                        .bodyToMono(TokenResponse.class)
-                        .blockOptional()
-                        .orElseThrow(() -> new OAuthException(new TokenNotFoundException()));
+        return retrieveToken(webClient.post()
+                                      .uri(oAuthProperty.getAccessTokenUri())
+                                      .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                                      .bodyValue(tokenRequest),
+                             TokenResponse.class,
+                             () -> new OAuthException(new TokenNotFoundException()));
     }
 
+    // id token 에서 사용자 정보를 꺼내므로 외부 호출이 없다.
     @Override
-    protected SocialAuthenticationResponse getOAuthUserInfo(OAuthProperty oAuthProperty, TokenResponse token, OAuthType type) {
+    protected Mono<SocialAuthenticationResponse> getOAuthUserInfo(OAuthProperty oAuthProperty, TokenResponse token, OAuthType type) {
+        return Mono.fromCallable(() -> readIdToken(token, type));
+    }
+
+    private SocialAuthenticationResponse readIdToken(TokenResponse token, OAuthType type) {
         String idToken = token.getIdToken();
         String sub, name, email, picture;
         sub = name = email = picture = "";
@@ -6,51 +6,42 @@ import com.postsquad.scoup.web.auth.controller.response.KakaoUserResponse;
 import com.postsquad.scoup.web.auth.controller.response.SocialAuthenticationResponse;
 import com.postsquad.scoup.web.auth.mapper.SocialAuthenticationResponseMapper;
 import com.postsquad.scoup.web.auth.exception.TokenNotFoundException;
-import com.postsquad.scoup.web.auth.exception.OAuthRequestNotValidException;
 import com.postsquad.scoup.web.auth.exception.OAuthUserNotFoundException;
 import com.postsquad.scoup.web.auth.exception.OAuthException;
 import com.postsquad.scoup.web.auth.property.OAuthProperties;
 import com.postsquad.scoup.web.auth.property.OAuthProperty;
 import com.postsquad.scoup.web.auth.OAuthType;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @Component("kakao")
 public class KakaoOAuth extends OAuth {
 
-    public KakaoOAuth(WebClient webClient, OAuthProperties oAuthProperties) {
-        super(webClient, oAuthProperties);
+    public KakaoOAuth(OAuthWebClientFactory oAuthWebClientFactory, OAuthProperties oAuthProperties) {
+        super(oAuthWebClientFactory, oAuthProperties, OAuthType.KAKAO);
     }
 
     @Override
-    protected TokenResponse getToken(OAuthProperty oAuthProperty, String code) {
+    protected Mono<TokenResponse> getToken(OAuthProperty oAuthProperty, String code) {
         MultiValueMap<String, String> tokenRequest = TokenRequestWithGrantType.of(oAuthProperty, code);
-        return webClient.post()
-                        .uri(oAuthProperty.getAccessTokenUri())
-                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                        .bodyValue(tokenRequest)
-                        .retrieve()
-                        .onStatus(HttpStatus::is4xxClientError, error -> Mono.error(() -> new OAuthException(new OAuthRequestNotValidException())))
-                        .bodyToMono(TokenResponse.class)
-                        .blockOptional()
-                        .orElseThrow(() -> new OAuthException(new TokenNotFoundException()));
+        return retrieveToken(webClient.post()
+                                      .uri(oAuthProperty.getAccessTokenUri())
+                                      .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                                      .bodyValue(tokenRequest),
+                             TokenResponse.class,
+                             () -> new OAuthException(new TokenNotFoundException()));
     }
 
     @Override
-    protected SocialAuthenticationResponse getOAuthUserInfo(OAuthProperty oAuthProperty, TokenResponse token, OAuthType type) {
-        KakaoUserResponse kakaoUserResponse = webClient.get()
-                                                       .uri(oAuthProperty.getUserUri())
-                                                       .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.getAccessToken())
-                                                       .retrieve()
-                                                       .onStatus(HttpStatus::is4xxClientError, error -> Mono.error(() -> new OAuthException(new OAuthRequestNotValidException())))
-                                                       .bodyToMono(KakaoUserResponse.class)
-                                                       .blockOptional()
-                                                       .orElseThrow(() -> new OAuthException(new OAuthUserNotFoundException()));
-        return SocialAuthenticationResponseMapper.INSTANCE.map(kakaoUserResponse, type);
+    protected Mono<SocialAuthenticationResponse> getOAuthUserInfo(OAuthProperty oAuthProperty, TokenResponse token, OAuthType type) {
+        return retrieve(webClient.get()
+                                 .uri(oAuthProperty.getUserUri())
+                                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.getAccessToken()),
+                        KakaoUserResponse.class,
+                        () -> new OAuthException(new OAuthUserNotFoundException()))
+                .map(kakaoUserResponse -> SocialAuthenticationResponseMapper.INSTANCE.map(kakaoUserResponse, type));
     }
 }
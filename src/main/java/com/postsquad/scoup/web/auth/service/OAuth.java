@@ -1,34 +1,68 @@
 package com.postsquad.scoup.web.auth.service;
 
-import com.postsquad.scoup.web.auth.controller.response.TokenResponse;
+import com.postsquad.scoup.web.auth.OAuthType;
 import com.postsquad.scoup.web.auth.controller.response.SocialAuthenticationResponse;
+import com.postsquad.scoup.web.auth.controller.response.TokenResponse;
+import com.postsquad.scoup.web.auth.exception.OAuthException;
+import com.postsquad.scoup.web.auth.exception.OAuthRequestNotValidException;
 import com.postsquad.scoup.web.auth.property.OAuthProperties;
 import com.postsquad.scoup.web.auth.property.OAuthProperty;
-import com.postsquad.scoup.web.auth.OAuthType;
-import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.function.Supplier;
 
-@RequiredArgsConstructor
 public abstract class OAuth {
 
     public static final String TOKEN = "token";
 
     protected final WebClient webClient;
 
+    protected final Retry retry;
+
+    protected final Retry connectRetry;
+
     protected final OAuthProperties oAuthProperties;
 
-    public SocialAuthenticationResponse readOAuthUserData(OAuthType type, String code) {
+    protected OAuth(OAuthWebClientFactory oAuthWebClientFactory, OAuthProperties oAuthProperties, OAuthType type) {
+        this.webClient = oAuthWebClientFactory.create(type, oAuthProperties.getProperty(type));
+        this.retry = oAuthWebClientFactory.retry();
+        this.connectRetry = oAuthWebClientFactory.connectRetry();
+        this.oAuthProperties = oAuthProperties;
+    }
+
+    public Mono<SocialAuthenticationResponse> readOAuthUserData(OAuthType type, String code) {
         OAuthProperty property = oAuthProperties.getProperty(type);
-        return getOAuthUserInfo(property, getToken(property, code), type);
+        return getToken(property, code).flatMap(token -> getOAuthUserInfo(property, token, type));
     }
 
-    public SocialAuthenticationResponse readOAuthUserDataFromHeader(OAuthType type, String header) {
+    public Mono<SocialAuthenticationResponse> readOAuthUserDataFromHeader(OAuthType type, String header) {
         OAuthProperty property = oAuthProperties.getProperty(type);
         String accessToken = header.substring(TOKEN.length()).trim();
         return getOAuthUserInfo(property, new TokenResponse(accessToken), type);
     }
 
-    abstract TokenResponse getToken(OAuthProperty oAuthProperty, String code);
+    abstract Mono<TokenResponse> getToken(OAuthProperty oAuthProperty, String code);
+
+    abstract Mono<SocialAuthenticationResponse> getOAuthUserInfo(OAuthProperty oAuthProperty, TokenResponse accessToken, OAuthType type);
+
+    // 4xx 는 잘못된 요청이므로 바로 실패시키고, 5xx 는 retry 설정에 따라 다시 요청한다. 멱등인 조회 요청에만 쓴다.
+    protected <T> Mono<T> retrieve(WebClient.RequestHeadersSpec<?> request, Class<T> responseType, Supplier<RuntimeException> emptyResponseException) {
+        return retrieve(request, responseType, retry, emptyResponseException);
+    }
 
-    abstract SocialAuthenticationResponse getOAuthUserInfo(OAuthProperty oAuthProperty, TokenResponse accessToken, OAuthType type);
+    // 인가 코드는 한 번만 쓸 수 있으므로 토큰 교환은 요청이 나가기 전인 연결 실패만 다시 시도한다.
+    protected <T> Mono<T> retrieveToken(WebClient.RequestHeadersSpec<?> request, Class<T> responseType, Supplier<RuntimeException> emptyResponseException) {
+        return retrieve(request, responseType, connectRetry, emptyResponseException);
+    }
+
+    private <T> Mono<T> retrieve(WebClient.RequestHeadersSpec<?> request, Class<T> responseType, Retry retry, Supplier<RuntimeException> emptyResponseException) {
+        return request.retrieve()
+                      .onStatus(HttpStatus::is4xxClientError, error -> Mono.error(() -> new OAuthException(new OAuthRequestNotValidException())))
+                      .bodyToMono(responseType)
+                      .retryWhen(retry)
+                      .switchIfEmpty(Mono.error(emptyResponseException));
+    }
 }
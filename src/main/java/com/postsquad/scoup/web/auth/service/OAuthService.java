@@ -4,21 +4,26 @@ import com.postsquad.scoup.web.auth.controller.response.SocialAuthenticationResp
 import com.postsquad.scoup.web.auth.OAuthType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
+/**
+ * 소셜 서비스 호출을 Mono 로 돌려준다. 컨트롤러가 Mono 를 그대로 반환하면 서블릿 비동기 처리로 응답하므로,
+ * 외부 호출을 기다리는 동안 요청 스레드를 붙잡지 않는다.
+ */
 @RequiredArgsConstructor
 @Service
 public class OAuthService {
 
     private final Map<String, OAuth> oAuthMap;
 
-    public SocialAuthenticationResponse readOAuthUserData(OAuthType type, String code) {
+    public Mono<SocialAuthenticationResponse> readOAuthUserData(OAuthType type, String code) {
         OAuth oAuth = oAuthMap.get(type.name().toLowerCase());
         return oAuth.readOAuthUserData(type, code);
     }
 
-    public SocialAuthenticationResponse readOAuthUserDataFromHeader(OAuthType type, String header) {
+    public Mono<SocialAuthenticationResponse> readOAuthUserDataFromHeader(OAuthType type, String header) {
         OAuth oAuth = oAuthMap.get(type.name().toLowerCase());
         return oAuth.readOAuthUserDataFromHeader(type, header);
     }
@@ -0,0 +1,144 @@
+package com.postsquad.scoup.web.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.postsquad.scoup.web.auth.OAuthType;
+import com.postsquad.scoup.web.auth.property.OAuthProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import io.netty.resolver.DefaultAddressResolverGroup;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import javax.annotation.PreDestroy;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 소셜 서비스마다 커넥션 풀을 따로 둔 WebClient 를 만든다. 한 서비스가 느려져도 다른 서비스의 커넥션을 잡아먹지 않는다.
+ * 모든 요청에 연결/응답 타임아웃을 걸고, 5xx 응답은 지터를 준 지수 백오프로 재시도한다.
+ * 인가 코드는 한 번만 쓸 수 있으므로 토큰 교환 요청은 요청을 보내기 전인 연결 실패만 재시도한다(connectRetry).
+ * 재시도를 포함한 요청 하나하나의 응답 시간은 oauth.client.requests 로 기록한다.
+ */
+@Component
+public class OAuthWebClientFactory {
+
+    private static final String REQUEST_METRIC_NAME = "oauth.client.requests";
+
+    private final ObjectMapper objectMapper;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int connectTimeoutMillis;
+
+    private final Duration readTimeout;
+
+    private final Duration pendingAcquireTimeout;
+
+    private final RetryBackoffSpec retry;
+
+    private final RetryBackoffSpec connectRetry;
+
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
+
+    public OAuthWebClientFactory(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${oauth.client.connect-timeout-millis:2000}") int connectTimeoutMillis,
+            @Value("${oauth.client.read-timeout-millis:5000}") long readTimeoutMillis,
+            @Value("${oauth.client.pending-acquire-timeout-millis:5000}") long pendingAcquireTimeoutMillis,
+            @Value("${oauth.client.retry.max-attempts:2}") long retryMaxAttempts,
+            @Value("${oauth.client.retry.min-backoff-millis:100}") long retryMinBackoffMillis,
+            @Value("${oauth.client.retry.jitter:0.5}") double retryJitter
+    ) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        this.pendingAcquireTimeout = Duration.ofMillis(pendingAcquireTimeoutMillis);
+        this.retry = Retry.backoff(retryMaxAttempts, Duration.ofMillis(retryMinBackoffMillis))
+                          .jitter(retryJitter)
+                          .filter(OAuthWebClientFactory::isServerError)
+                          .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure());
+        this.connectRetry = retry.filter(OAuthWebClientFactory::isConnectFailure);
+    }
+
+    public WebClient create(OAuthType type, OAuthProperty oAuthProperty) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth-" + type.name().toLowerCase())
+                                                                  .maxConnections(oAuthProperty.getMaxConnections())
+                                                                  .pendingAcquireTimeout(pendingAcquireTimeout)
+                                                                  .build();
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                                          .resolver(DefaultAddressResolverGroup.INSTANCE)
+                                          .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                                          .responseTimeout(readTimeout);
+        ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
+                                                                  .codecs(configurer -> configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper)))
+                                                                  .build();
+        return WebClient.builder()
+                        .clientConnector(new ReactorClientHttpConnector(httpClient))
+                        .exchangeStrategies(exchangeStrategies)
+                        .filter(recordRequestMetrics(type))
+                        .build();
+    }
+
+    public Retry retry() {
+        return retry;
+    }
+
+    public Retry connectRetry() {
+        return connectRetry;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+    private ExchangeFilterFunction recordRequestMetrics(OAuthType type) {
+        return (request, next) -> Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return next.exchange(request)
+                       .doOnSuccess(response -> sample.stop(requestTimer(type, request, String.valueOf(response.rawStatusCode()))))
+                       .doOnError(throwable -> sample.stop(requestTimer(type, request, throwable.getClass().getSimpleName())));
+        });
+    }
+
+    // 소셜 서비스의 uri 는 설정에 고정된 몇 개뿐이라 path 를 그대로 태그로 써도 된다.
+    private Timer requestTimer(OAuthType type, ClientRequest request, String status) {
+        return meterRegistry.timer(
+                REQUEST_METRIC_NAME,
+                "provider", type.name().toLowerCase(),
+                "method", request.method().name(),
+                "uri", request.url().getPath(),
+                "status", status
+        );
+    }
+
+    private static boolean isServerError(Throwable throwable) {
+        return throwable instanceof WebClientResponseException
+                && ((WebClientResponseException) throwable).getStatusCode().is5xxServerError();
+    }
+
+    private static boolean isConnectFailure(Throwable throwable) {
+        return throwable instanceof WebClientRequestException
+                && throwable.getCause() instanceof ConnectException;
+    }
+}
@@ -3,6 +3,7 @@ package com.postsquad.scoup.web.common;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_lo_sequence")
+    @GenericGenerator(name = "pooled_lo_sequence", strategy = "com.postsquad.scoup.web.common.PooledLoSequenceIdGenerator")
     protected Long id;
 
     @CreatedDate
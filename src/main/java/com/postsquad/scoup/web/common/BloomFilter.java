@@ -0,0 +1,103 @@
+package com.postsquad.scoup.web.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter. mightContain 이 false 면 한 번도 put 하지 않은 값이고, true 면 있을 수도 있는 값이다.
+ * 비트는 AtomicLongArray 에 CAS 로 켜므로 여러 스레드가 잠금 없이 put, mightContain 을 호출할 수 있다.
+ * 해시는 64비트 해시 두 개를 조합(h1 + i * h2)해서 k 개의 위치를 만든다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long bitSize;
+
+    private final int hashFunctionCount;
+
+    private BloomFilter(long bitSize, int hashFunctionCount) {
+        this.bits = new AtomicLongArray(Math.toIntExact((bitSize + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = (long) bits.length() * Long.SIZE;
+        this.hashFunctionCount = hashFunctionCount;
+    }
+
+    /**
+     * expectedInsertions 개를 넣었을 때 오탐률이 falsePositiveProbability 가 되도록 비트 수와 해시 함수 개수를 정한다.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be in (0, 1): " + falsePositiveProbability);
+        }
+
+        long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int hashFunctionCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bitSize, hashFunctionCount);
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value, 0);
+        long hash2 = hash(value, hash1);
+        for (int i = 0; i < hashFunctionCount; i++) {
+            setBit(index(hash1, hash2, i));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0);
+        long hash2 = hash(value, hash1);
+        for (int i = 0; i < hashFunctionCount; i++) {
+            if (!getBit(index(hash1, hash2, i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctionCount() {
+        return hashFunctionCount;
+    }
+
+    private long index(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, bitSize);
+    }
+
+    private void setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        long word;
+        while (((word = bits.get(wordIndex)) & mask) == 0) {
+            if (bits.compareAndSet(wordIndex, word, word | mask)) {
+                return;
+            }
+        }
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // FNV-1a 로 섞은 뒤 MurmurHash3 의 fmix64 로 비트를 고르게 퍼뜨린다.
+    private static long hash(String value, long seed) {
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
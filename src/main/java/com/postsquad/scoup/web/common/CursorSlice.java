@@ -0,0 +1,41 @@
+package com.postsquad.scoup.web.common;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 키셋 페이지 한 장과 다음 페이지 커서. 마지막 페이지면 nextCursor 는 null 이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorSlice<T> {
+
+    private final List<T> content;
+
+    private final KeysetCursor nextCursor;
+
+    /**
+     * size + 1 개까지 조회한 결과로 페이지를 만든다. 한 개가 더 있으면 다음 페이지가 있는 것으로 본다.
+     */
+    public static <T> CursorSlice<T> of(List<T> fetchedRows, int size, Function<T, KeysetCursor> cursorOf) {
+        if (fetchedRows.size() <= size) {
+            return new CursorSlice<>(fetchedRows, null);
+        }
+
+        List<T> content = fetchedRows.subList(0, size);
+        return new CursorSlice<>(content, cursorOf.apply(content.get(size - 1)));
+    }
+
+    public <R> CursorSlice<R> map(Function<T, R> mapper) {
+        return new CursorSlice<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+    public String encodedNextCursor() {
+        return nextCursor == null ? null : nextCursor.encode();
+    }
+}
@@ -0,0 +1,103 @@
+package com.postsquad.scoup.web.common;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 시작 시각으로 정렬된 배열 위에 만든 불변 interval tree.
+ * 배열의 [lo, hi) 구간 가운데 원소를 루트로 보는 암묵적 균형 트리이며, 각 노드는 서브트리의 최대 종료 시각을 가진다.
+ * 겹침 조건은 start < queryEnd AND end > queryStart 이고, 결과는 입력 순서(시작 시각 기준)를 유지한다.
+ */
+public class IntervalTree<T> {
+
+    private final LocalDateTime[] startDateTimes;
+
+    private final LocalDateTime[] endDateTimes;
+
+    private final LocalDateTime[] maxEndDateTimes;
+
+    private final List<T> values;
+
+    private IntervalTree(List<T> sortedValues, Function<T, LocalDateTime> startDateTime, Function<T, LocalDateTime> endDateTime) {
+        int size = sortedValues.size();
+        this.values = List.copyOf(sortedValues);
+        this.startDateTimes = new LocalDateTime[size];
+        this.endDateTimes = new LocalDateTime[size];
+        this.maxEndDateTimes = new LocalDateTime[size];
+
+        for (int i = 0; i < size; i++) {
+            startDateTimes[i] = startDateTime.apply(values.get(i));
+            endDateTimes[i] = endDateTime.apply(values.get(i));
+        }
+
+        buildMaxEndDateTimes(0, size);
+    }
+
+    /**
+     * 시작 시각 순으로 정렬해 트리를 만든다. 정렬은 안정 정렬이므로 시작 시각이 같으면 입력 순서를 유지한다.
+     */
+    public static <T> IntervalTree<T> of(List<T> values, Function<T, LocalDateTime> startDateTime, Function<T, LocalDateTime> endDateTime) {
+        List<T> sortedValues = new ArrayList<>(values);
+        sortedValues.sort(Comparator.comparing(startDateTime));
+        return new IntervalTree<>(sortedValues, startDateTime, endDateTime);
+    }
+
+    public List<T> findAllOverlapping(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        List<T> overlappingValues = new ArrayList<>();
+        collectOverlapping(0, values.size(), startDateTime, endDateTime, overlappingValues);
+        return overlappingValues;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private LocalDateTime buildMaxEndDateTimes(int lo, int hi) {
+        if (lo >= hi) {
+            return null;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime maxEndDateTime = endDateTimes[mid];
+        maxEndDateTime = later(maxEndDateTime, buildMaxEndDateTimes(lo, mid));
+        maxEndDateTime = later(maxEndDateTime, buildMaxEndDateTimes(mid + 1, hi));
+        maxEndDateTimes[mid] = maxEndDateTime;
+        return maxEndDateTime;
+    }
+
+    private void collectOverlapping(int lo, int hi, LocalDateTime queryStartDateTime, LocalDateTime queryEndDateTime, List<T> overlappingValues) {
+        if (lo >= hi) {
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        // 서브트리에서 가장 늦게 끝나는 구간도 조회 시작 전에 끝나면 겹치는 구간이 없다.
+        if (!maxEndDateTimes[mid].isAfter(queryStartDateTime)) {
+            return;
+        }
+
+        collectOverlapping(lo, mid, queryStartDateTime, queryEndDateTime, overlappingValues);
+
+        // 오른쪽 서브트리는 mid 이후에 시작하므로 mid 가 조회 종료 이후에 시작하면 더 볼 필요가 없다.
+        if (!startDateTimes[mid].isBefore(queryEndDateTime)) {
+            return;
+        }
+
+        if (endDateTimes[mid].isAfter(queryStartDateTime)) {
+            overlappingValues.add(values.get(mid));
+        }
+
+        collectOverlapping(mid + 1, hi, queryStartDateTime, queryEndDateTime, overlappingValues);
+    }
+
+    private static LocalDateTime later(LocalDateTime dateTime, LocalDateTime otherDateTime) {
+        if (otherDateTime == null || dateTime.isAfter(otherDateTime)) {
+            return dateTime;
+        }
+
+        return otherDateTime;
+    }
+}
@@ -0,0 +1,21 @@
+package com.postsquad.scoup.web.common;
+
+public class InvalidCursorException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "Invalid cursor";
+    private final String description;
+
+    public InvalidCursorException(String cursor) {
+        super(DEFAULT_MESSAGE);
+        this.description = "cursor: " + cursor;
+    }
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super(DEFAULT_MESSAGE, cause);
+        this.description = "cursor: " + cursor;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,59 @@
+package com.postsquad.scoup.web.common;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (start_date_time, id) 키셋 페이지네이션의 커서. 마지막으로 내려준 항목의 정렬 키를 담는다.
+ * 클라이언트에는 내용을 알 수 없는 문자열(base64url)로 내려주고, 다음 요청에서 그대로 받는다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@AllArgsConstructor(staticName = "of")
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime startDateTime;
+
+    private final long id;
+
+    public static KeysetCursor decode(String encodedCursor) {
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+            int separatorIndex = decodedCursor.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidCursorException(encodedCursor);
+            }
+
+            return new KeysetCursor(
+                    LocalDateTime.parse(decodedCursor.substring(0, separatorIndex)),
+                    Long.parseLong(decodedCursor.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(encodedCursor, e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString((startDateTime + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * (startDateTime, id) 가 이 커서보다 뒤에 오는지. 메모리에서 seek 조건을 적용할 때 쓴다.
+     */
+    public boolean precedes(LocalDateTime startDateTime, long id) {
+        int comparison = this.startDateTime.compareTo(startDateTime);
+        return comparison < 0 || (comparison == 0 && this.id < id);
+    }
+}
@@ -0,0 +1,65 @@
+package com.postsquad.scoup.web.common;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 큐가 차서 버린 로그 수를 세는 AsyncAppender. neverBlock 이면 큐가 가득 찼을 때 요청 스레드를 막지 않고 로그를 버린다.
+ * 남은 자리를 먼저 확인하면 그 사이에 다른 스레드가 자리를 채울 수 있으므로, 큐에 넣은 결과(offer)로 버린 수를 센다.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    // AsyncAppenderBase 는 큐와 offer 를 감추고 있어서, neverBlock 일 때 넣은 결과를 알려면 큐를 직접 써야 한다.
+    private static final Field BLOCKING_QUEUE_FIELD = ReflectionUtils.findField(AsyncAppenderBase.class, "blockingQueue");
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private BlockingQueue<ILoggingEvent> blockingQueue;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void start() {
+        super.start();
+        if (isStarted() && BLOCKING_QUEUE_FIELD != null) {
+            ReflectionUtils.makeAccessible(BLOCKING_QUEUE_FIELD);
+            blockingQueue = (BlockingQueue<ILoggingEvent>) ReflectionUtils.getField(BLOCKING_QUEUE_FIELD, this);
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent eventObject) {
+        if (!isNeverBlock() || blockingQueue == null) {
+            super.append(eventObject);
+            return;
+        }
+
+        // super.append 와 같은 순서로, 버릴 수 있는 로그를 먼저 거르고 남은 로그만 큐에 넣는다.
+        if (blockingQueue.remainingCapacity() < getDiscardingThreshold() && isDiscardable(eventObject)) {
+            return;
+        }
+        preprocess(eventObject);
+        if (!blockingQueue.offer(eventObject)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    // 남은 자리가 discardingThreshold 아래로 줄었을 때만 불리며, INFO 이하 로그를 버린다.
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            droppedCount.incrementAndGet();
+        }
+        return discardable;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
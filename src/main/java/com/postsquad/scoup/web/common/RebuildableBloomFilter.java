@@ -0,0 +1,60 @@
+package com.postsquad.scoup.web.common;
+
+import java.util.function.Consumer;
+
+/**
+ * DB 에서 주기적으로 다시 만드는 BloomFilter. 삭제나 변경으로 남은 값은 다시 만들 때 정리된다.
+ * 아직 만들지 않았거나 clear 한 뒤에는 모든 값이 있을 수도 있다고 답하므로, 호출하는 쪽은 항상 DB 로 확인하게 된다.
+ * <p>
+ * 다시 만드는 동안 put 된 값은 새 필터에도 넣는다. put 은 next 를 current 보다 먼저 읽으므로,
+ * 커밋 후에 put 한 값은 새 필터의 조회 결과에 포함되거나 next 나 current 를 통해 새 필터에 들어간다.
+ */
+public class RebuildableBloomFilter {
+
+    private final long expectedInsertions;
+
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter current;
+
+    private volatile BloomFilter next;
+
+    public RebuildableBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public boolean mightContain(String value) {
+        BloomFilter bloomFilter = current;
+        return bloomFilter == null || bloomFilter.mightContain(value);
+    }
+
+    public void put(String value) {
+        BloomFilter nextBloomFilter = next;
+        BloomFilter currentBloomFilter = current;
+        if (nextBloomFilter != null) {
+            nextBloomFilter.put(value);
+        }
+        if (currentBloomFilter != null) {
+            currentBloomFilter.put(value);
+        }
+    }
+
+    /**
+     * loader 는 넘겨받은 Consumer 로 현재 DB 의 모든 값을 넣어야 한다. 실패하면 기존 필터를 그대로 쓴다.
+     */
+    public synchronized void rebuild(Consumer<Consumer<String>> loader) {
+        BloomFilter bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveProbability);
+        next = bloomFilter;
+        try {
+            loader.accept(bloomFilter::put);
+            current = bloomFilter;
+        } finally {
+            next = null;
+        }
+    }
+
+    public synchronized void clear() {
+        current = null;
+    }
+}
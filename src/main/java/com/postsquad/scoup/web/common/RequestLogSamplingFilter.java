@@ -0,0 +1,47 @@
+package com.postsquad.scoup.web.common;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 request_id 를 MDC 에 넣고, logging.request-sample-rate 비율로 이 요청의 로그를 남길지 정한다.
+ * 뽑히지 않은 요청의 WARN 미만 로그는 RequestLogSamplingTurboFilter 가 메시지를 만들기 전에 버린다.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class RequestLogSamplingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_KEY = "request_id";
+
+    public static final String SAMPLED_KEY = "sampled";
+
+    private final double sampleRate;
+
+    public RequestLogSamplingFilter(@Value("${logging.request-sample-rate:1.0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        MDC.put(REQUEST_ID_KEY, Long.toHexString(random.nextLong()));
+        MDC.put(SAMPLED_KEY, String.valueOf(random.nextDouble() < sampleRate));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(REQUEST_ID_KEY);
+            MDC.remove(SAMPLED_KEY);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.postsquad.scoup.web.common;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * RequestLogSamplingFilter 가 뽑지 않은 요청의 WARN 미만 로그를 버린다. 요청 밖(스케줄러, 배치 등)의 로그는 건드리지 않는다.
+ */
+public class RequestLogSamplingTurboFilter extends TurboFilter {
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        return "false".equals(MDC.get(RequestLogSamplingFilter.SAMPLED_KEY)) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
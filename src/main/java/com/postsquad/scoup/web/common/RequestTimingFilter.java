@@ -0,0 +1,65 @@
+package com.postsquad.scoup.web.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청마다 RequestTimings 를 모아 Server-Timing 헤더로 내보내고 한 줄 로그로 남긴다.
+ * INFO 로그는 RequestLogSamplingFilter 가 뽑은 요청만 남고, 쿼리 수가 기준을 넘는 요청(N+1 의심)은 WARN 이라 항상 남는다.
+ * JSON 본문이 있는 응답은 TimedMappingJackson2HttpMessageConverter 가 본문을 쓰기 직전에 헤더를 붙인다.
+ */
+@Slf4j
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private final int queryCountWarnThreshold;
+
+    public RequestTimingFilter(int queryCountWarnThreshold) {
+        this.queryCountWarnThreshold = queryCountWarnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings requestTimings = RequestTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+            if (!response.isCommitted() && !response.containsHeader(RequestTimings.SERVER_TIMING_HEADER)) {
+                response.setHeader(RequestTimings.SERVER_TIMING_HEADER, requestTimings.serverTiming());
+            }
+            log(request, response, requestTimings);
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, RequestTimings requestTimings) {
+        boolean tooManyQueries = requestTimings.getQueryCount() >= queryCountWarnThreshold;
+        if (!tooManyQueries && !log.isInfoEnabled()) {
+            return;
+        }
+
+        Object uriPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String message = "request_timing method={} uri={} status={} queries={} db_ms={} mapping_ms={} serialization_ms={} total_ms={}";
+        Object[] arguments = {
+                request.getMethod(),
+                uriPattern == null ? request.getRequestURI() : uriPattern,
+                response.getStatus(),
+                requestTimings.getQueryCount(),
+                String.format("%.1f", requestTimings.dbMillis()),
+                String.format("%.1f", requestTimings.mappingMillis()),
+                String.format("%.1f", requestTimings.serializationMillis()),
+                String.format("%.1f", requestTimings.totalMillis())
+        };
+        if (tooManyQueries) {
+            log.warn(message, arguments);
+        } else {
+            log.info(message, arguments);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.postsquad.scoup.web.common;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 가 감싼 DataSource 에서 statement 가 실행될 때마다 RequestTimings 에 기록한다. batch 실행은 한 번으로 센다.
+ */
+public class RequestTimingQueryListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.queryStarted();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.queryFinished();
+    }
+}
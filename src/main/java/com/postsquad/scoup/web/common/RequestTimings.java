@@ -0,0 +1,108 @@
+package com.postsquad.scoup.web.common;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나를 처리하는 동안 DB, MapStruct 매핑, Jackson 직렬화에 쓴 시간과 실행한 쿼리 수를 모은다.
+ * RequestTimingFilter 가 요청 스레드에 붙여 두므로, 필터 밖이나 다른 스레드에서는 아무것도 기록하지 않는다.
+ * 매핑 중에 지연 로딩이 일어나면 그 쿼리 시간은 db 와 mapping 양쪽에 들어간다.
+ */
+public class RequestTimings {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+
+    private int queryCount;
+
+    private long queryStartNanos;
+
+    private long dbNanos;
+
+    private long mappingNanos;
+
+    private long serializationNanos;
+
+    public static RequestTimings start() {
+        RequestTimings requestTimings = new RequestTimings();
+        CURRENT.set(requestTimings);
+        return requestTimings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static void queryStarted() {
+        RequestTimings requestTimings = CURRENT.get();
+        if (requestTimings != null) {
+            requestTimings.queryStartNanos = System.nanoTime();
+        }
+    }
+
+    public static void queryFinished() {
+        RequestTimings requestTimings = CURRENT.get();
+        if (requestTimings != null) {
+            requestTimings.queryCount++;
+            requestTimings.dbNanos += System.nanoTime() - requestTimings.queryStartNanos;
+        }
+    }
+
+    public static <T> T mapping(Supplier<T> mapping) {
+        RequestTimings requestTimings = CURRENT.get();
+        if (requestTimings == null) {
+            return mapping.get();
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            return mapping.get();
+        } finally {
+            requestTimings.mappingNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    public void recordSerialization(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public double dbMillis() {
+        return toMillis(dbNanos);
+    }
+
+    public double mappingMillis() {
+        return toMillis(mappingNanos);
+    }
+
+    public double serializationMillis() {
+        return toMillis(serializationNanos);
+    }
+
+    public double totalMillis() {
+        return toMillis(System.nanoTime() - startNanos);
+    }
+
+    public String serverTiming() {
+        return String.format(
+                Locale.ROOT,
+                "db;desc=\"%d queries\";dur=%.1f, mapping;dur=%.1f, serialization;dur=%.1f, total;dur=%.1f",
+                queryCount, dbMillis(), mappingMillis(), serializationMillis(), totalMillis()
+        );
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.postsquad.scoup.web.common;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 실행 시간이 기준을 넘은 statement 만 로그로 남긴다. 바인드 파라미터는 값 대신 개수만 남긴다.
+ */
+@Slf4j
+public class SlowQueryLoggingListener implements QueryExecutionListener {
+
+    private final long thresholdMillis;
+
+    public SlowQueryLoggingListener(long thresholdMillis) {
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+
+        String queries = queryInfoList.stream()
+                                      .map(QueryInfo::getQuery)
+                                      .collect(Collectors.joining("; "));
+        log.warn("slow_query elapsed_ms={} batch_size={} success={} query=\"{}\"",
+                 execInfo.getElapsedTime(), execInfo.getBatchSize(), execInfo.isSuccess(), queries);
+    }
+}
@@ -0,0 +1,49 @@
+package com.postsquad.scoup.web.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * 직렬화 시간까지 Server-Timing 헤더에 넣을 수 있도록, 요청 안에서는 본문을 메모리에 먼저 직렬화한 뒤 헤더를 붙이고 내보낸다.
+ */
+public class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        RequestTimings requestTimings = RequestTimings.current();
+        if (requestTimings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        long startNanos = System.nanoTime();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        requestTimings.recordSerialization(System.nanoTime() - startNanos);
+
+        outputMessage.getHeaders().set(RequestTimings.SERVER_TIMING_HEADER, requestTimings.serverTiming());
+        body.writeTo(outputMessage.getBody());
+    }
+}
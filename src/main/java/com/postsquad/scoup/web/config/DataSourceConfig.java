@@ -0,0 +1,60 @@
+package com.postsquad.scoup.web.config;
+
+import com.postsquad.scoup.web.common.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * datasource.replica.jdbc-url 이 있으면 spring.datasource 를 primary, datasource.replica 를 replica 로 두고
+ * 읽기 전용 트랜잭션을 replica 로 보낸다. 없으면 Spring Boot 기본 DataSource 하나만 쓴다.
+ */
+@ConditionalOnProperty(prefix = "datasource.replica", name = "jdbc-url")
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                                   .type(HikariDataSource.class)
+                                   .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replicaDataSource = new HikariDataSource();
+        replicaDataSource.setReadOnly(true);
+        return replicaDataSource;
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        return ReadWriteRoutingDataSource.lazy(primaryDataSource, replicaDataSource);
+    }
+
+    // 기본값(DELAYED_ACQUISITION_AND_HOLD)이면 open-in-view 로 열린 세션이 처음 받은 커넥션을 요청 끝까지 쥐고 있어서
+    // 읽기 전용 트랜잭션 뒤의 쓰기가 replica 로 가게 된다. 트랜잭션마다 커넥션을 돌려주고 다시 고르게 한다.
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingModeCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+}
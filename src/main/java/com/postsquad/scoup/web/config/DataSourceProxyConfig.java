@@ -0,0 +1,38 @@
+package com.postsquad.scoup.web.config;
+
+import com.postsquad.scoup.web.common.RequestTimingQueryListener;
+import com.postsquad.scoup.web.common.SlowQueryLoggingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 쓰는 DataSource 를 datasource-proxy 로 감싸 요청별 쿼리 수/시간(RequestTimings)과 느린 쿼리 로그를 남긴다.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    // 라우팅 DataSource 를 쓰면 primary/replica 도 DataSource 빈이므로, 두 번 세지 않도록 dataSource 만 감싼다.
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(@Value("${logging.slow-sql.threshold-millis}") long slowSqlThresholdMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || !DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create((DataSource) bean)
+                                             .name(beanName)
+                                             .listener(new RequestTimingQueryListener())
+                                             .listener(new SlowQueryLoggingListener(slowSqlThresholdMillis))
+                                             .build();
+            }
+        };
+    }
+}
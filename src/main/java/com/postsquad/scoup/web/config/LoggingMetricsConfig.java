@@ -0,0 +1,40 @@
+package com.postsquad.scoup.web.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.postsquad.scoup.web.common.MeteredAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * logback-spring.xml 의 ASYNC_JSON appender 가 있으면 큐 사용량과 버린 로그 수를 메트릭으로 내보낸다.
+ * 로그 레벨별 건수(logback.events)는 Spring Boot 가 이미 내보낸다.
+ */
+@Configuration
+public class LoggingMetricsConfig {
+
+    private static final String ASYNC_APPENDER_NAME = "ASYNC_JSON";
+
+    @Bean
+    public MeterBinder asyncAppenderMetrics() {
+        return meterRegistry -> {
+            LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+            Object appender = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).getAppender(ASYNC_APPENDER_NAME);
+            if (!(appender instanceof MeteredAsyncAppender)) {
+                return;
+            }
+
+            MeteredAsyncAppender asyncAppender = (MeteredAsyncAppender) appender;
+            Gauge.builder("logging.async.queue.size", asyncAppender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                 .register(meterRegistry);
+            Gauge.builder("logging.async.queue.capacity", asyncAppender, MeteredAsyncAppender::getQueueSize)
+                 .register(meterRegistry);
+            FunctionCounter.builder("logging.async.dropped", asyncAppender, MeteredAsyncAppender::getDroppedCount)
+                           .register(meterRegistry);
+        };
+    }
+}
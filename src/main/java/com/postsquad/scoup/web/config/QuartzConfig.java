@@ -0,0 +1,42 @@
+package com.postsquad.scoup.web.config;
+
+import com.postsquad.scoup.web.schedule.job.ScheduleAutoConfirmationJob;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@ConditionalOnProperty(name = "schedule.auto-confirmation.enabled", havingValue = "true")
+@Configuration
+public class QuartzConfig {
+
+    @Bean
+    public JobDetail scheduleAutoConfirmationJobDetail() {
+        return JobBuilder.newJob(ScheduleAutoConfirmationJob.class)
+                         .withIdentity("scheduleAutoConfirmation")
+                         .storeDurably()
+                         .requestRecovery()
+                         .build();
+    }
+
+    // 서버가 내려가 있던 동안 놓친 실행은 한 번으로 합쳐 바로 실행한다. 한 번의 실행이 밀린 스케줄을 모두 처리하므로 놓친 횟수만큼 다시 돌릴 필요가 없다.
+    @Bean
+    public Trigger scheduleAutoConfirmationTrigger(
+            JobDetail scheduleAutoConfirmationJobDetail,
+            @Value("${schedule.auto-confirmation.interval-seconds}") int intervalSeconds
+    ) {
+        return TriggerBuilder.newTrigger()
+                             .forJob(scheduleAutoConfirmationJobDetail)
+                             .withIdentity("scheduleAutoConfirmationTrigger")
+                             .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                                                                .withIntervalInSeconds(intervalSeconds)
+                                                                .repeatForever()
+                                                                .withMisfireHandlingInstructionNowWithExistingCount())
+                             .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.postsquad.scoup.web.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+import org.quartz.listeners.TriggerListenerSupport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트리거가 원래 실행될 시각보다 얼마나 늦게 실행됐는지를 quartz.job.lag 로 기록한다.
+ */
+public class QuartzJobLagListener extends TriggerListenerSupport {
+
+    private static final String LAG_METRIC_NAME = "quartz.job.lag";
+
+    private final MeterRegistry meterRegistry;
+
+    public QuartzJobLagListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return "jobLag";
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+        if (context.getScheduledFireTime() == null) {
+            return;
+        }
+
+        long lagMillis = Math.max(0, context.getFireTime().getTime() - context.getScheduledFireTime().getTime());
+        Timer.builder(LAG_METRIC_NAME)
+             .tag("job", trigger.getJobKey().getName())
+             .register(meterRegistry)
+             .record(lagMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,49 @@
+package com.postsquad.scoup.web.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Date;
+
+@Configuration
+public class QuartzMetricsConfig {
+
+    @Bean
+    public SchedulerFactoryBeanCustomizer quartzJobLagListenerCustomizer(MeterRegistry meterRegistry) {
+        return schedulerFactoryBean -> schedulerFactoryBean.setGlobalTriggerListeners(new QuartzJobLagListener(meterRegistry));
+    }
+
+    // 실행이 밀려 있는 동안에는 triggerFired 가 불리지 않으므로, 다음 실행 시각이 지난 채로 남아 있는 트리거를 따로 본다.
+    @Bean
+    public MeterBinder quartzTriggerOverdueMetrics(Scheduler scheduler) {
+        return meterRegistry -> Gauge.builder("quartz.trigger.overdue", scheduler, QuartzMetricsConfig::maxOverdueSeconds)
+                                     .baseUnit("seconds")
+                                     .register(meterRegistry);
+    }
+
+    private static double maxOverdueSeconds(Scheduler scheduler) {
+        long now = System.currentTimeMillis();
+        long maxOverdueMillis = 0;
+        try {
+            for (TriggerKey triggerKey : scheduler.getTriggerKeys(GroupMatcher.anyTriggerGroup())) {
+                Trigger trigger = scheduler.getTrigger(triggerKey);
+                Date nextFireTime = trigger == null ? null : trigger.getNextFireTime();
+                if (nextFireTime != null) {
+                    maxOverdueMillis = Math.max(maxOverdueMillis, now - nextFireTime.getTime());
+                }
+            }
+        } catch (SchedulerException schedulerException) {
+            return Double.NaN;
+        }
+        return maxOverdueMillis / 1000.0;
+    }
+}
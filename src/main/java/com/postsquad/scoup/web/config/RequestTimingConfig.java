@@ -0,0 +1,25 @@
+package com.postsquad.scoup.web.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.postsquad.scoup.web.common.RequestTimingFilter;
+import com.postsquad.scoup.web.common.TimedMappingJackson2HttpMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+@ConditionalOnProperty(name = "request-timing.enabled", havingValue = "true")
+@Configuration
+public class RequestTimingConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedMappingJackson2HttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public RequestTimingFilter requestTimingFilter(@Value("${request-timing.query-count-warn-threshold}") int queryCountWarnThreshold) {
+        return new RequestTimingFilter(queryCountWarnThreshold);
+    }
+}
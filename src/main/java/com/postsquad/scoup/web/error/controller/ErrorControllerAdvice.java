@@ -1,5 +1,6 @@
 package com.postsquad.scoup.web.error.controller;
 
+import com.postsquad.scoup.web.common.InvalidCursorException;
 import com.postsquad.scoup.web.error.controller.response.ErrorResponse;
 import com.postsquad.scoup.web.signin.exception.AuthorizationFailedException;
 import org.springframework.http.HttpStatus;
@@ -7,7 +8,9 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.ConstraintViolationException;
 
 @RestControllerAdvice
@@ -29,7 +32,15 @@ public class ErrorControllerAdvice {
 
     @ExceptionHandler(AuthorizationFailedException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
-    public ErrorResponse authenticationFailedExceptionHandler(AuthorizationFailedException authorizationFailedException) {
+    public ErrorResponse authenticationFailedExceptionHandler(AuthorizationFailedException authorizationFailedException, HttpServletRequest request) {
+        // 인증은 핸들러 매핑 뒤에 하므로 text/event-stream 만 produces 하는 요청이면 오류 응답을 JSON 으로 쓰도록 풀어 준다.
+        request.removeAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
         return ErrorResponse.of(HttpStatus.UNAUTHORIZED, authorizationFailedException.getMessage(), authorizationFailedException.description());
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse invalidCursorExceptionHandler(InvalidCursorException invalidCursorException) {
+        return ErrorResponse.of(HttpStatus.BAD_REQUEST, invalidCursorException.getMessage(), invalidCursorException.getDescription());
+    }
 }
@@ -9,9 +9,10 @@ import com.postsquad.scoup.web.group.controller.request.GroupValidationRequest;
 import com.postsquad.scoup.web.group.controller.response.GroupReadOneResponse;
 import com.postsquad.scoup.web.group.controller.response.GroupValidationResponse;
 import com.postsquad.scoup.web.group.exception.GroupCreationFailedException;
+import com.postsquad.scoup.web.group.exception.GroupNotFoundException;
 import com.postsquad.scoup.web.group.service.GroupService;
+import com.postsquad.scoup.web.signin.domain.SignInUser;
 import com.postsquad.scoup.web.user.LoggedInUser;
-import com.postsquad.scoup.web.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -27,20 +28,19 @@ public class GroupController {
 
     @GetMapping("/{groupId}")
     public GroupReadOneResponse readOne(@PathVariable long groupId) {
-        // TODO: GroupService.readOne
-        return GroupReadOneResponse.builder()
-                                   .id(1L)
-                                   .image("image")
-                                   .name("name")
-                                   .description("description")
-                                   .build();
+        return groupService.readOne(groupId);
     }
 
+    @ExceptionHandler(GroupNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse groupNotFoundExceptionHandler(GroupNotFoundException groupNotFoundException) {
+        return ErrorResponse.of(HttpStatus.NOT_FOUND, groupNotFoundException.getMessage());
+    }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public DefaultPostResponse create(@RequestBody @Valid GroupCreationRequest groupCreationRequest, @LoggedInUser User user) {
-        return groupService.create(groupCreationRequest, user);
+    public DefaultPostResponse create(@RequestBody @Valid GroupCreationRequest groupCreationRequest, @LoggedInUser SignInUser signInUser) {
+        return groupService.create(groupCreationRequest, signInUser);
     }
 
     @ExceptionHandler(GroupCreationFailedException.class)
@@ -51,8 +51,8 @@ public class GroupController {
 
     @PutMapping("/{groupId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void update(@PathVariable Long groupId, @RequestBody @Valid GroupModificationRequest groupModificationRequest, @LoggedInUser User user) {
-        groupService.update(groupId, groupModificationRequest, user);
+    public void update(@PathVariable Long groupId, @RequestBody @Valid GroupModificationRequest groupModificationRequest, @LoggedInUser SignInUser signInUser) {
+        groupService.update(groupId, groupModificationRequest, signInUser);
     }
 
     @DeleteMapping("/{groupId}")
@@ -63,9 +63,7 @@ public class GroupController {
 
     @GetMapping("/validate/group-name")
     public GroupValidationResponse validateGroupName(@QueryParam @Valid GroupValidationRequest groupValidationRequest) {
-        return GroupValidationResponse.builder()
-                                      .isExistingName(true)
-                                      .build();
+        return groupService.validateGroupName(groupValidationRequest);
     }
 
     @DeleteMapping("/{groupId}/leave")
@@ -1,45 +1,58 @@
 package com.postsquad.scoup.web.group.controller;
 
 import com.postsquad.scoup.web.common.DefaultPostResponse;
+import com.postsquad.scoup.web.error.controller.response.ErrorResponse;
 import com.postsquad.scoup.web.group.controller.request.GroupMemberCreationRequest;
 import com.postsquad.scoup.web.group.controller.request.GroupMemberRoleModificationRequest;
-import com.postsquad.scoup.web.group.controller.response.GroupMemberReadAllResponse;
 import com.postsquad.scoup.web.group.controller.response.GroupMemberReadAllResponses;
+import com.postsquad.scoup.web.group.exception.GroupMemberCreationFailedException;
+import com.postsquad.scoup.web.group.exception.GroupMemberNotFoundException;
+import com.postsquad.scoup.web.group.exception.GroupNotFoundException;
+import com.postsquad.scoup.web.group.service.GroupService;
+import com.postsquad.scoup.web.signin.domain.SignInUser;
+import com.postsquad.scoup.web.user.LoggedInUser;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
+@RequiredArgsConstructor
 @RestController
 public class GroupMemberController {
 
+    private final GroupService groupService;
+
     @GetMapping("/groups/{groupId}/members")
     public GroupMemberReadAllResponses readAll(@PathVariable long groupId) {
-        return GroupMemberReadAllResponses.from(List.of(
-                GroupMemberReadAllResponse.builder()
-                                          .userId(1L)
-                                          .nickname("nickname")
-                                          .email("email")
-                                          .avatarUrl("avatarUrl")
-                                          .build()
-        ));
+        return groupService.readMembers(groupId);
     }
 
     @PostMapping("/groups/{groupId}/members/email")
     @ResponseStatus(HttpStatus.CREATED)
-    public DefaultPostResponse create(@PathVariable long groupId, @RequestBody GroupMemberCreationRequest groupMemberCreationRequest) {
-        return DefaultPostResponse.builder()
-                                  .id(1L)
-                                  .build();
+    public DefaultPostResponse create(@PathVariable long groupId, @RequestBody GroupMemberCreationRequest groupMemberCreationRequest, @LoggedInUser SignInUser signInUser) {
+        return groupService.addMember(groupId, groupMemberCreationRequest, signInUser);
     }
 
     @PatchMapping("/groups/{groupId}/members/{memberId}/role")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void modifyRole(@PathVariable long groupId, @PathVariable long memberId, @RequestBody GroupMemberRoleModificationRequest groupMemberRoleModificationRequest) {
+    public void modifyRole(@PathVariable long groupId, @PathVariable long memberId, @RequestBody GroupMemberRoleModificationRequest groupMemberRoleModificationRequest, @LoggedInUser SignInUser signInUser) {
+        groupService.modifyMemberRole(groupId, memberId, groupMemberRoleModificationRequest, signInUser);
     }
 
     @DeleteMapping("/groups/{groupId}/members/{memberId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable long groupId, @PathVariable long memberId) {
+    public void delete(@PathVariable long groupId, @PathVariable long memberId, @LoggedInUser SignInUser signInUser) {
+        groupService.deleteMember(groupId, memberId, signInUser);
+    }
+
+    @ExceptionHandler({GroupNotFoundException.class, GroupMemberNotFoundException.class})
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse notFoundExceptionHandler(RuntimeException notFoundException) {
+        return ErrorResponse.of(HttpStatus.NOT_FOUND, notFoundException.getMessage());
+    }
+
+    @ExceptionHandler(GroupMemberCreationFailedException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse groupMemberCreationFailedExceptionHandler(GroupMemberCreationFailedException groupMemberCreationFailedException) {
+        return ErrorResponse.of(HttpStatus.BAD_REQUEST, groupMemberCreationFailedException.getMessage(), groupMemberCreationFailedException.getDescription());
     }
 }
@@ -10,4 +10,8 @@ public class GroupValidationResponse {
 
     @Builder.Default
     private Boolean isExistingName = false;
+
+    // false 면 DB 를 보지 않고 Bloom filter 로만 판단한 "아마 사용 가능" 이다. 다른 인스턴스에서 방금 만들었을 수 있다.
+    @Builder.Default
+    private Boolean isDefinite = true;
 }
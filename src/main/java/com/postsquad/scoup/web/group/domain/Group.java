@@ -61,6 +61,10 @@ public class Group extends BaseEntity {
         return this.owner.equals(user);
     }
 
+    public boolean verifyOwner(long userId) {
+        return this.owner.getId() == userId;
+    }
+
     public void addSchedule(Schedule schedule) {
         this.schedules.add(schedule);
         if (schedule.getGroup() != this) {
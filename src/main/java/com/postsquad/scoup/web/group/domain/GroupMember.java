@@ -0,0 +1,48 @@
+package com.postsquad.scoup.web.group.domain;
+
+import com.postsquad.scoup.web.common.BaseEntity;
+import com.postsquad.scoup.web.user.domain.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 그룹에 초대된 사용자. 그룹 소유자는 Group.owner 로 관리하므로 여기에 들어가지 않는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"group_id", "user_id"}, name = "UK_GROUP_MEMBER_GROUP_USER"),
+})
+@Entity
+public class GroupMember extends BaseEntity {
+
+    public static final String DEFAULT_ROLE = "member";
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "group_id")
+    private Group group;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(length = 20, nullable = false)
+    private String role;
+
+    protected GroupMember(Group group, User user, String role) {
+        this.group = group;
+        this.user = user;
+        this.role = role;
+    }
+
+    public static GroupMember of(Group group, User user) {
+        return new GroupMember(group, user, DEFAULT_ROLE);
+    }
+
+    public void modifyRole(String role) {
+        this.role = role;
+    }
+}
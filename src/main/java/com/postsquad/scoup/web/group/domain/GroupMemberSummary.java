@@ -0,0 +1,24 @@
+package com.postsquad.scoup.web.group.domain;
+
+import com.postsquad.scoup.web.user.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor(staticName = "of")
+public class GroupMemberSummary {
+
+    private final long userId;
+
+    private final String nickname;
+
+    private final String email;
+
+    private final String avatarUrl;
+
+    public static GroupMemberSummary from(User user) {
+        return GroupMemberSummary.of(user.getId(), user.getNickname(), user.getEmail(), user.getAvatarUrl());
+    }
+}
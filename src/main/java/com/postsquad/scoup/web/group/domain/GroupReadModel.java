@@ -0,0 +1,42 @@
+package com.postsquad.scoup.web.group.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 그룹 조회 화면에서 쓰는 그룹 정보, 소유자, 멤버 요약을 한 번에 담는 읽기 전용 모델. 캐시에 그대로 보관하므로 변경할 수 없어야 한다.
+ * 멤버 목록은 소유자가 맨 앞에 오고, 그 뒤로 그룹에 추가된 순서대로 온다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GroupReadModel {
+
+    private final long id;
+
+    private final String name;
+
+    private final String description;
+
+    private final GroupMemberSummary owner;
+
+    private final List<GroupMemberSummary> members;
+
+    public static GroupReadModel from(Group group, List<GroupMember> groupMembers) {
+        GroupMemberSummary owner = group.getOwner() == null ? null : GroupMemberSummary.from(group.getOwner());
+        List<GroupMemberSummary> members = new ArrayList<>(groupMembers.size() + 1);
+        if (owner != null) {
+            members.add(owner);
+        }
+        for (GroupMember groupMember : groupMembers) {
+            members.add(GroupMemberSummary.from(groupMember.getUser()));
+        }
+        return new GroupReadModel(group.getId(), group.getName(), group.getDescription(), owner, Collections.unmodifiableList(members));
+    }
+}
@@ -0,0 +1,16 @@
+package com.postsquad.scoup.web.group.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 그룹 정보나 멤버 구성이 바뀌거나 그룹이 삭제되었을 때 발행한다. 그룹 조회 캐시는 이 이벤트로 무효화한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(staticName = "of")
+public class GroupChangedEvent {
+
+    private final long groupId;
+}
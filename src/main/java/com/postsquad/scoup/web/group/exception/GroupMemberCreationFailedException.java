@@ -0,0 +1,17 @@
+package com.postsquad.scoup.web.group.exception;
+
+public class GroupMemberCreationFailedException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "Failed to add group member";
+
+    private final String description;
+
+    public GroupMemberCreationFailedException(String message) {
+        super(DEFAULT_MESSAGE);
+        description = message;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,8 @@
+package com.postsquad.scoup.web.group.exception;
+
+public class GroupMemberNotFoundException extends RuntimeException {
+
+    public GroupMemberNotFoundException(Long groupId, Long userId) {
+        super("User with id '" + userId + "' is not a member of group with id '" + groupId + "'");
+    }
+}
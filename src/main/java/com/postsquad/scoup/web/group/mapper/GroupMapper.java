@@ -1,12 +1,18 @@
 package com.postsquad.scoup.web.group.mapper;
 
 import com.postsquad.scoup.web.group.controller.request.GroupCreationRequest;
+import com.postsquad.scoup.web.group.controller.response.GroupMemberReadAllResponse;
+import com.postsquad.scoup.web.group.controller.response.GroupReadOneResponse;
 import com.postsquad.scoup.web.group.domain.Group;
+import com.postsquad.scoup.web.group.domain.GroupMemberSummary;
+import com.postsquad.scoup.web.group.domain.GroupReadModel;
 import com.postsquad.scoup.web.user.domain.User;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+
 @Mapper
 public interface GroupMapper {
 
@@ -14,4 +20,11 @@ public interface GroupMapper {
 
     @Mapping(target = "owner", source = "owner")
     Group map(GroupCreationRequest groupCreationRequest, User owner);
+
+    @Mapping(target = "image", ignore = true)
+    GroupReadOneResponse map(GroupReadModel groupReadModel);
+
+    GroupMemberReadAllResponse map(GroupMemberSummary groupMemberSummary);
+
+    List<GroupMemberReadAllResponse> map(List<GroupMemberSummary> groupMemberSummaries);
 }
@@ -0,0 +1,22 @@
+package com.postsquad.scoup.web.group.repository;
+
+import com.postsquad.scoup.web.group.domain.GroupMember;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GroupMemberRepository extends CrudRepository<GroupMember, Long> {
+
+    @Query("SELECT gm FROM GroupMember gm " +
+           "JOIN FETCH gm.user " +
+           "WHERE gm.group.id = :groupId " +
+           "ORDER BY gm.id")
+    List<GroupMember> findAllWithUserByGroupId(@Param("groupId") long groupId);
+
+    Optional<GroupMember> findByGroupIdAndUserId(long groupId, long userId);
+
+    boolean existsByGroupIdAndUserId(long groupId, long userId);
+}
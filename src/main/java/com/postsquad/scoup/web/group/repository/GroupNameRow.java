@@ -0,0 +1,16 @@
+package com.postsquad.scoup.web.group.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 id 와 이름만 담은 한 행. Bloom filter 를 다시 만들 때 id 순으로 나눠 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class GroupNameRow {
+
+    private final Long id;
+
+    private final String name;
+}
@@ -1,9 +1,20 @@
 package com.postsquad.scoup.web.group.repository;
 
 import com.postsquad.scoup.web.group.domain.Group;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface GroupRepository extends CrudRepository<Group, Long> {
 
     boolean existsByName(String name);
+
+    @Query("SELECT new com.postsquad.scoup.web.group.repository.GroupNameRow(g.id, g.name) " +
+           "FROM Group g " +
+           "WHERE g.id > :id " +
+           "ORDER BY g.id")
+    List<GroupNameRow> findNamesAfter(@Param("id") long id, Pageable pageable);
 }
@@ -0,0 +1,70 @@
+package com.postsquad.scoup.web.group.service;
+
+import com.postsquad.scoup.web.common.RebuildableBloomFilter;
+import com.postsquad.scoup.web.group.repository.GroupNameRow;
+import com.postsquad.scoup.web.group.repository.GroupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 사용 중인 그룹 이름의 Bloom filter. 애플리케이션이 뜰 때와 주기적으로 DB 에서 다시 만든다.
+ * 그룹 생성, 수정은 DB 로 중복을 확인하고, 이 필터는 그룹 이름 중복 확인 API 에만 쓴다.
+ */
+@Component
+public class GroupNameBloomFilter {
+
+    private final GroupRepository groupRepository;
+
+    private final int rebuildBatchSize;
+
+    private final RebuildableBloomFilter names;
+
+    public GroupNameBloomFilter(
+            GroupRepository groupRepository,
+            @Value("${group.bloom-filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${group.bloom-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${group.bloom-filter.rebuild-batch-size:1000}") int rebuildBatchSize
+    ) {
+        this.groupRepository = groupRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.names = new RebuildableBloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    public boolean mightContain(String name) {
+        return names.mightContain(name);
+    }
+
+    public void put(String name) {
+        names.put(name);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${group.bloom-filter.rebuild-interval-millis:3600000}",
+               fixedDelayString = "${group.bloom-filter.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+        names.rebuild(this::load);
+    }
+
+    public void clear() {
+        names.clear();
+    }
+
+    private void load(Consumer<String> put) {
+        long lastId = 0;
+        List<GroupNameRow> rows;
+        do {
+            rows = groupRepository.findNamesAfter(lastId, PageRequest.of(0, rebuildBatchSize));
+            for (GroupNameRow row : rows) {
+                put.accept(row.getName());
+                lastId = row.getId();
+            }
+        } while (rows.size() == rebuildBatchSize);
+    }
+}
@@ -0,0 +1,78 @@
+package com.postsquad.scoup.web.group.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.postsquad.scoup.web.group.domain.GroupReadModel;
+import com.postsquad.scoup.web.group.event.GroupChangedEvent;
+import com.postsquad.scoup.web.group.exception.GroupNotFoundException;
+import com.postsquad.scoup.web.group.repository.GroupMemberRepository;
+import com.postsquad.scoup.web.group.repository.GroupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 그룹 조회와 멤버 목록 조회에 쓰는 GroupReadModel 을 groupId 기준으로 캐싱한다.
+ * 크기와 TTL 로 제한되며, 그룹 정보나 멤버가 바뀌면(GroupChangedEvent) 커밋 후에 무효화한다.
+ * 적중/실패 횟수는 cache.gets{cache="group.read-model"} 메트릭으로 확인한다.
+ */
+@Component
+public class GroupReadModelCache {
+
+    private static final String CACHE_NAME = "group.read-model";
+
+    private final GroupRepository groupRepository;
+
+    private final GroupMemberRepository groupMemberRepository;
+
+    private final Cache<Long, GroupReadModel> groups;
+
+    public GroupReadModelCache(
+            GroupRepository groupRepository,
+            GroupMemberRepository groupMemberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${group.read-model-cache.maximum-size:10000}") long maximumSize,
+            @Value("${group.read-model-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds
+    ) {
+        this.groupRepository = groupRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.groups = Caffeine.newBuilder()
+                              .maximumSize(maximumSize)
+                              .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                              .recordStats()
+                              .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, groups, CACHE_NAME);
+    }
+
+    public GroupReadModel get(long groupId) {
+        GroupReadModel groupReadModel = groups.get(groupId, this::load);
+        if (groupReadModel == null) {
+            throw new GroupNotFoundException(groupId);
+        }
+
+        return groupReadModel;
+    }
+
+    public void evict(long groupId) {
+        groups.invalidate(groupId);
+    }
+
+    public void evictAll() {
+        groups.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupChanged(GroupChangedEvent event) {
+        evict(event.getGroupId());
+    }
+
+    private GroupReadModel load(long groupId) {
+        return groupRepository.findById(groupId)
+                              .map(group -> GroupReadModel.from(group, groupMemberRepository.findAllWithUserByGroupId(groupId)))
+                              .orElse(null);
+    }
+}
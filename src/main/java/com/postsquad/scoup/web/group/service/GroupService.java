@@ -1,17 +1,35 @@
 package com.postsquad.scoup.web.group.service;
 
 import com.postsquad.scoup.web.common.DefaultPostResponse;
+import com.postsquad.scoup.web.common.RequestTimings;
 import com.postsquad.scoup.web.group.controller.request.GroupCreationRequest;
+import com.postsquad.scoup.web.group.controller.request.GroupMemberCreationRequest;
+import com.postsquad.scoup.web.group.controller.request.GroupMemberRoleModificationRequest;
 import com.postsquad.scoup.web.group.controller.request.GroupModificationRequest;
+import com.postsquad.scoup.web.group.controller.request.GroupValidationRequest;
+import com.postsquad.scoup.web.group.controller.response.GroupMemberReadAllResponses;
+import com.postsquad.scoup.web.group.controller.response.GroupReadOneResponse;
+import com.postsquad.scoup.web.group.controller.response.GroupValidationResponse;
 import com.postsquad.scoup.web.group.domain.Group;
+import com.postsquad.scoup.web.group.domain.GroupMember;
+import com.postsquad.scoup.web.group.domain.GroupReadModel;
+import com.postsquad.scoup.web.group.event.GroupChangedEvent;
+import com.postsquad.scoup.web.group.exception.GroupMemberCreationFailedException;
+import com.postsquad.scoup.web.group.exception.GroupMemberNotFoundException;
 import com.postsquad.scoup.web.group.exception.GroupNameAlreadyExistException;
 import com.postsquad.scoup.web.group.exception.GroupNotFoundException;
 import com.postsquad.scoup.web.group.mapper.GroupMapper;
+import com.postsquad.scoup.web.group.repository.GroupMemberRepository;
 import com.postsquad.scoup.web.group.repository.GroupRepository;
+import com.postsquad.scoup.web.signin.domain.SignInUser;
 import com.postsquad.scoup.web.signin.exception.UnauthorizedUserException;
+import com.postsquad.scoup.web.signin.exception.UserNotFoundException;
 import com.postsquad.scoup.web.user.domain.User;
+import com.postsquad.scoup.web.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
@@ -19,27 +37,105 @@ public class GroupService {
 
     private final GroupRepository groupRepository;
 
-    public DefaultPostResponse create(GroupCreationRequest groupCreationRequest, User user) {
+    private final GroupMemberRepository groupMemberRepository;
+
+    private final UserRepository userRepository;
+
+    private final GroupReadModelCache groupReadModelCache;
+
+    private final GroupNameBloomFilter groupNameBloomFilter;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public GroupReadOneResponse readOne(long groupId) {
+        GroupReadModel groupReadModel = groupReadModelCache.get(groupId);
+        return RequestTimings.mapping(() -> GroupMapper.INSTANCE.map(groupReadModel));
+    }
+
+    public GroupMemberReadAllResponses readMembers(long groupId) {
+        GroupReadModel groupReadModel = groupReadModelCache.get(groupId);
+        return GroupMemberReadAllResponses.from(RequestTimings.mapping(() -> GroupMapper.INSTANCE.map(groupReadModel.getMembers())));
+    }
+
+    @Transactional(readOnly = true)
+    public GroupValidationResponse validateGroupName(GroupValidationRequest groupValidationRequest) {
+        String groupName = groupValidationRequest.getGroupName();
+        // Bloom filter 에 없으면 DB 를 조회하지 않는다. 다른 인스턴스에서 만든 이름은 빠져 있을 수 있으므로 "아마 사용 가능"으로 답한다.
+        if (!groupNameBloomFilter.mightContain(groupName)) {
+            return GroupValidationResponse.builder().isExistingName(false).isDefinite(false).build();
+        }
+        return GroupValidationResponse.builder().isExistingName(groupRepository.existsByName(groupName)).build();
+    }
+
+    public DefaultPostResponse create(GroupCreationRequest groupCreationRequest, SignInUser signInUser) {
 
         if (groupRepository.existsByName(groupCreationRequest.getName())) {
             throw new GroupNameAlreadyExistException(groupCreationRequest.getName());
         }
 
-        Group group = GroupMapper.INSTANCE.map(groupCreationRequest, user);
+        User owner = userRepository.findById(signInUser.getId())
+                                   .orElseThrow(() -> new UserNotFoundException(signInUser.getId()));
+        Group group = GroupMapper.INSTANCE.map(groupCreationRequest, owner);
+
+        Long groupId = groupRepository.save(group).getId();
+        groupNameBloomFilter.put(group.getName());
 
-        return DefaultPostResponse.builder().id(groupRepository.save(group).getId()).build();
+        return DefaultPostResponse.builder().id(groupId).build();
     }
 
-    public Long update(Long groupId, GroupModificationRequest groupModificationRequest, User user) {
+    public Long update(Long groupId, GroupModificationRequest groupModificationRequest, SignInUser signInUser) {
 
         if (groupRepository.existsByName(groupModificationRequest.getName())) {
             throw new GroupNameAlreadyExistException(groupModificationRequest.getName());
         }
 
+        Group group = findOwnedGroup(groupId, signInUser);
+        Long updatedGroupId = groupRepository.save(group.update(groupModificationRequest)).getId();
+        groupNameBloomFilter.put(group.getName());
+        applicationEventPublisher.publishEvent(GroupChangedEvent.of(groupId));
+        return updatedGroupId;
+    }
+
+    @Transactional
+    public DefaultPostResponse addMember(long groupId, GroupMemberCreationRequest groupMemberCreationRequest, SignInUser signInUser) {
+        Group group = findOwnedGroup(groupId, signInUser);
+        String email = groupMemberCreationRequest.getEmail();
+        User member = userRepository.findByEmail(email)
+                                    .orElseThrow(() -> new GroupMemberCreationFailedException("User '" + email + "' does not exist"));
+        if (group.verifyOwner(member) || groupMemberRepository.existsByGroupIdAndUserId(groupId, member.getId())) {
+            throw new GroupMemberCreationFailedException("User '" + email + "' is already a member of the group");
+        }
+
+        GroupMember groupMember = groupMemberRepository.save(GroupMember.of(group, member));
+        applicationEventPublisher.publishEvent(GroupChangedEvent.of(groupId));
+        return DefaultPostResponse.from(groupMember);
+    }
+
+    @Transactional
+    public void modifyMemberRole(long groupId, long memberId, GroupMemberRoleModificationRequest groupMemberRoleModificationRequest, SignInUser signInUser) {
+        findOwnedGroup(groupId, signInUser);
+        findMember(groupId, memberId).modifyRole(groupMemberRoleModificationRequest.getRole());
+        applicationEventPublisher.publishEvent(GroupChangedEvent.of(groupId));
+    }
+
+    @Transactional
+    public void deleteMember(long groupId, long memberId, SignInUser signInUser) {
+        findOwnedGroup(groupId, signInUser);
+        groupMemberRepository.delete(findMember(groupId, memberId));
+        applicationEventPublisher.publishEvent(GroupChangedEvent.of(groupId));
+    }
+
+    private GroupMember findMember(long groupId, long memberId) {
+        return groupMemberRepository.findByGroupIdAndUserId(groupId, memberId)
+                                    .orElseThrow(() -> new GroupMemberNotFoundException(groupId, memberId));
+    }
+
+    private Group findOwnedGroup(Long groupId, SignInUser signInUser) {
         Group group = groupRepository.findById(groupId).orElseThrow(() -> new GroupNotFoundException(groupId));
-        if (!group.verifyOwner(user)) {
+        if (!group.verifyOwner(signInUser.getId())) {
             throw new UnauthorizedUserException();
         }
-        return groupRepository.save(group.update(groupModificationRequest)).getId();
+
+        return group;
     }
 }
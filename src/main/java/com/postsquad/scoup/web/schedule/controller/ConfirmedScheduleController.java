@@ -1,15 +1,21 @@
 package com.postsquad.scoup.web.schedule.controller;
 
+import com.postsquad.scoup.web.common.QueryParam;
 import com.postsquad.scoup.web.schedule.controller.request.ConfirmedSchedulePeriodReadAllRequest;
+import com.postsquad.scoup.web.schedule.controller.request.ConfirmedScheduleReadAllRequest;
 import com.postsquad.scoup.web.schedule.controller.response.ConfirmedSchedulePeriodReadAllResponse;
 import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleReadAllResponses;
 import com.postsquad.scoup.web.schedule.service.ConfirmedScheduleService;
+import com.postsquad.scoup.web.schedule.service.ScheduleExportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
+import javax.validation.Valid;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -18,18 +24,23 @@ public class ConfirmedScheduleController {
 
     private final ConfirmedScheduleService confirmedScheduleService;
 
+    private final ScheduleExportService scheduleExportService;
+
     @GetMapping("/groups/{groupId}/confirmed-schedules")
-    public ConfirmedScheduleReadAllResponses readConfirmedSchedules(@PathVariable Long groupId) {
-        return confirmedScheduleService.readAll(groupId);
+    public ConfirmedScheduleReadAllResponses readConfirmedSchedules(@PathVariable Long groupId, @QueryParam @Valid ConfirmedScheduleReadAllRequest confirmedScheduleReadAllRequest) {
+        return confirmedScheduleService.readAll(groupId, confirmedScheduleReadAllRequest);
+    }
+
+    // 페이지 없이 전체를 한 건씩 써 내려가는 내보내기용 조회
+    @GetMapping("/groups/{groupId}/confirmed-schedules/stream")
+    public ResponseEntity<StreamingResponseBody> streamConfirmedSchedules(@PathVariable long groupId) {
+        return ResponseEntity.ok()
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(outputStream -> scheduleExportService.writeConfirmedSchedules(groupId, outputStream));
     }
 
     @GetMapping("/groups/{groupId}/existing-schedules")
-    public List<ConfirmedSchedulePeriodReadAllResponse> readConfirmedSchedulePeriods(@PathVariable Long groupId, ConfirmedSchedulePeriodReadAllRequest confirmedSchedulePeriodReadAllRequest) {
-        return List.of(
-                ConfirmedSchedulePeriodReadAllResponse.builder()
-                                                      .startDateTime(LocalDateTime.of(2021, 11, 25, 0, 0))
-                                                      .endDateTime(LocalDateTime.of(2021, 11, 26, 0, 0))
-                                                      .build()
-        );
+    public List<ConfirmedSchedulePeriodReadAllResponse> readConfirmedSchedulePeriods(@PathVariable long groupId, @QueryParam @Valid ConfirmedSchedulePeriodReadAllRequest confirmedSchedulePeriodReadAllRequest) {
+        return confirmedScheduleService.readAllPeriods(groupId, confirmedSchedulePeriodReadAllRequest);
     }
 }
@@ -6,9 +6,15 @@ import com.postsquad.scoup.web.schedule.controller.request.ScheduleCandidateCrea
 import com.postsquad.scoup.web.schedule.controller.request.ScheduleCandidateReadRequest;
 import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateReadAllResponses;
 import com.postsquad.scoup.web.schedule.service.ScheduleCandidateService;
+import com.postsquad.scoup.web.schedule.service.ScheduleExportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.validation.Valid;
 
 @RequiredArgsConstructor
 @RestController
@@ -16,11 +22,21 @@ public class ScheduleCandidateController {
 
     private final ScheduleCandidateService scheduleCandidateService;
 
+    private final ScheduleExportService scheduleExportService;
+
     @GetMapping("/groups/{groupId}/schedule-candidates")
-    public ScheduleCandidateReadAllResponses readAll(@PathVariable long groupId, @QueryParam ScheduleCandidateReadRequest givenScheduleCandidateReadRequest) {
+    public ScheduleCandidateReadAllResponses readAll(@PathVariable long groupId, @QueryParam @Valid ScheduleCandidateReadRequest givenScheduleCandidateReadRequest) {
         return scheduleCandidateService.readAll(groupId, givenScheduleCandidateReadRequest);
     }
 
+    // 페이지 없이 전체를 한 건씩 써 내려가는 내보내기용 조회
+    @GetMapping("/groups/{groupId}/schedule-candidates/stream")
+    public ResponseEntity<StreamingResponseBody> stream(@PathVariable long groupId, @QueryParam @Valid ScheduleCandidateReadRequest givenScheduleCandidateReadRequest) {
+        return ResponseEntity.ok()
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .body(outputStream -> scheduleExportService.writeScheduleCandidates(groupId, givenScheduleCandidateReadRequest, outputStream));
+    }
+
     @PostMapping("/groups/{groupId}/schedules/{scheduleId}/candidates")
     @ResponseStatus(HttpStatus.CREATED)
     public DefaultPostResponse create(@PathVariable long groupId, @PathVariable long scheduleId, @RequestBody ScheduleCandidateCreationRequest scheduleCandidateCreationRequest) {
@@ -1,6 +1,7 @@
 package com.postsquad.scoup.web.schedule.controller;
 
 import com.postsquad.scoup.web.common.DefaultPostResponse;
+import com.postsquad.scoup.web.error.controller.response.ErrorResponse;
 import com.postsquad.scoup.web.schedule.controller.request.ScheduleConfirmationRequest;
 import com.postsquad.scoup.web.schedule.controller.request.ScheduleCreationRequest;
 import com.postsquad.scoup.web.schedule.controller.request.ScheduleModificationRequest;
@@ -8,6 +9,11 @@ import com.postsquad.scoup.web.schedule.controller.response.ConfirmedParticipant
 import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleResponseForReadOneSchedule;
 import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateResponseForReadOneSchedule;
 import com.postsquad.scoup.web.schedule.controller.response.ScheduleReadOneResponse;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleRecommendationResponse;
+import com.postsquad.scoup.web.schedule.exception.ScheduleAlreadyConfirmedException;
+import com.postsquad.scoup.web.schedule.exception.ScheduleCandidateNotFoundException;
+import com.postsquad.scoup.web.schedule.exception.ScheduleNotFoundException;
+import com.postsquad.scoup.web.schedule.service.ScheduleConfirmationService;
 import com.postsquad.scoup.web.schedule.service.ScheduleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -23,6 +29,8 @@ public class ScheduleController {
 
     private final ScheduleService scheduleService;
 
+    private final ScheduleConfirmationService scheduleConfirmationService;
+
     @GetMapping("/groups/{groupId}/schedules/{scheduleId}")
     public ScheduleReadOneResponse readOne(@PathVariable long groupId, @PathVariable long scheduleId) {
         return scheduleService.readOne(scheduleId);
@@ -46,6 +54,30 @@ public class ScheduleController {
 
     @PatchMapping("/groups/{groupId}/schedules/{scheduleId}/confirm")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void confirmSchedule(@PathVariable long groupId, @PathVariable long scheduleId, @RequestBody ScheduleConfirmationRequest scheduleConfirmationRequest) {
+    public void confirmSchedule(@PathVariable long groupId, @PathVariable long scheduleId, @Valid @RequestBody ScheduleConfirmationRequest scheduleConfirmationRequest) {
+        scheduleConfirmationService.confirm(groupId, scheduleId, scheduleConfirmationRequest);
+    }
+
+    @GetMapping("/groups/{groupId}/schedules/{scheduleId}/recommendations")
+    public List<ScheduleRecommendationResponse> recommend(@PathVariable long groupId, @PathVariable long scheduleId) {
+        return scheduleConfirmationService.recommend(groupId, scheduleId);
+    }
+
+    @ExceptionHandler(ScheduleNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse scheduleNotFoundExceptionHandler(ScheduleNotFoundException scheduleNotFoundException) {
+        return ErrorResponse.of(HttpStatus.NOT_FOUND, scheduleNotFoundException.getMessage());
+    }
+
+    @ExceptionHandler(ScheduleAlreadyConfirmedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse scheduleAlreadyConfirmedExceptionHandler(ScheduleAlreadyConfirmedException scheduleAlreadyConfirmedException) {
+        return ErrorResponse.of(HttpStatus.CONFLICT, scheduleAlreadyConfirmedException.getMessage());
+    }
+
+    @ExceptionHandler(ScheduleCandidateNotFoundException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse scheduleCandidateNotFoundExceptionHandler(ScheduleCandidateNotFoundException scheduleCandidateNotFoundException) {
+        return ErrorResponse.of(HttpStatus.BAD_REQUEST, scheduleCandidateNotFoundException.getMessage());
     }
 }
@@ -3,13 +3,22 @@ package com.postsquad.scoup.web.schedule.controller;
 import com.postsquad.scoup.web.error.controller.response.ErrorResponse;
 import com.postsquad.scoup.web.schedule.controller.request.SchedulePollRequest;
 import com.postsquad.scoup.web.schedule.controller.response.SchedulePollResponse;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleVotersResponse;
 import com.postsquad.scoup.web.schedule.exception.ScheduleCandidateNotFoundException;
+import com.postsquad.scoup.web.schedule.exception.ScheduleNotFoundException;
+import com.postsquad.scoup.web.schedule.exception.SchedulePollInFlightException;
 import com.postsquad.scoup.web.schedule.service.SchedulePollService;
+import com.postsquad.scoup.web.schedule.service.SchedulePollTallyBroadcaster;
+import com.postsquad.scoup.web.signin.domain.SignInUser;
 import com.postsquad.scoup.web.user.LoggedInUser;
-import com.postsquad.scoup.web.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.servlet.http.HttpServletRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,10 +26,36 @@ public class SchedulePollController {
 
     private final SchedulePollService schedulePollService;
 
+    private final SchedulePollTallyBroadcaster schedulePollTallyBroadcaster;
+
     @PostMapping("/groups/{groupId}/schedules/{scheduleId}/poll")
     @ResponseStatus(HttpStatus.CREATED)
-    public SchedulePollResponse pollSchedule(@PathVariable long groupId, @PathVariable long scheduleId, @RequestBody SchedulePollRequest schedulePollRequest, @LoggedInUser User user) {
-        return schedulePollService.poll(schedulePollRequest, user);
+    public SchedulePollResponse pollSchedule(@PathVariable long groupId, @PathVariable long scheduleId, @RequestBody SchedulePollRequest schedulePollRequest, @LoggedInUser SignInUser signInUser) {
+        return schedulePollService.poll(groupId, scheduleId, schedulePollRequest, signInUser);
+    }
+
+    @GetMapping(path = "/groups/{groupId}/schedules/{scheduleId}/poll/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPollTally(@PathVariable long groupId, @PathVariable long scheduleId) {
+        return schedulePollTallyBroadcaster.subscribe(groupId, scheduleId);
+    }
+
+    @GetMapping("/groups/{groupId}/schedules/{scheduleId}/voters")
+    public ScheduleVotersResponse readVoters(@PathVariable long groupId, @PathVariable long scheduleId) {
+        return schedulePollService.readVoters(groupId, scheduleId);
+    }
+
+    @ExceptionHandler(ScheduleNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ErrorResponse scheduleNotFoundExceptionHandler(ScheduleNotFoundException scheduleNotFoundException, HttpServletRequest request) {
+        // 집계 구독은 produces 가 text/event-stream 이라 그대로 두면 오류 응답을 JSON 으로 쓰지 못한다.
+        request.removeAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+        return ErrorResponse.of(HttpStatus.NOT_FOUND, scheduleNotFoundException.getMessage());
+    }
+
+    @ExceptionHandler(SchedulePollInFlightException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse schedulePollInFlightExceptionHandler(SchedulePollInFlightException schedulePollInFlightException) {
+        return ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, schedulePollInFlightException.getMessage());
     }
 
     @ExceptionHandler(ScheduleCandidateNotFoundException.class)
@@ -32,9 +67,7 @@ public class SchedulePollController {
 
     @DeleteMapping("/groups/{groupId}/schedules/{scheduleId}/poll")
     @ResponseStatus(HttpStatus.OK)
-    public SchedulePollResponse cancelPollSchedule(@PathVariable long groupId, @PathVariable long scheduleId, SchedulePollRequest schedulePollRequest) {
-        return SchedulePollResponse.builder()
-                                   .pollCount(1)
-                                   .build();
+    public SchedulePollResponse cancelPollSchedule(@PathVariable long groupId, @PathVariable long scheduleId, @RequestBody SchedulePollRequest schedulePollRequest, @LoggedInUser SignInUser signInUser) {
+        return schedulePollService.cancel(groupId, scheduleId, schedulePollRequest, signInUser);
     }
 }
@@ -1,11 +1,15 @@
 package com.postsquad.scoup.web.schedule.controller.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
+import java.time.Period;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,7 +17,18 @@ import java.time.LocalDateTime;
 @Builder
 public class ConfirmedSchedulePeriodReadAllRequest {
 
+    // 구간이 걸친 월마다 캐시를 읽으므로 한 번에 조회할 수 있는 구간을 제한한다.
+    public static final Period MAXIMUM_PERIOD = Period.ofYears(1);
+
+    @NotNull
     private LocalDateTime startDateTime;
 
+    @NotNull
     private LocalDateTime endDateTime;
+
+    @JsonIgnore
+    @AssertTrue
+    public boolean isPeriodValid() {
+        return startDateTime == null || endDateTime == null || !endDateTime.isAfter(startDateTime.plus(MAXIMUM_PERIOD));
+    }
 }
@@ -0,0 +1,31 @@
+package com.postsquad.scoup.web.schedule.controller.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class ConfirmedScheduleReadAllRequest {
+
+    public static final int DEFAULT_SIZE = 100;
+
+    public static final int MAX_SIZE = 500;
+
+    // 이전 응답의 next_cursor. 없으면 첫 페이지를 조회한다.
+    private String cursor;
+
+    @Min(1)
+    @Max(MAX_SIZE)
+    private Integer size;
+
+    public int pageSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+}
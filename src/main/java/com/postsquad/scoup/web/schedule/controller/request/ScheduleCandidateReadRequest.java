@@ -1,10 +1,13 @@
 package com.postsquad.scoup.web.schedule.controller.request;
 
+import com.postsquad.scoup.web.schedule.domain.DayBucketingPolicy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDate;
 
@@ -14,9 +17,31 @@ import java.time.LocalDate;
 @Data
 public class ScheduleCandidateReadRequest {
 
+    public static final int DEFAULT_SIZE = 100;
+
+    public static final int MAX_SIZE = 500;
+
     @NotNull
     private LocalDate startDate;
 
     @NotNull
     private LocalDate endDate;
+
+    // 이전 응답의 next_cursor. 없으면 첫 페이지를 조회한다.
+    private String cursor;
+
+    @Min(1)
+    @Max(MAX_SIZE)
+    private Integer size;
+
+    // 자정을 넘기는 후보를 날짜별로 나누는 방식. 없으면 START_DAY.
+    private DayBucketingPolicy dayBucketing;
+
+    public int pageSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+
+    public DayBucketingPolicy dayBucketingPolicy() {
+        return dayBucketing == null ? DayBucketingPolicy.START_DAY : dayBucketing;
+    }
 }
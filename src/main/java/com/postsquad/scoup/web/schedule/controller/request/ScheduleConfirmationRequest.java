@@ -5,14 +5,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import javax.validation.constraints.NotNull;
-
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Builder
 public class ScheduleConfirmationRequest {
 
-    @NotNull
+    // 비어 있으면 추천 1순위 후보로 확정한다.
     private Long scheduleCandidateId;
 }
@@ -8,10 +8,17 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @NoArgsConstructor
-@AllArgsConstructor(staticName = "from")
+@AllArgsConstructor(staticName = "of")
 @Builder
 @Data
 public class ConfirmedScheduleReadAllResponses {
 
      private List<ConfirmedScheduleReadAllResponse> confirmedSchedules;
+
+     // 다음 페이지 커서. 마지막 페이지면 null.
+     private String nextCursor;
+
+     public static ConfirmedScheduleReadAllResponses from(List<ConfirmedScheduleReadAllResponse> confirmedSchedules) {
+          return of(confirmedSchedules, null);
+     }
 }
@@ -10,10 +10,18 @@ import java.util.List;
 import java.util.Map;
 
 @NoArgsConstructor
-@AllArgsConstructor(staticName = "from")
+@AllArgsConstructor(staticName = "of")
 @Data
 public class ScheduleCandidateReadAllResponses {
 
+    // 날짜 순으로 정렬된 날짜별 후보 목록
     @JsonProperty("schedule_candidates")
     private Map<LocalDate, List<ScheduleCandidateReadAllResponse>> scheduleCandidateResponses;
+
+    // 다음 페이지 커서. 마지막 페이지면 null.
+    private String nextCursor;
+
+    public static ScheduleCandidateReadAllResponses from(Map<LocalDate, List<ScheduleCandidateReadAllResponse>> scheduleCandidateResponses) {
+        return of(scheduleCandidateResponses, null);
+    }
 }
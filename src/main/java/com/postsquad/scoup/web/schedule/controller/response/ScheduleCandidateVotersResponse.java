@@ -0,0 +1,18 @@
+package com.postsquad.scoup.web.schedule.controller.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ScheduleCandidateVotersResponse {
+
+    private long scheduleCandidateId;
+
+    private int pollCount;
+
+    private List<Long> voterIds;
+}
@@ -0,0 +1,14 @@
+package com.postsquad.scoup.web.schedule.controller.response;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class SchedulePollCountResponse {
+
+    private long scheduleCandidateId;
+
+    private int pollCount;
+}
@@ -0,0 +1,17 @@
+package com.postsquad.scoup.web.schedule.controller.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class SchedulePollTallyResponse {
+
+    private long scheduleId;
+
+    // 직전 프레임 이후 투표 수가 바뀐 후보만 담는다. 구독 직후의 첫 프레임은 모든 후보를 담는다.
+    private List<SchedulePollCountResponse> pollCounts;
+}
@@ -0,0 +1,27 @@
+package com.postsquad.scoup.web.schedule.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class ScheduleRecommendationResponse {
+
+    private long scheduleCandidateId;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+
+    private int pollCount;
+
+    private int availableCount;
+
+    private int conflictingScheduleCount;
+}
@@ -0,0 +1,17 @@
+package com.postsquad.scoup.web.schedule.controller.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ScheduleVotersResponse {
+
+    private List<ScheduleCandidateVotersResponse> scheduleCandidates;
+
+    // 모든 후보에 투표한 사용자 id
+    private List<Long> commonVoterIds;
+}
@@ -0,0 +1,23 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 이미 확정된 일정 [startDateTime, endDateTime) 와 그 일정의 참여자 id.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class BusyPeriod {
+
+    private final long confirmedScheduleId;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final Set<Long> participantIds;
+}
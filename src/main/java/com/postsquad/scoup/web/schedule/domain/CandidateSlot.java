@@ -0,0 +1,23 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 추천 대상 후보 [startDateTime, endDateTime) 와 그 후보에 투표한 사용자 id.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class CandidateSlot {
+
+    private final long scheduleCandidateId;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final Set<Long> voterIds;
+}
@@ -22,8 +22,13 @@ public class ConfirmedSchedule extends BaseEntity {
 
     private LocalDateTime endDateTime;
 
-    @OneToMany
-    @JoinColumn
+    // 한 사용자가 여러 확정 일정에 참여할 수 있으므로 연결 테이블로 관리한다.
+    @ManyToMany
+    @JoinTable(
+            name = "confirmed_schedule_participant",
+            joinColumns = @JoinColumn(name = "confirmed_schedule_id"),
+            inverseJoinColumns = @JoinColumn(name = "user_id")
+    )
     List<User> confirmedParticipants = new ArrayList<>();
 
     protected ConfirmedSchedule(Schedule schedule, LocalDateTime startDateTime, LocalDateTime endDateTime) {
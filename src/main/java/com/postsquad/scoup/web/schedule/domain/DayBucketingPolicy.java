@@ -0,0 +1,13 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+/**
+ * 자정을 넘기는 일정을 날짜별 목록에 어떻게 넣을지.
+ */
+public enum DayBucketingPolicy {
+
+    // 시작 날짜에만 넣는다.
+    START_DAY,
+
+    // 걸쳐 있는 모든 날짜에 넣는다. 종료 시각은 포함하지 않으므로 자정에 끝나면 다음 날에는 넣지 않는다.
+    EVERY_DAY
+}
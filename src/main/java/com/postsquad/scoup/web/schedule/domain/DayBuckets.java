@@ -0,0 +1,141 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 시작 시각 순으로 정렬된 일정을 한 번 훑으면서 날짜별 목록으로 나눈다.
+ * 결과는 날짜 순으로 정렬된 TreeMap 이고, 각 날짜의 목록은 입력 순서(시작 시각 순)를 유지한다.
+ * 모아 두지 않고 바로 써 내려가야 하면 같은 규칙으로 (날짜, 일정)을 차례로 넘겨주는 forEach 를 쓴다.
+ */
+public final class DayBuckets {
+
+    private DayBuckets() {
+    }
+
+    @FunctionalInterface
+    public interface Consumer<T, E extends Exception> {
+
+        void accept(LocalDate day, T value) throws E;
+    }
+
+    /**
+     * EVERY_DAY 는 [windowStartDateTime, windowEndDateTime) 에 속하는 날짜에만 넣는다.
+     * START_DAY 는 구간과 관계없이 시작 날짜에 넣는다.
+     */
+    public static <T> TreeMap<LocalDate, List<T>> of(
+            List<T> sortedValues,
+            Function<T, LocalDateTime> startDateTime,
+            Function<T, LocalDateTime> endDateTime,
+            DayBucketingPolicy dayBucketingPolicy,
+            LocalDateTime windowStartDateTime,
+            LocalDateTime windowEndDateTime
+    ) {
+        TreeMap<LocalDate, List<T>> buckets = new TreeMap<>();
+        forEach(
+                sortedValues.iterator(),
+                startDateTime,
+                endDateTime,
+                dayBucketingPolicy,
+                windowStartDateTime,
+                windowEndDateTime,
+                (day, value) -> buckets.computeIfAbsent(day, ignored -> new ArrayList<>()).add(value)
+        );
+        return buckets;
+    }
+
+    /**
+     * of 와 같은 규칙으로 나눈 (날짜, 일정)을 날짜 순, 같은 날짜 안에서는 입력 순으로 consumer 에 넘긴다.
+     * EVERY_DAY 에서 다음 날까지 이어지는 일정만 들고 있으므로, 메모리는 전체 개수가 아니라 동시에 걸쳐 있는 일정 수에 비례한다.
+     */
+    public static <T, E extends Exception> void forEach(
+            Iterator<T> sortedValues,
+            Function<T, LocalDateTime> startDateTime,
+            Function<T, LocalDateTime> endDateTime,
+            DayBucketingPolicy dayBucketingPolicy,
+            LocalDateTime windowStartDateTime,
+            LocalDateTime windowEndDateTime,
+            Consumer<T, E> consumer
+    ) throws E {
+        if (dayBucketingPolicy == DayBucketingPolicy.START_DAY) {
+            while (sortedValues.hasNext()) {
+                T value = sortedValues.next();
+                consumer.accept(startDateTime.apply(value).toLocalDate(), value);
+            }
+            return;
+        }
+
+        LocalDate firstWindowDay = windowStartDateTime.toLocalDate();
+        LocalDate lastWindowDay = lastDay(windowStartDateTime, windowEndDateTime);
+        // 지금 날짜 다음 날까지 이어지는 일정. 먼저 시작한 순서대로 들고 있다.
+        List<Carried<T>> carried = new ArrayList<>();
+        LocalDate currentDay = null;
+        while (sortedValues.hasNext()) {
+            T value = sortedValues.next();
+            LocalDate firstDay = max(startDateTime.apply(value).toLocalDate(), firstWindowDay);
+            LocalDate lastDay = min(lastDay(startDateTime.apply(value), endDateTime.apply(value)), lastWindowDay);
+            if (firstDay.isAfter(lastDay)) {
+                continue;
+            }
+
+            // 먼저 시작한 일정이 앞에 오도록, 이 일정의 첫 날짜까지 이어진 일정을 먼저 넘긴다.
+            if (currentDay == null || firstDay.isAfter(currentDay)) {
+                if (currentDay != null) {
+                    acceptCarried(carried, currentDay.plusDays(1), firstDay, consumer);
+                }
+                currentDay = firstDay;
+            }
+            consumer.accept(firstDay, value);
+            if (lastDay.isAfter(firstDay)) {
+                carried.add(new Carried<>(value, lastDay));
+            }
+        }
+        if (currentDay != null) {
+            acceptCarried(carried, currentDay.plusDays(1), lastWindowDay, consumer);
+        }
+    }
+
+    // carried 는 모두 fromDay 이후까지 이어지므로 날마다 전부 넘기고, 그날 끝나는 일정은 뺀다.
+    private static <T, E extends Exception> void acceptCarried(List<Carried<T>> carried, LocalDate fromDay, LocalDate toDay, Consumer<T, E> consumer) throws E {
+        for (LocalDate day = fromDay; !carried.isEmpty() && !day.isAfter(toDay); day = day.plusDays(1)) {
+            for (Carried<T> carriedValue : carried) {
+                consumer.accept(day, carriedValue.value);
+            }
+            LocalDate acceptedDay = day;
+            carried.removeIf(carriedValue -> !carriedValue.lastDay.isAfter(acceptedDay));
+        }
+    }
+
+    // 종료 시각을 포함하지 않는 [start, end) 의 마지막 날짜. 길이가 0 이면 시작 날짜다.
+    private static LocalDate lastDay(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (!endDateTime.isAfter(startDateTime)) {
+            return startDateTime.toLocalDate();
+        }
+        return endDateTime.minusNanos(1).toLocalDate();
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static final class Carried<T> {
+
+        private final T value;
+
+        private final LocalDate lastDay;
+
+        private Carried(T value, LocalDate lastDay) {
+            this.value = value;
+            this.lastDay = lastDay;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Objects;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = @Index(columnList = "due_date_time", name = "IDX_SCHEDULE_DUE_DATE_TIME"))
 public class Schedule extends BaseEntity {
 
     private static final String DEFAULT_COLOR_CODE = "#00ff0000";
@@ -3,6 +3,7 @@ package com.postsquad.scoup.web.schedule.domain;
 import com.postsquad.scoup.web.common.BaseEntity;
 import com.postsquad.scoup.web.user.domain.User;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -11,6 +12,9 @@ import java.util.Set;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
+@Table(indexes = {
+        @Index(columnList = "schedule_id, start_date_time, end_date_time", name = "IDX_SCHEDULE_CANDIDATE_SCHEDULE_PERIOD"),
+})
 @Entity
 public class ScheduleCandidate extends BaseEntity {
 
@@ -23,9 +27,20 @@ public class ScheduleCandidate extends BaseEntity {
 
     private LocalDateTime endDateTime;
 
-    @OneToMany
+    // 투표 테이블. Set 이므로 (후보, 사용자) 가 기본 키가 되어 중복 투표를 DB 에서 막고, 투표와 취소는 이 테이블에 한 문장으로 쓴다.
+    @ManyToMany
+    @JoinTable(
+            name = "schedule_candidate_polled_user",
+            joinColumns = @JoinColumn(name = "schedule_candidate_id"),
+            inverseJoinColumns = @JoinColumn(name = "user_id")
+    )
     private Set<User> polledUser = new HashSet<>();
 
+    // polledUser 를 초기화하지 않고 투표 수를 읽기 위한 비정규화 컬럼. 투표 행이 추가되거나 지워질 때 DB 에서 원자적으로 증감시킨다.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int pollCount;
+
     public ScheduleCandidate(Schedule schedule, LocalDateTime startDateTime, LocalDateTime endDateTime) {
         this.schedule = schedule;
         this.startDateTime = startDateTime;
@@ -38,10 +53,8 @@ public class ScheduleCandidate extends BaseEntity {
     }
 
     public void poll(User user) {
-        polledUser.add(user);
-    }
-
-    public int pollCount() {
-        return polledUser.size();
+        if (polledUser.add(user)) {
+            pollCount++;
+        }
     }
 }
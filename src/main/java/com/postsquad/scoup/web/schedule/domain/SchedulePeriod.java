@@ -0,0 +1,38 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * [startDateTime, endDateTime) 구간. 엔티티를 만들지 않고 일정의 기간만 조회할 때 쓴다.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class SchedulePeriod {
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    public SchedulePeriod(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+    }
+
+    public boolean overlaps(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return this.startDateTime.isBefore(endDateTime) && this.endDateTime.isAfter(startDateTime);
+    }
+
+    /**
+     * 주어진 구간 밖으로 나간 부분을 잘라낸다. 겹치는 구간에 대해서만 호출해야 한다.
+     */
+    public SchedulePeriod clip(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        LocalDateTime clippedStartDateTime = this.startDateTime.isBefore(startDateTime) ? startDateTime : this.startDateTime;
+        LocalDateTime clippedEndDateTime = this.endDateTime.isAfter(endDateTime) ? endDateTime : this.endDateTime;
+        return new SchedulePeriod(clippedStartDateTime, clippedEndDateTime);
+    }
+}
@@ -0,0 +1,54 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 겹치거나 맞닿은 기간을 하나로 합친다.
+ * 시작 시각 순으로 정렬된 입력은 한 번 훑으면서 합치고(O(n)), 정렬되지 않은 입력은 먼저 정렬한다(O(n log n)).
+ */
+public final class SchedulePeriods {
+
+    private SchedulePeriods() {
+    }
+
+    public static List<SchedulePeriod> merge(Collection<SchedulePeriod> periods) {
+        return mergeSorted(periods.stream().sorted(Comparator.comparing(SchedulePeriod::getStartDateTime)));
+    }
+
+    /**
+     * 시작 시각 순으로 정렬된 스트림을 소비하며 합친다. 정렬되지 않은 스트림을 넘기면 결과가 올바르지 않다.
+     */
+    public static List<SchedulePeriod> mergeSorted(Stream<SchedulePeriod> sortedPeriods) {
+        List<SchedulePeriod> mergedPeriods = new ArrayList<>();
+        Iterator<SchedulePeriod> iterator = sortedPeriods.iterator();
+        if (!iterator.hasNext()) {
+            return mergedPeriods;
+        }
+
+        SchedulePeriod first = iterator.next();
+        LocalDateTime startDateTime = first.getStartDateTime();
+        LocalDateTime endDateTime = first.getEndDateTime();
+        while (iterator.hasNext()) {
+            SchedulePeriod period = iterator.next();
+            if (period.getStartDateTime().isAfter(endDateTime)) {
+                mergedPeriods.add(new SchedulePeriod(startDateTime, endDateTime));
+                startDateTime = period.getStartDateTime();
+                endDateTime = period.getEndDateTime();
+                continue;
+            }
+
+            if (period.getEndDateTime().isAfter(endDateTime)) {
+                endDateTime = period.getEndDateTime();
+            }
+        }
+        mergedPeriods.add(new SchedulePeriod(startDateTime, endDateTime));
+
+        return mergedPeriods;
+    }
+}
@@ -0,0 +1,148 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 스케줄의 후보별 투표자를 비트셋으로 들고 있는다.
+ * 투표한 사용자마다 스케줄 안에서 0 부터 빈틈없는 번호(ordinal)를 붙이고, 후보마다 투표자의 번호 위치에 비트를 세운다.
+ * 투표 여부는 O(1), 투표 수는 비트 수, 여러 후보에 모두 투표한 사용자는 비트셋 AND 로 구한다.
+ * 한 번 만든 값은 바꾸지 않는다. 투표와 취소를 반영할 때는 withVote, withoutVote 로 바뀐 후보의 비트셋만 복사한 새 값을 만든다.
+ */
+public final class ScheduleVoterBitmap {
+
+    private final Map<Long, Integer> ordinals;
+
+    private final List<Long> userIds;
+
+    private final Map<Long, BitSet> voters;
+
+    private ScheduleVoterBitmap(Map<Long, Integer> ordinals, List<Long> userIds, Map<Long, BitSet> voters) {
+        this.ordinals = ordinals;
+        this.userIds = userIds;
+        this.voters = voters;
+    }
+
+    /**
+     * @param voterIdsByCandidate 후보 id 별 투표자 id. 투표가 없는 후보는 빈 컬렉션으로 넣는다.
+     */
+    public static ScheduleVoterBitmap of(Map<Long, ? extends Collection<Long>> voterIdsByCandidate) {
+        Map<Long, Integer> ordinals = new HashMap<>();
+        List<Long> userIds = new ArrayList<>();
+        Map<Long, BitSet> voters = new LinkedHashMap<>();
+        voterIdsByCandidate.forEach((scheduleCandidateId, voterIds) -> {
+            BitSet bitSet = new BitSet();
+            for (Long voterId : voterIds) {
+                bitSet.set(ordinals.computeIfAbsent(voterId, ignored -> {
+                    userIds.add(voterId);
+                    return userIds.size() - 1;
+                }));
+            }
+            voters.put(scheduleCandidateId, bitSet);
+        });
+
+        return new ScheduleVoterBitmap(ordinals, userIds, voters);
+    }
+
+    public Set<Long> getScheduleCandidateIds() {
+        return Collections.unmodifiableSet(voters.keySet());
+    }
+
+    public boolean contains(long scheduleCandidateId) {
+        return voters.containsKey(scheduleCandidateId);
+    }
+
+    public boolean hasVoted(long scheduleCandidateId, long userId) {
+        Integer ordinal = ordinals.get(userId);
+        BitSet bitSet = voters.get(scheduleCandidateId);
+        return ordinal != null && bitSet != null && bitSet.get(ordinal);
+    }
+
+    public int pollCount(long scheduleCandidateId) {
+        BitSet bitSet = voters.get(scheduleCandidateId);
+        return bitSet == null ? 0 : bitSet.cardinality();
+    }
+
+    public Set<Long> voterIds(long scheduleCandidateId) {
+        return toUserIds(voters.getOrDefault(scheduleCandidateId, new BitSet()));
+    }
+
+    /**
+     * 주어진 후보 모두에 투표한 사용자. 후보가 비어 있으면 아무도 없는 것으로 본다.
+     */
+    public Set<Long> commonVoterIds(Collection<Long> scheduleCandidateIds) {
+        return toUserIds(commonVoters(scheduleCandidateIds));
+    }
+
+    public int commonVoterCount(Collection<Long> scheduleCandidateIds) {
+        return commonVoters(scheduleCandidateIds).cardinality();
+    }
+
+    public ScheduleVoterBitmap withVote(long scheduleCandidateId, long userId) {
+        if (!contains(scheduleCandidateId) || hasVoted(scheduleCandidateId, userId)) {
+            return this;
+        }
+
+        Map<Long, Integer> newOrdinals = ordinals;
+        List<Long> newUserIds = userIds;
+        Integer ordinal = ordinals.get(userId);
+        if (ordinal == null) {
+            newOrdinals = new HashMap<>(ordinals);
+            newUserIds = new ArrayList<>(userIds);
+            newUserIds.add(userId);
+            ordinal = newUserIds.size() - 1;
+            newOrdinals.put(userId, ordinal);
+        }
+
+        Map<Long, BitSet> newVoters = new LinkedHashMap<>(voters);
+        BitSet bitSet = (BitSet) voters.get(scheduleCandidateId).clone();
+        bitSet.set(ordinal);
+        newVoters.put(scheduleCandidateId, bitSet);
+        return new ScheduleVoterBitmap(newOrdinals, newUserIds, newVoters);
+    }
+
+    public ScheduleVoterBitmap withoutVote(long scheduleCandidateId, long userId) {
+        if (!hasVoted(scheduleCandidateId, userId)) {
+            return this;
+        }
+
+        // 번호는 다른 후보가 쓰고 있을 수 있으므로 그대로 두고 비트만 내린다.
+        Map<Long, BitSet> newVoters = new LinkedHashMap<>(voters);
+        BitSet bitSet = (BitSet) voters.get(scheduleCandidateId).clone();
+        bitSet.clear(ordinals.get(userId));
+        newVoters.put(scheduleCandidateId, bitSet);
+        return new ScheduleVoterBitmap(ordinals, userIds, newVoters);
+    }
+
+    private BitSet commonVoters(Collection<Long> scheduleCandidateIds) {
+        BitSet common = null;
+        for (Long scheduleCandidateId : scheduleCandidateIds) {
+            BitSet bitSet = voters.get(scheduleCandidateId);
+            if (bitSet == null) {
+                return new BitSet();
+            }
+
+            if (common == null) {
+                common = (BitSet) bitSet.clone();
+            } else {
+                common.and(bitSet);
+            }
+        }
+
+        return common == null ? new BitSet() : common;
+    }
+
+    private Set<Long> toUserIds(BitSet bitSet) {
+        Set<Long> voterIds = new LinkedHashSet<>();
+        bitSet.stream().forEach(ordinal -> voterIds.add(userIds.get(ordinal)));
+        return voterIds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class SlotRecommendation {
+
+    private final long scheduleCandidateId;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    // 후보에 투표한 사용자 수
+    private final int pollCount;
+
+    // 투표자 가운데 겹치는 확정 일정에 참여하지 않는 사용자 수
+    private final int availableCount;
+
+    // 후보와 겹치는 확정 일정 수
+    private final int conflictingScheduleCount;
+}
@@ -0,0 +1,122 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 후보들을 참석 가능 인원 순으로 정렬한다.
+ * 후보와 확정 일정의 양 끝점을 시각 순으로 훑는 sweep-line 으로 후보마다 겹치는 확정 일정을 구하고(O((n + m) log(n + m))),
+ * 겹치는 확정 일정의 참여자를 뺀 투표자 수를 참석 가능 인원으로 본다.
+ * 구간은 모두 종료 시각을 포함하지 않으므로 맞닿기만 한 일정은 겹치지 않는다.
+ */
+public final class SlotRecommender {
+
+    private static final Comparator<SlotRecommendation> RANKING = Comparator.comparingInt(SlotRecommendation::getAvailableCount).reversed()
+                                                                            .thenComparingInt(SlotRecommendation::getConflictingScheduleCount)
+                                                                            .thenComparing(Comparator.comparingInt(SlotRecommendation::getPollCount).reversed())
+                                                                            .thenComparing(SlotRecommendation::getStartDateTime)
+                                                                            .thenComparingLong(SlotRecommendation::getScheduleCandidateId);
+
+    private SlotRecommender() {
+    }
+
+    public static List<SlotRecommendation> recommend(List<CandidateSlot> candidateSlots, List<BusyPeriod> busyPeriods) {
+        BitSet[] conflicts = findConflicts(candidateSlots, busyPeriods);
+
+        List<SlotRecommendation> recommendations = new ArrayList<>(candidateSlots.size());
+        for (int i = 0; i < candidateSlots.size(); i++) {
+            CandidateSlot candidateSlot = candidateSlots.get(i);
+            Set<Long> busyUserIds = new HashSet<>();
+            conflicts[i].stream().forEach(busyIndex -> busyUserIds.addAll(busyPeriods.get(busyIndex).getParticipantIds()));
+
+            int availableCount = 0;
+            for (Long voterId : candidateSlot.getVoterIds()) {
+                if (!busyUserIds.contains(voterId)) {
+                    availableCount++;
+                }
+            }
+
+            recommendations.add(new SlotRecommendation(
+                    candidateSlot.getScheduleCandidateId(),
+                    candidateSlot.getStartDateTime(),
+                    candidateSlot.getEndDateTime(),
+                    candidateSlot.getVoterIds().size(),
+                    availableCount,
+                    conflicts[i].cardinality()
+            ));
+        }
+
+        recommendations.sort(RANKING);
+        return recommendations;
+    }
+
+    private static BitSet[] findConflicts(List<CandidateSlot> candidateSlots, List<BusyPeriod> busyPeriods) {
+        List<Endpoint> endpoints = new ArrayList<>(2 * (candidateSlots.size() + busyPeriods.size()));
+        // 길이가 0 인 구간은 아무것과도 겹치지 않으므로 넣지 않는다.
+        for (int i = 0; i < candidateSlots.size(); i++) {
+            CandidateSlot candidateSlot = candidateSlots.get(i);
+            if (candidateSlot.getStartDateTime().isBefore(candidateSlot.getEndDateTime())) {
+                endpoints.add(new Endpoint(candidateSlot.getStartDateTime(), true, true, i));
+                endpoints.add(new Endpoint(candidateSlot.getEndDateTime(), false, true, i));
+            }
+        }
+        for (int i = 0; i < busyPeriods.size(); i++) {
+            BusyPeriod busyPeriod = busyPeriods.get(i);
+            if (busyPeriod.getStartDateTime().isBefore(busyPeriod.getEndDateTime())) {
+                endpoints.add(new Endpoint(busyPeriod.getStartDateTime(), true, false, i));
+                endpoints.add(new Endpoint(busyPeriod.getEndDateTime(), false, false, i));
+            }
+        }
+        // 같은 시각이면 끝나는 구간을 먼저 처리해 맞닿은 구간이 겹치지 않게 한다.
+        endpoints.sort(Comparator.comparing((Endpoint endpoint) -> endpoint.dateTime)
+                                 .thenComparing(endpoint -> endpoint.start));
+
+        BitSet[] conflicts = new BitSet[candidateSlots.size()];
+        for (int i = 0; i < conflicts.length; i++) {
+            conflicts[i] = new BitSet(busyPeriods.size());
+        }
+
+        BitSet activeCandidates = new BitSet(candidateSlots.size());
+        BitSet activeBusyPeriods = new BitSet(busyPeriods.size());
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.start) {
+                (endpoint.candidate ? activeCandidates : activeBusyPeriods).clear(endpoint.index);
+                continue;
+            }
+
+            if (endpoint.candidate) {
+                conflicts[endpoint.index].or(activeBusyPeriods);
+                activeCandidates.set(endpoint.index);
+                continue;
+            }
+
+            activeCandidates.stream().forEach(candidateIndex -> conflicts[candidateIndex].set(endpoint.index));
+            activeBusyPeriods.set(endpoint.index);
+        }
+
+        return conflicts;
+    }
+
+    private static class Endpoint {
+
+        private final LocalDateTime dateTime;
+
+        private final boolean start;
+
+        private final boolean candidate;
+
+        private final int index;
+
+        private Endpoint(LocalDateTime dateTime, boolean start, boolean candidate, int index) {
+            this.dateTime = dateTime;
+            this.start = start;
+            this.candidate = candidate;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.postsquad.scoup.web.schedule.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 스케줄이 확정되었을 때 발행한다. 확정 일정 기반의 캐시들은 이 이벤트로 무효화한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(staticName = "of")
+public class ScheduleConfirmedEvent {
+
+    private final long groupId;
+
+    private final long scheduleId;
+}
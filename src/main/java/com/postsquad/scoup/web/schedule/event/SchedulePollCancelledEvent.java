@@ -0,0 +1,20 @@
+package com.postsquad.scoup.web.schedule.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사용자가 일정 후보 투표를 취소했을 때 발행한다. 투표하지 않은 후보를 취소한 경우에도 발행될 수 있다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(staticName = "of")
+public class SchedulePollCancelledEvent {
+
+    private final long scheduleId;
+
+    private final long scheduleCandidateId;
+
+    private final long userId;
+}
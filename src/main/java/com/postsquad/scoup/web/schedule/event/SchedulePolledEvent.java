@@ -0,0 +1,20 @@
+package com.postsquad.scoup.web.schedule.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사용자가 일정 후보에 투표했을 때 발행한다. 이미 투표한 후보에 다시 투표한 경우에도 발행될 수 있다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(staticName = "of")
+public class SchedulePolledEvent {
+
+    private final long scheduleId;
+
+    private final long scheduleCandidateId;
+
+    private final long userId;
+}
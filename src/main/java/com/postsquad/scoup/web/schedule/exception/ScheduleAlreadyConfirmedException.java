@@ -0,0 +1,8 @@
+package com.postsquad.scoup.web.schedule.exception;
+
+public class ScheduleAlreadyConfirmedException extends RuntimeException {
+
+    public ScheduleAlreadyConfirmedException() {
+        super("Schedule Already Confirmed");
+    }
+}
@@ -0,0 +1,8 @@
+package com.postsquad.scoup.web.schedule.exception;
+
+public class ScheduleNotFoundException extends RuntimeException {
+
+    public ScheduleNotFoundException() {
+        super("Schedule Not Found");
+    }
+}
@@ -0,0 +1,8 @@
+package com.postsquad.scoup.web.schedule.exception;
+
+public class SchedulePollInFlightException extends RuntimeException {
+
+    public SchedulePollInFlightException() {
+        super("Schedule Poll Is Being Saved");
+    }
+}
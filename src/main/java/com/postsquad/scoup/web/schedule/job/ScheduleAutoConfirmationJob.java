@@ -0,0 +1,30 @@
+package com.postsquad.scoup.web.schedule.job;
+
+import com.postsquad.scoup.web.schedule.service.ScheduleAutoConfirmationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투표 마감이 지난 스케줄을 자동으로 확정하는 Quartz job.
+ * JDBC job store 를 클러스터로 쓰므로 여러 인스턴스 중 하나에서만, 한 번에 하나씩 실행된다.
+ */
+@Slf4j
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class ScheduleAutoConfirmationJob extends QuartzJobBean {
+
+    private final ScheduleAutoConfirmationService scheduleAutoConfirmationService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) {
+        int confirmedCount = scheduleAutoConfirmationService.confirmAllDue(LocalDateTime.now());
+        if (confirmedCount > 0) {
+            log.info("Auto confirmed {} schedules", confirmedCount);
+        }
+    }
+}
@@ -5,8 +5,10 @@ import com.postsquad.scoup.web.schedule.controller.request.ScheduleCreationReque
 import com.postsquad.scoup.web.schedule.controller.response.ConfirmedParticipantResponse;
 import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateResponseForReadOneSchedule;
 import com.postsquad.scoup.web.schedule.controller.response.ScheduleReadOneResponse;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleRecommendationResponse;
 import com.postsquad.scoup.web.schedule.domain.Schedule;
 import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.schedule.domain.SlotRecommendation;
 import com.postsquad.scoup.web.user.domain.User;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -35,11 +37,7 @@ public interface ScheduleMapper {
     ScheduleReadOneResponse toScheduleReadOneResponse(Schedule schedule);
 
     @Mapping(target = "confirmedParticipants", source = "polledUser")
-    @Mapping(target = "pollCount", source = "scheduleCandidate",  qualifiedByName = "pollCount")
     ScheduleCandidateResponseForReadOneSchedule scheduleCandidateToScheduleCandidateResponseForReadOneSchedule(ScheduleCandidate scheduleCandidate);
 
-    @Named("pollCount")
-    default int pollCount(ScheduleCandidate scheduleCandidate) {
-        return scheduleCandidate.pollCount();
-    }
+    ScheduleRecommendationResponse toScheduleRecommendationResponse(SlotRecommendation slotRecommendation);
 }
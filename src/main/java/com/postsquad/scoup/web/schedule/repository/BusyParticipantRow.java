@@ -0,0 +1,22 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 확정 일정과 참여자 id 를 LEFT JOIN 한 한 행. 참여자가 없으면 userId 는 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class BusyParticipantRow {
+
+    private final Long confirmedScheduleId;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final Long userId;
+}
@@ -0,0 +1,50 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedParticipantResponse;
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleReadAllResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Optional;
+
+/**
+ * 확정 일정과 참여자를 LEFT JOIN 한 한 행. 참여자가 없는 확정 일정은 nickname, username 이 null 인 한 행이 된다.
+ */
+@Getter
+@AllArgsConstructor
+public class ConfirmedScheduleParticipantRow {
+
+    private final Long confirmedScheduleId;
+
+    private final String title;
+
+    private final String description;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final String nickname;
+
+    private final String username;
+
+    public ConfirmedScheduleReadAllResponse toResponse() {
+        return ConfirmedScheduleReadAllResponse.builder()
+                                               .title(title)
+                                               .description(description)
+                                               .startDateTime(startDateTime)
+                                               .endDateTime(endDateTime)
+                                               .confirmedParticipants(new ArrayList<>())
+                                               .build();
+    }
+
+    public Optional<ConfirmedParticipantResponse> participant() {
+        if (nickname == null && username == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new ConfirmedParticipantResponse(nickname, username));
+    }
+}
@@ -1,17 +1,52 @@
 package com.postsquad.scoup.web.schedule.repository;
 
 import com.postsquad.scoup.web.schedule.domain.ConfirmedSchedule;
+import com.postsquad.scoup.web.schedule.domain.SchedulePeriod;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface ConfirmedScheduleRepository extends JpaRepository<ConfirmedSchedule, Long> {
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface ConfirmedScheduleRepository extends JpaRepository<ConfirmedSchedule, Long>, ConfirmedScheduleRepositoryCustom {
 
     @Query("SELECT cs FROM ConfirmedSchedule cs" +
            " JOIN FETCH cs.schedule s" +
            " WHERE cs.schedule.group.id = :id"
     )
     List<ConfirmedSchedule> findConfirmedSchedulesByGroupId(@Param("id") Long id);
+
+    // [startDateTime, endDateTime) 와 겹치는 확정 일정의 기간만 시작 시각 순으로 읽는다. 트랜잭션 안에서 소비하고 닫아야 한다.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.postsquad.scoup.web.schedule.domain.SchedulePeriod(cs.startDateTime, cs.endDateTime) " +
+           "FROM Schedule s JOIN s.confirmedSchedule cs " +
+           "WHERE s.group.id = :groupId " +
+           "AND cs.startDateTime < :endDateTime " +
+           "AND cs.endDateTime > :startDateTime " +
+           "ORDER BY cs.startDateTime")
+    Stream<SchedulePeriod> streamPeriodsByGroupId(@Param("groupId") long groupId, @Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+
+    // 내보내기용. 확정 일정 순서대로, 같은 확정 일정의 참여자 행이 연속되도록 정렬한다. 트랜잭션 안에서 소비하고 닫아야 한다.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.postsquad.scoup.web.schedule.repository.ConfirmedScheduleParticipantRow(" +
+           "cs.id, s.title, s.description, cs.startDateTime, cs.endDateTime, u.nickname, u.username) " +
+           "FROM Schedule s JOIN s.confirmedSchedule cs LEFT JOIN cs.confirmedParticipants u " +
+           "WHERE s.group.id = :groupId " +
+           "ORDER BY cs.startDateTime, cs.id, u.id")
+    Stream<ConfirmedScheduleParticipantRow> streamParticipantRowsByGroupId(@Param("groupId") long groupId);
+
+    // [startDateTime, endDateTime) 와 겹치는 확정 일정과 참여자 id. 같은 확정 일정의 행이 연속되도록 정렬한다.
+    @Query("SELECT new com.postsquad.scoup.web.schedule.repository.BusyParticipantRow(cs.id, cs.startDateTime, cs.endDateTime, u.id) " +
+           "FROM Schedule s JOIN s.confirmedSchedule cs LEFT JOIN cs.confirmedParticipants u " +
+           "WHERE s.group.id = :groupId " +
+           "AND cs.startDateTime < :endDateTime " +
+           "AND cs.endDateTime > :startDateTime " +
+           "ORDER BY cs.id")
+    List<BusyParticipantRow> findBusyParticipantRows(@Param("groupId") long groupId, @Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
 }
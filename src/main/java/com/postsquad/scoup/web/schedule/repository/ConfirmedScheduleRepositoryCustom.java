@@ -0,0 +1,15 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import com.postsquad.scoup.web.common.CursorSlice;
+import com.postsquad.scoup.web.common.KeysetCursor;
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleReadAllResponse;
+
+public interface ConfirmedScheduleRepositoryCustom {
+
+    /**
+     * 그룹의 확정 일정 목록을 엔티티 대신 응답 DTO 로 바로 조회한다.
+     * 확정 일정 1번, 참여자 1번의 고정된 쿼리만 사용한다.
+     * (start_date_time, id) 순서로 cursor 다음부터 size 개를 조회한다. cursor 가 null 이면 첫 페이지다.
+     */
+    CursorSlice<ConfirmedScheduleReadAllResponse> findReadAllResponsesByGroupId(Long groupId, KeysetCursor cursor, int size);
+}
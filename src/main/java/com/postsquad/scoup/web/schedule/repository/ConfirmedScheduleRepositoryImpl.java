@@ -0,0 +1,89 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import com.postsquad.scoup.web.common.CursorSlice;
+import com.postsquad.scoup.web.common.KeysetCursor;
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedParticipantResponse;
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleReadAllResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.FlushMode;
+import org.hibernate.annotations.QueryHints;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.postsquad.scoup.web.schedule.domain.QConfirmedSchedule.confirmedSchedule;
+import static com.postsquad.scoup.web.schedule.domain.QSchedule.schedule;
+import static com.postsquad.scoup.web.user.domain.QUser.user;
+import static com.querydsl.core.group.GroupBy.groupBy;
+import static com.querydsl.core.group.GroupBy.list;
+
+@RequiredArgsConstructor
+public class ConfirmedScheduleRepositoryImpl implements ConfirmedScheduleRepositoryCustom {
+
+    private static final QBean<ConfirmedScheduleReadAllResponse> READ_ALL_RESPONSE = Projections.bean(
+            ConfirmedScheduleReadAllResponse.class,
+            schedule.title,
+            schedule.description,
+            confirmedSchedule.startDateTime,
+            confirmedSchedule.endDateTime
+    );
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public CursorSlice<ConfirmedScheduleReadAllResponse> findReadAllResponsesByGroupId(Long groupId, KeysetCursor cursor, int size) {
+        // 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 DTO 로 바로 읽는다.
+        List<Tuple> rows = jpaQueryFactory.select(confirmedSchedule.id, READ_ALL_RESPONSE)
+                                          .from(confirmedSchedule)
+                                          .join(confirmedSchedule.schedule, schedule)
+                                          .where(schedule.group.id.eq(groupId), after(cursor))
+                                          .orderBy(confirmedSchedule.startDateTime.asc(), confirmedSchedule.id.asc())
+                                          .limit(size + 1L)
+                                          .setHint(QueryHints.FLUSH_MODE, FlushMode.MANUAL)
+                                          .fetch();
+        CursorSlice<Tuple> slice = CursorSlice.of(rows, size, row -> KeysetCursor.of(row.get(READ_ALL_RESPONSE).getStartDateTime(), row.get(confirmedSchedule.id)));
+        if (slice.getContent().isEmpty()) {
+            return slice.map(row -> row.get(READ_ALL_RESPONSE));
+        }
+
+        List<Long> confirmedScheduleIds = slice.getContent().stream()
+                                               .map(row -> row.get(confirmedSchedule.id))
+                                               .collect(Collectors.toList());
+        Map<Long, List<ConfirmedParticipantResponse>> participants = findParticipants(confirmedScheduleIds);
+
+        return slice.map(row -> {
+            ConfirmedScheduleReadAllResponse response = row.get(READ_ALL_RESPONSE);
+            response.setConfirmedParticipants(participants.getOrDefault(row.get(confirmedSchedule.id), Collections.emptyList()));
+            return response;
+        });
+    }
+
+    // (start_date_time, id) seek 조건. OFFSET 을 쓰지 않으므로 깊은 페이지도 비용이 같다.
+    private BooleanExpression after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return confirmedSchedule.startDateTime.gt(cursor.getStartDateTime())
+                                              .or(confirmedSchedule.startDateTime.eq(cursor.getStartDateTime())
+                                                                                 .and(confirmedSchedule.id.gt(cursor.getId())));
+    }
+
+    private Map<Long, List<ConfirmedParticipantResponse>> findParticipants(List<Long> confirmedScheduleIds) {
+        return jpaQueryFactory.from(confirmedSchedule)
+                              .join(confirmedSchedule.confirmedParticipants, user)
+                              .where(confirmedSchedule.id.in(confirmedScheduleIds))
+                              .orderBy(confirmedSchedule.id.asc(), user.id.asc())
+                              .setHint(QueryHints.FLUSH_MODE, FlushMode.MANUAL)
+                              .transform(groupBy(confirmedSchedule.id).as(
+                                      list(Projections.constructor(ConfirmedParticipantResponse.class, user.nickname, user.username))
+                              ));
+    }
+}
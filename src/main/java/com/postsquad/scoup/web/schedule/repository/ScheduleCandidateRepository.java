@@ -1,25 +1,114 @@
 package com.postsquad.scoup.web.schedule.repository;
 
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateReadAllResponse;
+import com.postsquad.scoup.web.schedule.controller.response.SchedulePollCountResponse;
 import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ScheduleCandidateRepository extends CrudRepository<ScheduleCandidate, Long> {
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+public interface ScheduleCandidateRepository extends CrudRepository<ScheduleCandidate, Long>, ScheduleCandidateRepositoryCustom {
 
     // TODO: Group에 종속적이게 되면 이동해야 할 수 있음
+    // [startDateTime, endDateTime) 구간과 겹치는 후보. (schedule_id, start_date_time, end_date_time) 인덱스를 탄다.
+    // 첫 페이지 조회용. 페이지 크기는 pageable 로 제한한다.
+    @Query("SELECT sc " +
+           "FROM ScheduleCandidate sc JOIN FETCH sc.schedule s JOIN FETCH s.group g LEFT JOIN FETCH s.confirmedSchedule " +
+           "WHERE g.id = :groupId " +
+           "AND sc.startDateTime < :endDateTime " +
+           "AND sc.endDateTime > :startDateTime " +
+           "ORDER BY sc.startDateTime, sc.id")
+    List<ScheduleCandidate> findAllByDateTimeIncluding(@Param("groupId") long groupId, @Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime, Pageable pageable);
+
+    // 커서 (cursorStartDateTime, cursorId) 다음부터 조회한다. OFFSET 없이 seek 하므로 깊은 페이지도 첫 페이지와 비용이 같다.
     @Query("SELECT sc " +
-           "FROM ScheduleCandidate sc JOIN FETCH sc.schedule s JOIN FETCH s.group g " +
-           "WHERE " +
-           "g.id = :groupId AND " +
-           // 범위 왼쪽
-           "sc.startDateTime <= :startDateTime AND :startDateTime < sc.endDateTime OR " +
-           // 범위 오른쪽
-           "sc.startDateTime < :endDateTime AND :endDateTime <= sc.endDateTime OR " +
-           // 범위 안쪽
-           ":startDateTime <= sc.startDateTime  AND sc.endDateTime < :endDateTime")
-    List<ScheduleCandidate> findAllByDateTimeIncluding(@Param("groupId") long groupId, @Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+           "FROM ScheduleCandidate sc JOIN FETCH sc.schedule s JOIN FETCH s.group g LEFT JOIN FETCH s.confirmedSchedule " +
+           "WHERE g.id = :groupId " +
+           "AND sc.startDateTime < :endDateTime " +
+           "AND sc.endDateTime > :startDateTime " +
+           "AND (sc.startDateTime > :cursorStartDateTime OR (sc.startDateTime = :cursorStartDateTime AND sc.id > :cursorId)) " +
+           "ORDER BY sc.startDateTime, sc.id")
+    List<ScheduleCandidate> findAllByDateTimeIncludingAfter(
+            @Param("groupId") long groupId,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("cursorStartDateTime") LocalDateTime cursorStartDateTime,
+            @Param("cursorId") long cursorId,
+            Pageable pageable
+    );
+
+    // 내보내기용. 엔티티 대신 응답 DTO 로 바로 읽어 (시작 시각, id) 순으로 흘려보낸다. 트랜잭션 안에서 소비하고 닫아야 한다.
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateReadAllResponse(" +
+           "sc.id, sc.startDateTime, sc.endDateTime, CASE WHEN s.confirmedSchedule IS NULL THEN false ELSE true END, " +
+           "s.id, s.title, s.description, s.colorCode) " +
+           "FROM ScheduleCandidate sc JOIN sc.schedule s " +
+           "WHERE s.group.id = :groupId " +
+           "AND sc.startDateTime < :endDateTime " +
+           "AND sc.endDateTime > :startDateTime " +
+           "ORDER BY sc.startDateTime, sc.id")
+    Stream<ScheduleCandidateReadAllResponse> streamAllByDateTimeIncluding(@Param("groupId") long groupId, @Param("startDateTime") LocalDateTime startDateTime, @Param("endDateTime") LocalDateTime endDateTime);
+
+    @Query("SELECT sc " +
+           "FROM ScheduleCandidate sc JOIN FETCH sc.schedule s JOIN FETCH s.group g LEFT JOIN FETCH s.confirmedSchedule " +
+           "WHERE g.id = :groupId " +
+           "ORDER BY sc.startDateTime, sc.id")
+    List<ScheduleCandidate> findAllByGroupId(@Param("groupId") long groupId);
+
+    // 지운 행 수(0 또는 1)를 반환한다.
+    @Modifying
+    @Query(value = "delete from \"schedule_candidate_polled_user\" " +
+                   "where \"schedule_candidate_id\" = :scheduleCandidateId and \"user_id\" = :userId",
+           nativeQuery = true)
+    int deletePolledUser(@Param("scheduleCandidateId") long scheduleCandidateId, @Param("userId") long userId);
+
+    // 투표 행과 같은 트랜잭션에서 증감하므로 커밋할 때까지 후보 행에 배타 잠금이 걸린다. (InnoDB 는 투표 insert 의 외래 키 확인에서도 후보 행을 공유 잠금한다.)
+    // 같은 후보의 투표는 이 잠금에서 차례로 처리되지만, 트랜잭션이 문장 세 개뿐이라 짧게 잡힌다.
+    // 엔티티를 읽지 않고 DB 에서 원자적으로 증감하므로 잃어버리는 갱신이나 낙관적 잠금 실패는 없다.
+    // 인기 후보에 투표가 몰리면 schedule.poll.write-behind.enabled 로 증감을 버퍼 flush 의 batch 한 번으로 모은다.
+    @Modifying
+    @Query("UPDATE ScheduleCandidate sc SET sc.pollCount = sc.pollCount + 1 WHERE sc.id = :scheduleCandidateId")
+    int increasePollCount(@Param("scheduleCandidateId") long scheduleCandidateId);
+
+    @Modifying
+    @Query("UPDATE ScheduleCandidate sc SET sc.pollCount = sc.pollCount - 1 WHERE sc.id = :scheduleCandidateId AND sc.pollCount > 0")
+    int decreasePollCount(@Param("scheduleCandidateId") long scheduleCandidateId);
+
+    @Query("SELECT sc.pollCount FROM ScheduleCandidate sc WHERE sc.id = :scheduleCandidateId")
+    Optional<Integer> findPollCountById(@Param("scheduleCandidateId") long scheduleCandidateId);
+
+    @Query("SELECT new com.postsquad.scoup.web.schedule.controller.response.SchedulePollCountResponse(sc.id, sc.pollCount) " +
+           "FROM ScheduleCandidate sc " +
+           "WHERE sc.schedule.id = :scheduleId " +
+           "ORDER BY sc.id")
+    List<SchedulePollCountResponse> findPollCountsByScheduleId(@Param("scheduleId") long scheduleId);
+
+    @Query("SELECT new com.postsquad.scoup.web.schedule.controller.response.SchedulePollCountResponse(sc.id, sc.pollCount) " +
+           "FROM ScheduleCandidate sc " +
+           "WHERE sc.schedule.id = :scheduleId " +
+           "AND sc.id IN :scheduleCandidateIds " +
+           "ORDER BY sc.id")
+    List<SchedulePollCountResponse> findPollCountsByIds(@Param("scheduleId") long scheduleId, @Param("scheduleCandidateIds") Collection<Long> scheduleCandidateIds);
+
+    boolean existsByIdAndScheduleId(long scheduleCandidateId, long scheduleId);
+
+    @Query("SELECT new com.postsquad.scoup.web.schedule.repository.SchedulePollState(" +
+           "sc.pollCount, " +
+           "(SELECT COUNT(u) FROM ScheduleCandidate polled JOIN polled.polledUser u WHERE polled.id = sc.id AND u.id = :userId)" +
+           ") " +
+           "FROM ScheduleCandidate sc " +
+           "WHERE sc.id = :scheduleCandidateId")
+    Optional<SchedulePollState> findPollState(@Param("scheduleCandidateId") long scheduleCandidateId, @Param("userId") long userId);
 }
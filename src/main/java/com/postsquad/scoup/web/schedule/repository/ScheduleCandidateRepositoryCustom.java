@@ -0,0 +1,12 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+public interface ScheduleCandidateRepositoryCustom {
+
+    /**
+     * 후보가 존재하고 아직 투표하지 않았을 때만 투표 행을 추가한다.
+     * 동시에 들어온 같은 투표가 함께 중복 확인을 통과해서 primary key 에 걸리면 추가하지 않은 것(0)으로 본다.
+     *
+     * @return 추가된 행 수(0 또는 1)
+     */
+    int insertPolledUser(long scheduleCandidateId, long userId);
+}
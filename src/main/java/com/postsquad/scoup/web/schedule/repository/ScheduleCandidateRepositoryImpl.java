@@ -0,0 +1,32 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class ScheduleCandidateRepositoryImpl implements ScheduleCandidateRepositoryCustom {
+
+    // 중복만 건너뛰고 외래 키나 길이 초과 같은 다른 오류는 그대로 던지도록 insert ignore 를 쓰지 않는다.
+    public static final String INSERT_POLLED_USER_SQL =
+            "insert into \"schedule_candidate_polled_user\" (\"schedule_candidate_id\", \"user_id\") " +
+            "select sc.\"id\", ? from \"schedule_candidate\" sc " +
+            "where sc.\"id\" = ? " +
+            "and not exists (select 1 from \"schedule_candidate_polled_user\" v " +
+            "where v.\"schedule_candidate_id\" = sc.\"id\" and v.\"user_id\" = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // JPA 쿼리로 실행하면 실패한 문장이 트랜잭션을 rollback-only 로 만들어서, 중복을 잡아도 투표 트랜잭션이 커밋되지 않는다.
+    // MySQL 과 H2 는 실패한 문장만 되돌리므로 JDBC 로 실행하고 중복 키 예외만 삼킨다.
+    @Override
+    @Transactional
+    public int insertPolledUser(long scheduleCandidateId, long userId) {
+        try {
+            return jdbcTemplate.update(INSERT_POLLED_USER_SQL, userId, scheduleCandidateId, userId);
+        } catch (DuplicateKeyException duplicateKeyException) {
+            return 0;
+        }
+    }
+}
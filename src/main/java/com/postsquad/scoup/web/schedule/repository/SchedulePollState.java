@@ -0,0 +1,19 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import lombok.Getter;
+
+/**
+ * 후보의 저장된 투표 수와 특정 사용자의 투표 여부.
+ */
+@Getter
+public class SchedulePollState {
+
+    private final int pollCount;
+
+    private final boolean polled;
+
+    public SchedulePollState(int pollCount, long polledCount) {
+        this.pollCount = pollCount;
+        this.polled = polledCount > 0;
+    }
+}
@@ -1,7 +1,36 @@
 package com.postsquad.scoup.web.schedule.repository;
 
 import com.postsquad.scoup.web.schedule.domain.Schedule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
-public interface ScheduleRepository extends CrudRepository<Schedule, Long> {
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduleRepository extends CrudRepository<Schedule, Long>, ScheduleRepositoryCustom {
+
+    // 확정처럼 한 번만 일어나야 하는 변경은 스케줄 행을 잠그고 진행한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Schedule s WHERE s.id = :scheduleId")
+    Optional<Schedule> findByIdForUpdate(@Param("scheduleId") long scheduleId);
+
+    boolean existsByIdAndGroupId(long scheduleId, long groupId);
+
+    // 여러 스케줄을 잠글 때는 교착 상태를 피하도록 항상 id 순으로 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Schedule s WHERE s.id IN :scheduleIds ORDER BY s.id")
+    List<Schedule> findAllByIdForUpdate(@Param("scheduleIds") List<Long> scheduleIds);
+
+    // 투표 마감이 지났지만 확정되지 않은 스케줄. 후보가 없는 스케줄은 확정할 수 없으므로 제외한다.
+    @Query("SELECT s.id FROM Schedule s " +
+           "WHERE s.dueDateTime <= :now " +
+           "AND s.confirmedSchedule IS NULL " +
+           "AND s.scheduleCandidates IS NOT EMPTY " +
+           "ORDER BY s.dueDateTime, s.id")
+    List<Long> findDueUnconfirmedIds(@Param("now") LocalDateTime now, Pageable pageable);
 }
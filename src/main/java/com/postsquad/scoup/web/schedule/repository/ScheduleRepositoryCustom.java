@@ -0,0 +1,14 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import com.postsquad.scoup.web.schedule.domain.Schedule;
+
+import java.util.Optional;
+
+public interface ScheduleRepositoryCustom {
+
+    /**
+     * 스케줄 상세 조회에 필요한 연관관계(확정 일정과 참여자, 후보와 투표자)를 모두 초기화해서 반환한다.
+     * 후보 수와 관계없이 정해진 수의 쿼리로 조회한다.
+     */
+    Optional<Schedule> findDetailById(long scheduleId);
+}
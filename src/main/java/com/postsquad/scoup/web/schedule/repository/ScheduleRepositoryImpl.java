@@ -0,0 +1,57 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import com.postsquad.scoup.web.group.domain.QGroup;
+import com.postsquad.scoup.web.schedule.domain.Schedule;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+import static com.postsquad.scoup.web.schedule.domain.QConfirmedSchedule.confirmedSchedule;
+import static com.postsquad.scoup.web.schedule.domain.QSchedule.schedule;
+import static com.postsquad.scoup.web.schedule.domain.QScheduleCandidate.scheduleCandidate;
+
+@RequiredArgsConstructor
+public class ScheduleRepositoryImpl implements ScheduleRepositoryCustom {
+
+    // "group" 은 JPQL 예약어라 별칭으로 쓸 수 없다.
+    private static final QGroup scheduleGroup = new QGroup("scheduleGroup");
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public Optional<Schedule> findDetailById(long scheduleId) {
+        // 1. 스케줄 + 그룹(소유자) + 확정 일정 + 후보 목록
+        Schedule foundSchedule = jpaQueryFactory.selectFrom(schedule)
+                                                .distinct()
+                                                .leftJoin(schedule.group, scheduleGroup).fetchJoin()
+                                                .leftJoin(scheduleGroup.owner).fetchJoin()
+                                                .leftJoin(schedule.confirmedSchedule, confirmedSchedule).fetchJoin()
+                                                .leftJoin(schedule.scheduleCandidates, scheduleCandidate).fetchJoin()
+                                                .where(schedule.id.eq(scheduleId))
+                                                .fetchOne();
+        if (foundSchedule == null) {
+            return Optional.empty();
+        }
+
+        // 2. 이미 영속성 컨텍스트에 있는 후보들의 투표자 컬렉션을 한 번에 초기화한다.
+        if (!foundSchedule.getScheduleCandidates().isEmpty()) {
+            jpaQueryFactory.selectFrom(scheduleCandidate)
+                           .distinct()
+                           .leftJoin(scheduleCandidate.polledUser).fetchJoin()
+                           .where(scheduleCandidate.schedule.id.eq(scheduleId))
+                           .fetch();
+        }
+
+        // 3. 확정 일정의 참여자 컬렉션을 초기화한다.
+        if (foundSchedule.isConfirmed()) {
+            jpaQueryFactory.selectFrom(confirmedSchedule)
+                           .distinct()
+                           .leftJoin(confirmedSchedule.confirmedParticipants).fetchJoin()
+                           .where(confirmedSchedule.id.eq(foundSchedule.getConfirmedSchedule().getId()))
+                           .fetch();
+        }
+
+        return Optional.of(foundSchedule);
+    }
+}
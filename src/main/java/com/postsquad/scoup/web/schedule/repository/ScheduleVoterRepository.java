@@ -0,0 +1,41 @@
+package com.postsquad.scoup.web.schedule.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 투표 연결 테이블에서 (후보 id, 사용자 id) 만 읽는다. User 행은 읽지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleVoterRepository {
+
+    private static final String SELECT_VOTER_IDS_SQL =
+            "select sc.\"id\", v.\"user_id\" from \"schedule_candidate\" sc " +
+            "left join \"schedule_candidate_polled_user\" v on v.\"schedule_candidate_id\" = sc.\"id\" " +
+            "where sc.\"schedule_id\" = ? " +
+            "order by sc.\"id\", v.\"user_id\"";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 후보 id 별 투표자 id. 투표가 없는 후보도 빈 목록으로 들어 있다.
+     */
+    public Map<Long, List<Long>> findVoterIdsByScheduleId(long scheduleId) {
+        Map<Long, List<Long>> voterIdsByCandidate = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_VOTER_IDS_SQL, resultSet -> {
+            List<Long> voterIds = voterIdsByCandidate.computeIfAbsent(resultSet.getLong(1), ignored -> new ArrayList<>());
+            long userId = resultSet.getLong(2);
+            if (!resultSet.wasNull()) {
+                voterIds.add(userId);
+            }
+        }, scheduleId);
+        return voterIdsByCandidate;
+    }
+}
@@ -0,0 +1,62 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.postsquad.scoup.web.schedule.domain.SchedulePeriod;
+import com.postsquad.scoup.web.schedule.event.ScheduleConfirmedEvent;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 그룹별, 월별로 합쳐진 확정 일정 기간을 캐시한다.
+ * 스케줄이 확정되면(ScheduleConfirmedEvent) 커밋 이후 해당 그룹의 모든 월을 무효화한다. TTL 은 놓친 무효화에 대한 안전장치다.
+ */
+@Component
+public class ConfirmedSchedulePeriodCache {
+
+    private final Cache<GroupMonth, List<SchedulePeriod>> monthlyPeriods;
+
+    public ConfirmedSchedulePeriodCache(
+            @Value("${schedule.confirmed.period-cache.maximum-size:10000}") long maximumSize,
+            @Value("${schedule.confirmed.period-cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds
+    ) {
+        this.monthlyPeriods = Caffeine.newBuilder()
+                                      .maximumSize(maximumSize)
+                                      .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                                      .build();
+    }
+
+    public List<SchedulePeriod> get(long groupId, YearMonth month, Supplier<List<SchedulePeriod>> loader) {
+        return monthlyPeriods.get(new GroupMonth(groupId, month), key -> List.copyOf(loader.get()));
+    }
+
+    public void evict(long groupId) {
+        monthlyPeriods.asMap().keySet().removeIf(key -> key.groupId == groupId);
+    }
+
+    public void evictAll() {
+        monthlyPeriods.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleConfirmed(ScheduleConfirmedEvent event) {
+        evict(event.getGroupId());
+    }
+
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class GroupMonth {
+
+        private final long groupId;
+
+        private final YearMonth month;
+    }
+}
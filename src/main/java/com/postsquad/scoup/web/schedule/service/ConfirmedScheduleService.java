@@ -1,14 +1,26 @@
 package com.postsquad.scoup.web.schedule.service;
 
+import com.postsquad.scoup.web.common.CursorSlice;
+import com.postsquad.scoup.web.common.KeysetCursor;
+import com.postsquad.scoup.web.schedule.controller.request.ConfirmedSchedulePeriodReadAllRequest;
+import com.postsquad.scoup.web.schedule.controller.request.ConfirmedScheduleReadAllRequest;
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedSchedulePeriodReadAllResponse;
 import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleReadAllResponse;
 import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleReadAllResponses;
-import com.postsquad.scoup.web.schedule.mapper.ConfirmedScheduleReadAllResponseMapper;
+import com.postsquad.scoup.web.schedule.domain.SchedulePeriod;
+import com.postsquad.scoup.web.schedule.domain.SchedulePeriods;
 import com.postsquad.scoup.web.schedule.repository.ConfirmedScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
@@ -16,11 +28,57 @@ public class ConfirmedScheduleService {
 
     private final ConfirmedScheduleRepository confirmedScheduleRepository;
 
-    public ConfirmedScheduleReadAllResponses readAll(Long groupId) {
-        List<ConfirmedScheduleReadAllResponse> confirmedSchedules = confirmedScheduleRepository.findConfirmedSchedulesByGroupId(groupId)
-                                                                                               .stream()
-                                                                                               .map(ConfirmedScheduleReadAllResponseMapper.INSTANCE::map)
-                                                                                               .collect(Collectors.toList());
-        return ConfirmedScheduleReadAllResponses.from(confirmedSchedules);
+    private final ConfirmedSchedulePeriodCache confirmedSchedulePeriodCache;
+
+    // readOnly 트랜잭션에서는 Hibernate 세션의 flush 모드가 MANUAL 로 설정되어 dirty checking 을 하지 않는다.
+    @Transactional(readOnly = true)
+    public ConfirmedScheduleReadAllResponses readAll(Long groupId, ConfirmedScheduleReadAllRequest confirmedScheduleReadAllRequest) {
+        KeysetCursor cursor = confirmedScheduleReadAllRequest.getCursor() == null ? null : KeysetCursor.decode(confirmedScheduleReadAllRequest.getCursor());
+        CursorSlice<ConfirmedScheduleReadAllResponse> confirmedSchedules = confirmedScheduleRepository.findReadAllResponsesByGroupId(
+                groupId,
+                cursor,
+                confirmedScheduleReadAllRequest.pageSize()
+        );
+        return ConfirmedScheduleReadAllResponses.of(confirmedSchedules.getContent(), confirmedSchedules.encodedNextCursor());
+    }
+
+    /**
+     * 조회 구간과 겹치는 확정 일정들을 합친 바쁜 시간대를 시작 시각 순으로 반환한다. 결과는 조회 구간으로 잘린다.
+     * 구간이 걸친 월마다 캐시된 결과를 모아 다시 합친다. 월 경계를 넘는 일정은 두 달에 모두 들어있으므로 다시 합쳐야 한다.
+     */
+    @Transactional(readOnly = true)
+    public List<ConfirmedSchedulePeriodReadAllResponse> readAllPeriods(long groupId, ConfirmedSchedulePeriodReadAllRequest confirmedSchedulePeriodReadAllRequest) {
+        LocalDateTime startDateTime = confirmedSchedulePeriodReadAllRequest.getStartDateTime();
+        LocalDateTime endDateTime = confirmedSchedulePeriodReadAllRequest.getEndDateTime();
+        if (!startDateTime.isBefore(endDateTime)) {
+            return Collections.emptyList();
+        }
+
+        List<SchedulePeriod> monthlyPeriods = new ArrayList<>();
+        YearMonth lastMonth = YearMonth.from(endDateTime.minusNanos(1));
+        for (YearMonth month = YearMonth.from(startDateTime); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            monthlyPeriods.addAll(findMonthlyPeriods(groupId, month));
+        }
+
+        return SchedulePeriods.merge(monthlyPeriods).stream()
+                              .filter(period -> period.overlaps(startDateTime, endDateTime))
+                              .map(period -> period.clip(startDateTime, endDateTime))
+                              .map(period -> ConfirmedSchedulePeriodReadAllResponse.builder()
+                                                                                   .startDateTime(period.getStartDateTime())
+                                                                                   .endDateTime(period.getEndDateTime())
+                                                                                   .build())
+                              .collect(Collectors.toList());
+    }
+
+    private List<SchedulePeriod> findMonthlyPeriods(long groupId, YearMonth month) {
+        return confirmedSchedulePeriodCache.get(groupId, month, () -> {
+            try (Stream<SchedulePeriod> periods = confirmedScheduleRepository.streamPeriodsByGroupId(
+                    groupId,
+                    month.atDay(1).atStartOfDay(),
+                    month.plusMonths(1).atDay(1).atStartOfDay()
+            )) {
+                return SchedulePeriods.mergeSorted(periods);
+            }
+        });
     }
 }
@@ -0,0 +1,64 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.schedule.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 투표 마감이 지난 스케줄을 batch-size 개씩 확정한다.
+ * 확정된 스케줄은 다음 조회에서 빠지므로 OFFSET 없이 항상 첫 batch 를 읽는다.
+ * 한 번에 max-batches-per-run 개까지만 처리하고, 남은 스케줄은 다음 실행이 이어서 처리한다.
+ */
+@Slf4j
+@Service
+public class ScheduleAutoConfirmationService {
+
+    private final ScheduleRepository scheduleRepository;
+
+    private final ScheduleConfirmationService scheduleConfirmationService;
+
+    private final int batchSize;
+
+    private final int maxBatchesPerRun;
+
+    public ScheduleAutoConfirmationService(
+            ScheduleRepository scheduleRepository,
+            ScheduleConfirmationService scheduleConfirmationService,
+            @Value("${schedule.auto-confirmation.batch-size}") int batchSize,
+            @Value("${schedule.auto-confirmation.max-batches-per-run}") int maxBatchesPerRun
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.scheduleConfirmationService = scheduleConfirmationService;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * @return 확정한 스케줄 수
+     */
+    public int confirmAllDue(LocalDateTime now) {
+        int confirmedCount = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> scheduleIds = scheduleRepository.findDueUnconfirmedIds(now, PageRequest.of(0, batchSize));
+            if (scheduleIds.isEmpty()) {
+                return confirmedCount;
+            }
+
+            int batchConfirmedCount = scheduleConfirmationService.confirmAll(scheduleIds);
+            confirmedCount += batchConfirmedCount;
+            // 조회한 스케줄을 하나도 확정하지 못했다면 같은 batch 를 계속 다시 읽게 되므로 멈춘다.
+            if (batchConfirmedCount == 0) {
+                log.warn("No due schedule confirmed in batch: {}", scheduleIds);
+                return confirmedCount;
+            }
+        }
+
+        log.info("Auto confirmation stopped after {} batches, remaining schedules are left to the next run", maxBatchesPerRun);
+        return confirmedCount;
+    }
+}
@@ -0,0 +1,67 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.postsquad.scoup.web.common.IntervalTree;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateReadAllResponse;
+import com.postsquad.scoup.web.schedule.event.ScheduleConfirmedEvent;
+import com.postsquad.scoup.web.schedule.mapper.ScheduleCandidateReadAllResponseMapper;
+import com.postsquad.scoup.web.schedule.repository.ScheduleCandidateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹별 스케줄 후보를 메모리의 interval tree 로 들고 있다가 달력 구간 조회에 DB 대신 응답한다.
+ * schedule.candidate.interval-index.enabled=true 일 때만 사용하며,
+ * 후보가 바뀌는 곳(스케줄 생성, 확정 등)에서 evict 를 호출해야 한다. TTL 은 놓친 무효화에 대한 안전장치다.
+ */
+@Component
+public class ScheduleCandidateIntervalIndex {
+
+    private final boolean enabled;
+
+    private final LoadingCache<Long, IntervalTree<ScheduleCandidateReadAllResponse>> intervalTrees;
+
+    public ScheduleCandidateIntervalIndex(
+            ScheduleCandidateRepository scheduleCandidateRepository,
+            @Value("${schedule.candidate.interval-index.enabled:false}") boolean enabled,
+            @Value("${schedule.candidate.interval-index.maximum-groups:1000}") long maximumGroups,
+            @Value("${schedule.candidate.interval-index.expire-after-write-seconds:600}") long expireAfterWriteSeconds
+    ) {
+        this.enabled = enabled;
+        this.intervalTrees = Caffeine.newBuilder()
+                                     .maximumSize(maximumGroups)
+                                     .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                                     .build(groupId -> IntervalTree.of(
+                                             scheduleCandidateRepository.findAllByGroupId(groupId).stream()
+                                                                        .map(ScheduleCandidateReadAllResponseMapper.INSTANCE::map)
+                                                                        .collect(Collectors.toList()),
+                                             ScheduleCandidateReadAllResponse::getStartDateTime,
+                                             ScheduleCandidateReadAllResponse::getEndDateTime
+                                     ));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<ScheduleCandidateReadAllResponse> findAllByDateTimeIncluding(long groupId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return intervalTrees.get(groupId).findAllOverlapping(startDateTime, endDateTime);
+    }
+
+    public void evict(long groupId) {
+        intervalTrees.invalidate(groupId);
+    }
+
+    // 확정 여부(confirmed)가 후보 응답에 포함되므로 확정되면 그룹의 트리를 다시 만든다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleConfirmed(ScheduleConfirmedEvent event) {
+        evict(event.getGroupId());
+    }
+}
@@ -1,15 +1,22 @@
 package com.postsquad.scoup.web.schedule.service;
 
+import com.postsquad.scoup.web.common.CursorSlice;
+import com.postsquad.scoup.web.common.KeysetCursor;
+import com.postsquad.scoup.web.common.RequestTimings;
 import com.postsquad.scoup.web.schedule.controller.request.ScheduleCandidateReadRequest;
 import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateReadAllResponse;
 import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateReadAllResponses;
+import com.postsquad.scoup.web.schedule.domain.DayBuckets;
 import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
 import com.postsquad.scoup.web.schedule.mapper.ScheduleCandidateReadAllResponseMapper;
 import com.postsquad.scoup.web.schedule.repository.ScheduleCandidateRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,19 +26,49 @@ public class ScheduleCandidateService {
 
     private final ScheduleCandidateRepository scheduleCandidateRepository;
 
+    private final ScheduleCandidateIntervalIndex scheduleCandidateIntervalIndex;
+
+    @Transactional(readOnly = true)
     public ScheduleCandidateReadAllResponses readAll(long groupId, ScheduleCandidateReadRequest givenScheduleCandidateReadRequest) {
-        List<ScheduleCandidate> scheduleCandidates = scheduleCandidateRepository.findAllByDateTimeIncluding(
+        KeysetCursor cursor = givenScheduleCandidateReadRequest.getCursor() == null ? null : KeysetCursor.decode(givenScheduleCandidateReadRequest.getCursor());
+        CursorSlice<ScheduleCandidateReadAllResponse> scheduleCandidateResponses = findAllByDateTimeIncluding(
                 groupId,
                 givenScheduleCandidateReadRequest.getStartDate().atStartOfDay(),
-                givenScheduleCandidateReadRequest.getEndDate().atStartOfDay()
+                givenScheduleCandidateReadRequest.getEndDate().atStartOfDay(),
+                cursor,
+                givenScheduleCandidateReadRequest.pageSize()
         );
 
-        return ScheduleCandidateReadAllResponses.from(
-                scheduleCandidates.stream()
-                                  .map(ScheduleCandidateReadAllResponseMapper.INSTANCE::map)
-                                  .collect(Collectors.<ScheduleCandidateReadAllResponse, LocalDate>groupingBy(
-                                          scheduleCandidateResponse -> scheduleCandidateResponse.getStartDateTime().toLocalDate()
-                                  ))
+        // 조회 결과가 이미 (시작 시각, id) 순이므로 정렬 없이 한 번에 날짜별로 나눈다.
+        return ScheduleCandidateReadAllResponses.of(
+                DayBuckets.of(
+                        scheduleCandidateResponses.getContent(),
+                        ScheduleCandidateReadAllResponse::getStartDateTime,
+                        ScheduleCandidateReadAllResponse::getEndDateTime,
+                        givenScheduleCandidateReadRequest.dayBucketingPolicy(),
+                        givenScheduleCandidateReadRequest.getStartDate().atStartOfDay(),
+                        givenScheduleCandidateReadRequest.getEndDate().atStartOfDay()
+                ),
+                scheduleCandidateResponses.encodedNextCursor()
         );
     }
+
+    private CursorSlice<ScheduleCandidateReadAllResponse> findAllByDateTimeIncluding(long groupId, LocalDateTime startDateTime, LocalDateTime endDateTime, KeysetCursor cursor, int size) {
+        if (scheduleCandidateIntervalIndex.isEnabled()) {
+            // 트리는 (시작 시각, id) 순서를 유지하므로 커서 조건만 메모리에서 적용한다.
+            List<ScheduleCandidateReadAllResponse> scheduleCandidateResponses = scheduleCandidateIntervalIndex.findAllByDateTimeIncluding(groupId, startDateTime, endDateTime).stream()
+                                                                                                              .filter(response -> cursor == null || cursor.precedes(response.getStartDateTime(), response.getId()))
+                                                                                                              .limit(size + 1L)
+                                                                                                              .collect(Collectors.toList());
+            return CursorSlice.of(scheduleCandidateResponses, size, response -> KeysetCursor.of(response.getStartDateTime(), response.getId()));
+        }
+
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<ScheduleCandidate> scheduleCandidates = cursor == null
+                ? scheduleCandidateRepository.findAllByDateTimeIncluding(groupId, startDateTime, endDateTime, pageable)
+                : scheduleCandidateRepository.findAllByDateTimeIncludingAfter(groupId, startDateTime, endDateTime, cursor.getStartDateTime(), cursor.getId(), pageable);
+
+        return RequestTimings.mapping(() -> CursorSlice.of(scheduleCandidates, size, scheduleCandidate -> KeysetCursor.of(scheduleCandidate.getStartDateTime(), scheduleCandidate.getId()))
+                                                       .map(ScheduleCandidateReadAllResponseMapper.INSTANCE::map));
+    }
 }
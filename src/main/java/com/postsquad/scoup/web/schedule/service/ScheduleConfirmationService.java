@@ -0,0 +1,220 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.schedule.controller.request.ScheduleConfirmationRequest;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleRecommendationResponse;
+import com.postsquad.scoup.web.schedule.domain.BusyPeriod;
+import com.postsquad.scoup.web.schedule.domain.CandidateSlot;
+import com.postsquad.scoup.web.schedule.domain.ConfirmedSchedule;
+import com.postsquad.scoup.web.schedule.domain.Schedule;
+import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.schedule.domain.ScheduleVoterBitmap;
+import com.postsquad.scoup.web.schedule.domain.SlotRecommendation;
+import com.postsquad.scoup.web.schedule.domain.SlotRecommender;
+import com.postsquad.scoup.web.schedule.event.ScheduleConfirmedEvent;
+import com.postsquad.scoup.web.schedule.exception.ScheduleAlreadyConfirmedException;
+import com.postsquad.scoup.web.schedule.exception.ScheduleCandidateNotFoundException;
+import com.postsquad.scoup.web.schedule.exception.ScheduleNotFoundException;
+import com.postsquad.scoup.web.schedule.mapper.ScheduleMapper;
+import com.postsquad.scoup.web.schedule.repository.BusyParticipantRow;
+import com.postsquad.scoup.web.schedule.repository.ConfirmedScheduleRepository;
+import com.postsquad.scoup.web.schedule.repository.ScheduleRepository;
+import com.postsquad.scoup.web.schedule.repository.ScheduleVoterRepository;
+import com.postsquad.scoup.web.user.domain.User;
+import com.postsquad.scoup.web.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ScheduleConfirmationService {
+
+    private final ScheduleRepository scheduleRepository;
+
+    private final ConfirmedScheduleRepository confirmedScheduleRepository;
+
+    private final ScheduleVoterBitmapCache scheduleVoterBitmapCache;
+
+    private final ScheduleVoterRepository scheduleVoterRepository;
+
+    private final SchedulePollBuffer schedulePollBuffer;
+
+    private final UserRepository userRepository;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<ScheduleRecommendationResponse> recommend(long groupId, long scheduleId) {
+        Schedule schedule = scheduleRepository.findById(scheduleId)
+                                              .filter(foundSchedule -> foundSchedule.getGroup().getId() == groupId)
+                                              .orElseThrow(ScheduleNotFoundException::new);
+
+        return recommend(schedule, scheduleVoterBitmapCache.get(scheduleId)).stream()
+                                  .map(ScheduleMapper.INSTANCE::toScheduleRecommendationResponse)
+                                  .collect(Collectors.toList());
+    }
+
+    /**
+     * 후보를 확정하고 그 후보의 투표자를 참여자로 등록한다.
+     * scheduleCandidateId 가 없으면 추천 1순위 후보로 확정한다.
+     */
+    @Transactional
+    public ConfirmedSchedule confirm(long groupId, long scheduleId, ScheduleConfirmationRequest scheduleConfirmationRequest) {
+        Schedule schedule = scheduleRepository.findByIdForUpdate(scheduleId)
+                                              .filter(foundSchedule -> foundSchedule.getGroup().getId() == groupId)
+                                              .orElseThrow(ScheduleNotFoundException::new);
+        if (schedule.isConfirmed()) {
+            throw new ScheduleAlreadyConfirmedException();
+        }
+
+        ScheduleVoterBitmap scheduleVoterBitmap = votersOf(schedule);
+        long scheduleCandidateId = scheduleConfirmationRequest.getScheduleCandidateId() != null
+                ? scheduleConfirmationRequest.getScheduleCandidateId()
+                : recommend(schedule, scheduleVoterBitmap).stream()
+                                     .findFirst()
+                                     .map(SlotRecommendation::getScheduleCandidateId)
+                                     .orElseThrow(ScheduleCandidateNotFoundException::new);
+        ScheduleCandidate scheduleCandidate = findScheduleCandidate(schedule, scheduleCandidateId);
+        Map<Long, User> participants = usersById(scheduleVoterBitmap.voterIds(scheduleCandidateId));
+
+        ConfirmedSchedule confirmedSchedule = toConfirmedSchedule(schedule, scheduleCandidate, scheduleVoterBitmap, participants);
+        confirmedScheduleRepository.save(confirmedSchedule);
+
+        applicationEventPublisher.publishEvent(ScheduleConfirmedEvent.of(groupId, scheduleId));
+        return confirmedSchedule;
+    }
+
+    /**
+     * 투표 마감이 지난 스케줄들을 한 트랜잭션에서 추천 1순위 후보로 확정한다. 이미 확정된 스케줄은 건너뛴다.
+     * 추천을 모두 계산한 뒤에 한꺼번에 저장해서, 저장 사이사이에 조회로 인한 flush 가 끼어들지 않게 한다.
+     * 같은 batch 안에서 먼저 확정된 일정은 다른 스케줄의 추천에 반영되지 않는다.
+     *
+     * @return 확정한 스케줄 수
+     */
+    @Transactional
+    public int confirmAll(List<Long> scheduleIds) {
+        Map<Schedule, ScheduleCandidate> winners = new LinkedHashMap<>();
+        Map<Schedule, ScheduleVoterBitmap> scheduleVoterBitmaps = new HashMap<>();
+        Set<Long> participantIds = new HashSet<>();
+        for (Schedule schedule : scheduleRepository.findAllByIdForUpdate(scheduleIds)) {
+            if (schedule.isConfirmed()) {
+                continue;
+            }
+
+            ScheduleVoterBitmap scheduleVoterBitmap = votersOf(schedule);
+            recommend(schedule, scheduleVoterBitmap).stream()
+                               .findFirst()
+                               .ifPresent(recommendation -> {
+                                   winners.put(schedule, findScheduleCandidate(schedule, recommendation.getScheduleCandidateId()));
+                                   scheduleVoterBitmaps.put(schedule, scheduleVoterBitmap);
+                                   participantIds.addAll(scheduleVoterBitmap.voterIds(recommendation.getScheduleCandidateId()));
+                               });
+        }
+
+        // 참여자는 batch 전체에서 한 번에 읽는다.
+        Map<Long, User> participants = usersById(participantIds);
+        List<ConfirmedSchedule> confirmedSchedules = new ArrayList<>(winners.size());
+        winners.forEach((schedule, scheduleCandidate) -> confirmedSchedules.add(toConfirmedSchedule(schedule, scheduleCandidate, scheduleVoterBitmaps.get(schedule), participants)));
+        confirmedScheduleRepository.saveAll(confirmedSchedules);
+
+        winners.keySet().forEach(schedule -> applicationEventPublisher.publishEvent(ScheduleConfirmedEvent.of(schedule.getGroup().getId(), schedule.getId())));
+        return confirmedSchedules.size();
+    }
+
+    private ScheduleCandidate findScheduleCandidate(Schedule schedule, long scheduleCandidateId) {
+        return schedule.getScheduleCandidates().stream()
+                       .filter(candidate -> candidate.getId() == scheduleCandidateId)
+                       .findFirst()
+                       .orElseThrow(ScheduleCandidateNotFoundException::new);
+    }
+
+    private ConfirmedSchedule toConfirmedSchedule(Schedule schedule, ScheduleCandidate scheduleCandidate, ScheduleVoterBitmap scheduleVoterBitmap, Map<Long, User> participants) {
+        ConfirmedSchedule confirmedSchedule = ConfirmedSchedule.builder()
+                                                               .schedule(schedule)
+                                                               .startDateTime(scheduleCandidate.getStartDateTime())
+                                                               .endDateTime(scheduleCandidate.getEndDateTime())
+                                                               .confirmedParticipants(scheduleVoterBitmap.voterIds(scheduleCandidate.getId()).stream()
+                                                                                                         .map(participants::get)
+                                                                                                         .filter(Objects::nonNull)
+                                                                                                         .collect(Collectors.toList()))
+                                                               .build();
+        schedule.confirmSchedule(confirmedSchedule);
+        return confirmedSchedule;
+    }
+
+    private Map<Long, User> usersById(Collection<Long> userIds) {
+        Map<Long, User> users = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            userRepository.findAllById(userIds).forEach(user -> users.put(user.getId(), user));
+        }
+        return users;
+    }
+
+    // 확정할 때는 노드마다 다른 캐시 대신 잠근 뒤 연결 테이블에서 다시 읽는다.
+    // 아직 write-behind 버퍼에만 있는 투표도 이미 201 을 받은 투표이므로 순위와 참여자에 함께 넣는다. 버퍼를 먼저 읽어야 그 사이에 저장된 투표를 놓치지 않는다.
+    private ScheduleVoterBitmap votersOf(Schedule schedule) {
+        Map<Long, List<Long>> bufferedVoterIds = schedulePollBuffer.bufferedVoterIds();
+        Map<Long, List<Long>> voterIds = scheduleVoterRepository.findVoterIdsByScheduleId(schedule.getId());
+        voterIds.forEach((scheduleCandidateId, candidateVoterIds) -> candidateVoterIds.addAll(bufferedVoterIds.getOrDefault(scheduleCandidateId, Collections.emptyList())));
+        return ScheduleVoterBitmap.of(voterIds);
+    }
+
+    // 투표자는 User 를 읽지 않고 비트셋에서 id 만 꺼낸다.
+    private List<SlotRecommendation> recommend(Schedule schedule, ScheduleVoterBitmap scheduleVoterBitmap) {
+        List<ScheduleCandidate> scheduleCandidates = schedule.getScheduleCandidates();
+        if (scheduleCandidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<CandidateSlot> candidateSlots = scheduleCandidates.stream()
+                                                               .map(candidate -> CandidateSlot.of(
+                                                                       candidate.getId(),
+                                                                       candidate.getStartDateTime(),
+                                                                       candidate.getEndDateTime(),
+                                                                       scheduleVoterBitmap.voterIds(candidate.getId())
+                                                               ))
+                                                               .collect(Collectors.toList());
+
+        // 후보 전체를 덮는 구간과 겹치는 확정 일정만 읽는다.
+        LocalDateTime startDateTime = candidateSlots.stream().map(CandidateSlot::getStartDateTime).min(LocalDateTime::compareTo).get();
+        LocalDateTime endDateTime = candidateSlots.stream().map(CandidateSlot::getEndDateTime).max(LocalDateTime::compareTo).get();
+        List<BusyPeriod> busyPeriods = busyPeriods(confirmedScheduleRepository.findBusyParticipantRows(schedule.getGroup().getId(), startDateTime, endDateTime));
+
+        return SlotRecommender.recommend(candidateSlots, busyPeriods);
+    }
+
+    private List<BusyPeriod> busyPeriods(List<BusyParticipantRow> busyParticipantRows) {
+        Map<Long, BusyParticipantRow> periods = new LinkedHashMap<>();
+        Map<Long, Set<Long>> participantIds = new LinkedHashMap<>();
+        for (BusyParticipantRow row : busyParticipantRows) {
+            periods.putIfAbsent(row.getConfirmedScheduleId(), row);
+            Set<Long> ids = participantIds.computeIfAbsent(row.getConfirmedScheduleId(), ignored -> new HashSet<>());
+            if (row.getUserId() != null) {
+                ids.add(row.getUserId());
+            }
+        }
+
+        return periods.values().stream()
+                      .map(row -> BusyPeriod.of(
+                              row.getConfirmedScheduleId(),
+                              row.getStartDateTime(),
+                              row.getEndDateTime(),
+                              participantIds.get(row.getConfirmedScheduleId())
+                      ))
+                      .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,119 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.postsquad.scoup.web.schedule.controller.request.ScheduleCandidateReadRequest;
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleReadAllResponse;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateReadAllResponse;
+import com.postsquad.scoup.web.schedule.domain.DayBuckets;
+import com.postsquad.scoup.web.schedule.repository.ConfirmedScheduleParticipantRow;
+import com.postsquad.scoup.web.schedule.repository.ConfirmedScheduleRepository;
+import com.postsquad.scoup.web.schedule.repository.ScheduleCandidateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 달력 내보내기용으로 목록 응답을 메모리에 모으지 않고 한 건씩 JSON 으로 써 내려간다.
+ * 응답 모양과 날짜 나누기는 일반 조회와 같고(next_cursor 제외), 조회 결과 크기와 관계없이 힙 사용량이 일정하다.
+ * StreamingResponseBody 의 비동기 스레드에서 호출되므로 트랜잭션은 이 메소드가 직접 연다.
+ */
+@RequiredArgsConstructor
+@Service
+public class ScheduleExportService {
+
+    private final ConfirmedScheduleRepository confirmedScheduleRepository;
+
+    private final ScheduleCandidateRepository scheduleCandidateRepository;
+
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void writeConfirmedSchedules(long groupId, OutputStream outputStream) throws IOException {
+        ObjectWriter confirmedScheduleWriter = elementWriter(ConfirmedScheduleReadAllResponse.class);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+             Stream<ConfirmedScheduleParticipantRow> rows = confirmedScheduleRepository.streamParticipantRowsByGroupId(groupId)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("confirmed_schedules");
+
+            // 같은 확정 일정의 참여자 행은 연속해서 오므로 id 가 바뀔 때 이전 확정 일정을 쓴다.
+            Long currentConfirmedScheduleId = null;
+            ConfirmedScheduleReadAllResponse currentConfirmedSchedule = null;
+            Iterator<ConfirmedScheduleParticipantRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ConfirmedScheduleParticipantRow row = iterator.next();
+                if (!row.getConfirmedScheduleId().equals(currentConfirmedScheduleId)) {
+                    if (currentConfirmedSchedule != null) {
+                        confirmedScheduleWriter.writeValue(generator, currentConfirmedSchedule);
+                    }
+                    currentConfirmedScheduleId = row.getConfirmedScheduleId();
+                    currentConfirmedSchedule = row.toResponse();
+                }
+                row.participant().ifPresent(currentConfirmedSchedule.getConfirmedParticipants()::add);
+            }
+            if (currentConfirmedSchedule != null) {
+                confirmedScheduleWriter.writeValue(generator, currentConfirmedSchedule);
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeScheduleCandidates(long groupId, ScheduleCandidateReadRequest scheduleCandidateReadRequest, OutputStream outputStream) throws IOException {
+        ObjectWriter scheduleCandidateWriter = elementWriter(ScheduleCandidateReadAllResponse.class);
+        LocalDateTime startDateTime = scheduleCandidateReadRequest.getStartDate().atStartOfDay();
+        LocalDateTime endDateTime = scheduleCandidateReadRequest.getEndDate().atStartOfDay();
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+             Stream<ScheduleCandidateReadAllResponse> scheduleCandidates = scheduleCandidateRepository.streamAllByDateTimeIncluding(groupId, startDateTime, endDateTime)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("schedule_candidates");
+
+            // 일반 조회와 같은 규칙으로 나누되, 날짜 순으로 넘어오므로 날짜가 바뀔 때마다 새 배열을 연다.
+            // 여러 날에 걸친 후보만 DayBuckets 가 들고 있으므로 힙 사용량은 전체 후보 수와 관계없다.
+            LocalDate[] currentDate = {null};
+            DayBuckets.forEach(
+                    scheduleCandidates.iterator(),
+                    ScheduleCandidateReadAllResponse::getStartDateTime,
+                    ScheduleCandidateReadAllResponse::getEndDateTime,
+                    scheduleCandidateReadRequest.dayBucketingPolicy(),
+                    startDateTime,
+                    endDateTime,
+                    (LocalDate date, ScheduleCandidateReadAllResponse scheduleCandidate) -> {
+                        if (!date.equals(currentDate[0])) {
+                            if (currentDate[0] != null) {
+                                generator.writeEndArray();
+                            }
+                            generator.writeArrayFieldStart(date.toString());
+                            currentDate[0] = date;
+                        }
+                        scheduleCandidateWriter.writeValue(generator, scheduleCandidate);
+                    }
+            );
+            if (currentDate[0] != null) {
+                generator.writeEndArray();
+            }
+
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    // 원소마다 flush 하지 않고 generator 버퍼가 찰 때만 내보낸다.
+    private ObjectWriter elementWriter(Class<?> elementType) {
+        return objectMapper.writerFor(elementType)
+                           .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+}
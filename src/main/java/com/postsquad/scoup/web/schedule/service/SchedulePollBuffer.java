@@ -0,0 +1,394 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.schedule.exception.SchedulePollInFlightException;
+import com.postsquad.scoup.web.schedule.repository.ScheduleCandidateRepositoryImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 투표를 메모리에 모았다가 JDBC batch 로 저장하는 write-behind 버퍼.
+ * (후보, 사용자) 단위로 중복을 제거하며, 주기(flush-interval-millis)마다 또는 batch-size 만큼 쌓이면 저장한다.
+ * 버퍼가 가득 차면 offer 가 거절되고 호출한 쪽은 동기 저장으로 처리한다.
+ * 버퍼 크기와 투표 처리 수는 schedule.poll.buffer.* 메트릭으로 내보낸다.
+ */
+@Slf4j
+@Component
+public class SchedulePollBuffer implements MeterBinder {
+
+    private static final String INCREASE_POLL_COUNT_SQL =
+            "update \"schedule_candidate\" set \"poll_count\" = \"poll_count\" + ? where \"id\" = ?";
+
+    // 드라이버가 batch 결과 행 수를 알려주지 않는 경우(SUCCESS_NO_INFO) 투표 행 수로 다시 맞춘다.
+    private static final String RECOUNT_POLL_COUNT_SQL =
+            "update \"schedule_candidate\" set \"poll_count\" = " +
+            "(select count(*) from \"schedule_candidate_polled_user\" v where v.\"schedule_candidate_id\" = ?) " +
+            "where \"id\" = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+
+    private final int capacity;
+
+    private final int batchSize;
+
+    private final long cancelWaitMillis;
+
+    private final Object lock = new Object();
+
+    private final LinkedHashSet<PendingVote> pendingVotes = new LinkedHashSet<>();
+
+    private final Set<PendingVote> inFlightVotes = new HashSet<>();
+
+    // 아직 DB 에 반영되지 않은(pending + in-flight) 후보별 투표 수
+    private final Map<Long, Integer> bufferedCounts = new HashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "schedule-poll-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder acceptedVotes = new LongAdder();
+
+    private final LongAdder duplicatedVotes = new LongAdder();
+
+    private final LongAdder rejectedVotes = new LongAdder();
+
+    private final LongAdder flushedVotes = new LongAdder();
+
+    private final LongAdder failedVotes = new LongAdder();
+
+    private final AtomicLong lastFlushDurationMillis = new AtomicLong();
+
+    public SchedulePollBuffer(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${schedule.poll.write-behind.enabled:false}") boolean enabled,
+            @Value("${schedule.poll.write-behind.capacity:10000}") int capacity,
+            @Value("${schedule.poll.write-behind.batch-size:500}") int batchSize,
+            @Value("${schedule.poll.write-behind.cancel-wait-millis:5000}") long cancelWaitMillis
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.cancelWaitMillis = cancelWaitMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 투표를 버퍼에 넣고 해당 후보의 아직 저장되지 않은 투표 수를 반환한다. 버퍼가 가득 차면 비어 있는 값을 반환한다.
+     */
+    public OptionalInt offer(long scheduleCandidateId, long userId) {
+        PendingVote pendingVote = new PendingVote(scheduleCandidateId, userId);
+        int bufferedCount;
+        boolean batchFilled;
+        synchronized (lock) {
+            if (pendingVotes.contains(pendingVote) || inFlightVotes.contains(pendingVote)) {
+                duplicatedVotes.increment();
+                return OptionalInt.of(bufferedCounts.getOrDefault(scheduleCandidateId, 0));
+            }
+
+            if (pendingVotes.size() + inFlightVotes.size() >= capacity) {
+                rejectedVotes.increment();
+                return OptionalInt.empty();
+            }
+
+            pendingVotes.add(pendingVote);
+            bufferedCount = bufferedCounts.merge(scheduleCandidateId, 1, Integer::sum);
+            batchFilled = pendingVotes.size() >= batchSize;
+        }
+
+        acceptedVotes.increment();
+        if (batchFilled && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flush);
+        }
+
+        return OptionalInt.of(bufferedCount);
+    }
+
+    /**
+     * 아직 저장되지 않은 투표를 버퍼에서 지운다. 저장 중인 투표라면 저장이 끝날 때까지 기다린 뒤 false 를 반환한다.
+     * false 를 받은 쪽은 DB 에서 투표 행을 지우면 된다.
+     * cancel-wait-millis 안에 저장이 끝나지 않으면 SchedulePollInFlightException 을 던진다.
+     *
+     * @return 버퍼에서 지웠으면 true
+     */
+    public boolean cancel(long scheduleCandidateId, long userId) {
+        if (!enabled) {
+            return false;
+        }
+
+        PendingVote pendingVote = new PendingVote(scheduleCandidateId, userId);
+        synchronized (lock) {
+            if (pendingVotes.remove(pendingVote)) {
+                decreaseBufferedCount(scheduleCandidateId);
+                return true;
+            }
+
+            long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(cancelWaitMillis);
+            while (inFlightVotes.contains(pendingVote)) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    throw new SchedulePollInFlightException();
+                }
+
+                try {
+                    lock.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SchedulePollInFlightException();
+                }
+            }
+            return false;
+        }
+    }
+
+    public int bufferedCount(long scheduleCandidateId) {
+        synchronized (lock) {
+            return bufferedCounts.getOrDefault(scheduleCandidateId, 0);
+        }
+    }
+
+    /**
+     * 아직 저장되지 않은(pending + in-flight) 투표의 후보 id 별 사용자 id.
+     */
+    public Map<Long, List<Long>> bufferedVoterIds() {
+        Map<Long, List<Long>> bufferedVoterIds = new HashMap<>();
+        if (!enabled) {
+            return bufferedVoterIds;
+        }
+
+        synchronized (lock) {
+            pendingVotes.forEach(pendingVote -> bufferedVoterIds.computeIfAbsent(pendingVote.getScheduleCandidateId(), ignored -> new ArrayList<>()).add(pendingVote.getUserId()));
+            inFlightVotes.forEach(pendingVote -> bufferedVoterIds.computeIfAbsent(pendingVote.getScheduleCandidateId(), ignored -> new ArrayList<>()).add(pendingVote.getUserId()));
+        }
+        return bufferedVoterIds;
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.poll.write-behind.flush-interval-millis:200}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        flushRequested.set(false);
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            List<PendingVote> batch;
+            while (!(batch = drain()).isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // MeterRegistryPostProcessor 가 MeterBinder 빈을 찾아 등록한다. 꺼져 있으면 내보낼 값이 없으므로 등록하지 않는다.
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        if (!enabled) {
+            return;
+        }
+
+        Gauge.builder("schedule.poll.buffer.capacity", () -> capacity)
+             .register(meterRegistry);
+        Gauge.builder("schedule.poll.buffer.pending", this, SchedulePollBuffer::pendingVoteCount)
+             .register(meterRegistry);
+        Gauge.builder("schedule.poll.buffer.in.flight", this, SchedulePollBuffer::inFlightVoteCount)
+             .register(meterRegistry);
+        // rejected 는 버퍼가 가득 차서 동기 저장으로 넘어간 투표 수다.
+        registerVoteCounter(meterRegistry, "schedule.poll.buffer.offers", "accepted", acceptedVotes);
+        registerVoteCounter(meterRegistry, "schedule.poll.buffer.offers", "duplicated", duplicatedVotes);
+        registerVoteCounter(meterRegistry, "schedule.poll.buffer.offers", "rejected", rejectedVotes);
+        registerVoteCounter(meterRegistry, "schedule.poll.buffer.writes", "flushed", flushedVotes);
+        registerVoteCounter(meterRegistry, "schedule.poll.buffer.writes", "failed", failedVotes);
+        TimeGauge.builder("schedule.poll.buffer.last.flush.duration", lastFlushDurationMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                 .register(meterRegistry);
+    }
+
+    private static void registerVoteCounter(MeterRegistry meterRegistry, String name, String result, LongAdder votes) {
+        FunctionCounter.builder(name, votes, LongAdder::sum)
+                       .tag("result", result)
+                       .register(meterRegistry);
+    }
+
+    private int pendingVoteCount() {
+        synchronized (lock) {
+            return pendingVotes.size();
+        }
+    }
+
+    private int inFlightVoteCount() {
+        synchronized (lock) {
+            return inFlightVotes.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    private List<PendingVote> drain() {
+        synchronized (lock) {
+            List<PendingVote> batch = new ArrayList<>(Math.min(batchSize, pendingVotes.size()));
+            Iterator<PendingVote> iterator = pendingVotes.iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                PendingVote pendingVote = iterator.next();
+                iterator.remove();
+                inFlightVotes.add(pendingVote);
+                batch.add(pendingVote);
+            }
+            return batch;
+        }
+    }
+
+    private void write(List<PendingVote> batch) {
+        long startNanos = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+            flushedVotes.add(batch.size());
+        } catch (DuplicateKeyException duplicateKeyException) {
+            // 버퍼가 가득 차서 바로 저장된 같은 투표와 겹친 경우다. 하나씩 다시 저장하면서 이미 있는 투표는 건너뛴다.
+            log.debug("Buffered votes overlapped with stored votes. Retrying {} votes one by one.", batch.size(), duplicateKeyException);
+            writeEach(batch);
+        } catch (RuntimeException batchException) {
+            log.warn("Failed to flush {} buffered votes as a batch. Retrying one by one.", batch.size(), batchException);
+            writeEach(batch);
+        } finally {
+            complete(batch);
+            lastFlushDurationMillis.set((System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+
+    private void writeEach(List<PendingVote> batch) {
+        for (PendingVote pendingVote : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeBatch(List.of(pendingVote)));
+                flushedVotes.increment();
+            } catch (DuplicateKeyException duplicateKeyException) {
+                // 이미 저장된 투표라 추가할 행이 없다.
+                flushedVotes.increment();
+            } catch (RuntimeException voteException) {
+                failedVotes.increment();
+                log.error("Dropped buffered vote of user {} for schedule candidate {}.", pendingVote.getUserId(), pendingVote.getScheduleCandidateId(), voteException);
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingVote> batch) {
+        int[] insertedRows = jdbcTemplate.batchUpdate(ScheduleCandidateRepositoryImpl.INSERT_POLLED_USER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement preparedStatement, int i) throws SQLException {
+                PendingVote pendingVote = batch.get(i);
+                preparedStatement.setLong(1, pendingVote.getUserId());
+                preparedStatement.setLong(2, pendingVote.getScheduleCandidateId());
+                preparedStatement.setLong(3, pendingVote.getUserId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+
+        Map<Long, Integer> insertedCounts = new HashMap<>();
+        Set<Long> scheduleCandidateIdsToRecount = new HashSet<>();
+        for (int i = 0; i < insertedRows.length; i++) {
+            long scheduleCandidateId = batch.get(i).getScheduleCandidateId();
+            if (insertedRows[i] == Statement.SUCCESS_NO_INFO) {
+                scheduleCandidateIdsToRecount.add(scheduleCandidateId);
+            } else if (insertedRows[i] > 0) {
+                insertedCounts.merge(scheduleCandidateId, insertedRows[i], Integer::sum);
+            }
+        }
+        insertedCounts.keySet().removeAll(scheduleCandidateIdsToRecount);
+
+        List<Object[]> increments = new ArrayList<>();
+        insertedCounts.forEach((scheduleCandidateId, insertedCount) -> increments.add(new Object[]{insertedCount, scheduleCandidateId}));
+        if (!increments.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREASE_POLL_COUNT_SQL, increments);
+        }
+
+        List<Object[]> recounts = new ArrayList<>();
+        scheduleCandidateIdsToRecount.forEach(scheduleCandidateId -> recounts.add(new Object[]{scheduleCandidateId, scheduleCandidateId}));
+        if (!recounts.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECOUNT_POLL_COUNT_SQL, recounts);
+        }
+    }
+
+    private void complete(List<PendingVote> batch) {
+        synchronized (lock) {
+            for (PendingVote pendingVote : batch) {
+                inFlightVotes.remove(pendingVote);
+                decreaseBufferedCount(pendingVote.getScheduleCandidateId());
+            }
+            lock.notifyAll();
+        }
+    }
+
+    private void decreaseBufferedCount(long scheduleCandidateId) {
+        bufferedCounts.computeIfPresent(scheduleCandidateId, (id, bufferedCount) -> bufferedCount > 1 ? bufferedCount - 1 : null);
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @Getter
+    private static class PendingVote {
+
+        private final long scheduleCandidateId;
+
+        private final long userId;
+    }
+}
@@ -1,30 +1,136 @@
 package com.postsquad.scoup.web.schedule.service;
 
 import com.postsquad.scoup.web.schedule.controller.request.SchedulePollRequest;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateVotersResponse;
 import com.postsquad.scoup.web.schedule.controller.response.SchedulePollResponse;
-import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleVotersResponse;
+import com.postsquad.scoup.web.schedule.domain.ScheduleVoterBitmap;
+import com.postsquad.scoup.web.schedule.event.SchedulePollCancelledEvent;
+import com.postsquad.scoup.web.schedule.event.SchedulePolledEvent;
 import com.postsquad.scoup.web.schedule.exception.ScheduleCandidateNotFoundException;
+import com.postsquad.scoup.web.schedule.exception.ScheduleNotFoundException;
 import com.postsquad.scoup.web.schedule.repository.ScheduleCandidateRepository;
-import com.postsquad.scoup.web.user.domain.User;
+import com.postsquad.scoup.web.schedule.repository.SchedulePollState;
+import com.postsquad.scoup.web.schedule.repository.ScheduleRepository;
+import com.postsquad.scoup.web.signin.domain.SignInUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class SchedulePollService {
 
+    private final ScheduleRepository scheduleRepository;
+
     private final ScheduleCandidateRepository scheduleCandidateRepository;
 
+    private final SchedulePollBuffer schedulePollBuffer;
+
+    private final ScheduleVoterBitmapCache scheduleVoterBitmapCache;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Transactional
+    public SchedulePollResponse poll(long groupId, long scheduleId, SchedulePollRequest schedulePollRequest, SignInUser signInUser) {
+        long scheduleCandidateId = schedulePollRequest.getScheduleCandidateId();
+        verifyScheduleCandidate(groupId, scheduleId, scheduleCandidateId);
+        SchedulePollResponse schedulePollResponse = pollAndCount(scheduleCandidateId, signInUser);
+        applicationEventPublisher.publishEvent(SchedulePolledEvent.of(scheduleId, scheduleCandidateId, signInUser.getId()));
+        return schedulePollResponse;
+    }
+
+    /**
+     * 투표를 취소한다. 투표하지 않은 후보를 취소해도 실패하지 않는다.
+     */
     @Transactional
-    public SchedulePollResponse poll(SchedulePollRequest schedulePollRequest, User user) {
-        ScheduleCandidate scheduleCandidate = scheduleCandidateRepository
-                .findById(schedulePollRequest.getScheduleCandidateId())
-                .orElseThrow(ScheduleCandidateNotFoundException::new);
-        scheduleCandidate.poll(user);
+    public SchedulePollResponse cancel(long groupId, long scheduleId, SchedulePollRequest schedulePollRequest, SignInUser signInUser) {
+        long scheduleCandidateId = schedulePollRequest.getScheduleCandidateId();
+        verifyScheduleCandidate(groupId, scheduleId, scheduleCandidateId);
+        schedulePollBuffer.cancel(scheduleCandidateId, signInUser.getId());
+        if (scheduleCandidateRepository.deletePolledUser(scheduleCandidateId, signInUser.getId()) > 0) {
+            scheduleCandidateRepository.decreasePollCount(scheduleCandidateId);
+        }
+
+        int pollCount = scheduleCandidateRepository.findPollCountById(scheduleCandidateId)
+                                                   .orElseThrow(ScheduleCandidateNotFoundException::new);
+        applicationEventPublisher.publishEvent(SchedulePollCancelledEvent.of(scheduleId, scheduleCandidateId, signInUser.getId()));
+        return schedulePollResponse(pollCount + schedulePollBuffer.bufferedCount(scheduleCandidateId));
+    }
+
+    public ScheduleVotersResponse readVoters(long groupId, long scheduleId) {
+        if (!scheduleRepository.existsByIdAndGroupId(scheduleId, groupId)) {
+            throw new ScheduleNotFoundException();
+        }
+
+        ScheduleVoterBitmap scheduleVoterBitmap = scheduleVoterBitmapCache.get(scheduleId);
+        List<ScheduleCandidateVotersResponse> scheduleCandidates = scheduleVoterBitmap.getScheduleCandidateIds().stream()
+                                                                                      .map(scheduleCandidateId -> scheduleCandidateVotersResponse(scheduleVoterBitmap, scheduleCandidateId))
+                                                                                      .collect(Collectors.toList());
+
+        return ScheduleVotersResponse.builder()
+                                     .scheduleCandidates(scheduleCandidates)
+                                     .commonVoterIds(new ArrayList<>(scheduleVoterBitmap.commonVoterIds(scheduleVoterBitmap.getScheduleCandidateIds())))
+                                     .build();
+    }
+
+    // 다른 스케줄의 후보에 투표하면 그 스케줄의 투표 수가 바뀌고 집계는 경로의 스케줄 구독자에게 나가므로, 경로의 그룹과 스케줄에 속한 후보만 받는다.
+    private void verifyScheduleCandidate(long groupId, long scheduleId, long scheduleCandidateId) {
+        if (!scheduleRepository.existsByIdAndGroupId(scheduleId, groupId)) {
+            throw new ScheduleNotFoundException();
+        }
+
+        if (!scheduleCandidateRepository.existsByIdAndScheduleId(scheduleCandidateId, scheduleId)) {
+            throw new ScheduleCandidateNotFoundException();
+        }
+    }
+
+    private SchedulePollResponse pollAndCount(long scheduleCandidateId, SignInUser signInUser) {
+        if (schedulePollBuffer.isEnabled()) {
+            SchedulePollState schedulePollState = scheduleCandidateRepository.findPollState(scheduleCandidateId, signInUser.getId())
+                                                                             .orElseThrow(ScheduleCandidateNotFoundException::new);
+            if (schedulePollState.isPolled()) {
+                return schedulePollResponse(schedulePollState.getPollCount() + schedulePollBuffer.bufferedCount(scheduleCandidateId));
+            }
+
+            OptionalInt bufferedCount = schedulePollBuffer.offer(scheduleCandidateId, signInUser.getId());
+            if (bufferedCount.isPresent()) {
+                return schedulePollResponse(schedulePollState.getPollCount() + bufferedCount.getAsInt());
+            }
+            // 버퍼가 가득 찬 경우 바로 저장한다.
+        }
+
+        return pollImmediately(scheduleCandidateId, signInUser);
+    }
+
+    private SchedulePollResponse pollImmediately(long scheduleCandidateId, SignInUser signInUser) {
+        if (scheduleCandidateRepository.insertPolledUser(scheduleCandidateId, signInUser.getId()) > 0) {
+            scheduleCandidateRepository.increasePollCount(scheduleCandidateId);
+        }
+
+        int pollCount = scheduleCandidateRepository.findPollCountById(scheduleCandidateId)
+                                                   .orElseThrow(ScheduleCandidateNotFoundException::new);
+
+        return schedulePollResponse(pollCount);
+    }
+
+    private ScheduleCandidateVotersResponse scheduleCandidateVotersResponse(ScheduleVoterBitmap scheduleVoterBitmap, long scheduleCandidateId) {
+        return ScheduleCandidateVotersResponse.builder()
+                                              .scheduleCandidateId(scheduleCandidateId)
+                                              .pollCount(scheduleVoterBitmap.pollCount(scheduleCandidateId))
+                                              .voterIds(new ArrayList<>(scheduleVoterBitmap.voterIds(scheduleCandidateId)))
+                                              .build();
+    }
 
+    private SchedulePollResponse schedulePollResponse(int pollCount) {
         return SchedulePollResponse.builder()
-                .pollCount(scheduleCandidate.pollCount())
+                .pollCount(pollCount)
                 .build();
     }
 }
@@ -0,0 +1,157 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.schedule.controller.response.SchedulePollCountResponse;
+import com.postsquad.scoup.web.schedule.controller.response.SchedulePollTallyResponse;
+import com.postsquad.scoup.web.schedule.event.SchedulePollCancelledEvent;
+import com.postsquad.scoup.web.schedule.event.SchedulePolledEvent;
+import com.postsquad.scoup.web.schedule.exception.ScheduleNotFoundException;
+import com.postsquad.scoup.web.schedule.repository.ScheduleCandidateRepository;
+import com.postsquad.scoup.web.schedule.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 스케줄별 투표 집계를 SSE 로 내보낸다.
+ * 투표나 취소가 커밋되면(SchedulePolledEvent, SchedulePollCancelledEvent) 바뀐 후보만 표시해 두고, interval-millis 마다 스케줄당 한 프레임으로 모아서 보낸다.
+ * 프레임의 투표 수는 보낼 때 후보 행과 write-behind 버퍼에서 다시 읽으므로 이벤트의 순서가 뒤바뀌어도 최신 값이 나간다.
+ * 구독자가 없는 스케줄의 투표는 표시하지 않는다.
+ */
+@Slf4j
+@Component
+public class SchedulePollTallyBroadcaster {
+
+    private static final String TALLY_EVENT_NAME = "tally";
+
+    private final ScheduleRepository scheduleRepository;
+
+    private final ScheduleCandidateRepository scheduleCandidateRepository;
+
+    private final SchedulePollBuffer schedulePollBuffer;
+
+    private final long emitterTimeoutMillis;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private final Map<Long, Set<Long>> changedCandidateIds = new ConcurrentHashMap<>();
+
+    public SchedulePollTallyBroadcaster(
+            ScheduleRepository scheduleRepository,
+            ScheduleCandidateRepository scheduleCandidateRepository,
+            SchedulePollBuffer schedulePollBuffer,
+            @Value("${schedule.poll.tally-push.emitter-timeout-millis:300000}") long emitterTimeoutMillis
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.scheduleCandidateRepository = scheduleCandidateRepository;
+        this.schedulePollBuffer = schedulePollBuffer;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    public SseEmitter subscribe(long groupId, long scheduleId) {
+        if (!scheduleRepository.existsByIdAndGroupId(scheduleId, groupId)) {
+            throw new ScheduleNotFoundException();
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        register(scheduleId, emitter);
+        send(scheduleId, emitter, tally(scheduleId, scheduleCandidateRepository.findPollCountsByScheduleId(scheduleId)));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulePolled(SchedulePolledEvent event) {
+        markChanged(event.getScheduleId(), event.getScheduleCandidateId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulePollCancelled(SchedulePollCancelledEvent event) {
+        markChanged(event.getScheduleId(), event.getScheduleCandidateId());
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.poll.tally-push.interval-millis:250}")
+    public void flush() {
+        for (Long scheduleId : changedCandidateIds.keySet()) {
+            Set<Long> scheduleCandidateIds = changedCandidateIds.remove(scheduleId);
+            List<SseEmitter> scheduleEmitters = emitters.get(scheduleId);
+            if (scheduleCandidateIds == null || scheduleEmitters == null) {
+                continue;
+            }
+
+            SchedulePollTallyResponse tally = tally(scheduleId, scheduleCandidateRepository.findPollCountsByIds(scheduleId, scheduleCandidateIds));
+            scheduleEmitters.forEach(emitter -> send(scheduleId, emitter, tally));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.values().forEach(scheduleEmitters -> scheduleEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    void register(long scheduleId, SseEmitter emitter) {
+        emitters.computeIfAbsent(scheduleId, ignored -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> unregister(scheduleId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(throwable -> unregister(scheduleId, emitter));
+    }
+
+    private void markChanged(long scheduleId, long scheduleCandidateId) {
+        if (!emitters.containsKey(scheduleId)) {
+            return;
+        }
+
+        // flush 의 remove 와 엇갈려 떼어 낸 집합에 추가되지 않도록 맵 안에서 원자적으로 추가한다.
+        changedCandidateIds.compute(scheduleId, (id, scheduleCandidateIds) -> {
+            Set<Long> changed = scheduleCandidateIds == null ? new HashSet<>() : scheduleCandidateIds;
+            changed.add(scheduleCandidateId);
+            return changed;
+        });
+    }
+
+    private void unregister(long scheduleId, SseEmitter emitter) {
+        emitters.computeIfPresent(scheduleId, (id, scheduleEmitters) -> {
+            scheduleEmitters.remove(emitter);
+            return scheduleEmitters.isEmpty() ? null : scheduleEmitters;
+        });
+    }
+
+    private SchedulePollTallyResponse tally(long scheduleId, List<SchedulePollCountResponse> pollCounts) {
+        List<SchedulePollCountResponse> bufferedPollCounts = new ArrayList<>(pollCounts.size());
+        for (SchedulePollCountResponse pollCount : pollCounts) {
+            bufferedPollCounts.add(new SchedulePollCountResponse(
+                    pollCount.getScheduleCandidateId(),
+                    pollCount.getPollCount() + schedulePollBuffer.bufferedCount(pollCount.getScheduleCandidateId())
+            ));
+        }
+
+        return SchedulePollTallyResponse.builder()
+                                        .scheduleId(scheduleId)
+                                        .pollCounts(bufferedPollCounts)
+                                        .build();
+    }
+
+    private void send(long scheduleId, SseEmitter emitter, SchedulePollTallyResponse tally) {
+        try {
+            emitter.send(SseEmitter.event()
+                                   .name(TALLY_EVENT_NAME)
+                                   .data(tally, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropped poll tally subscriber of schedule {}", scheduleId, e);
+            unregister(scheduleId, emitter);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.postsquad.scoup.web.schedule.service;
 
 import com.postsquad.scoup.web.common.DefaultPostResponse;
+import com.postsquad.scoup.web.common.RequestTimings;
 import com.postsquad.scoup.web.schedule.controller.request.ScheduleCreationRequest;
 import com.postsquad.scoup.web.schedule.controller.response.ScheduleReadOneResponse;
 import com.postsquad.scoup.web.schedule.domain.Schedule;
 import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.schedule.exception.ScheduleNotFoundException;
 import com.postsquad.scoup.web.schedule.mapper.ScheduleMapper;
 import com.postsquad.scoup.web.schedule.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -16,17 +19,20 @@ public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
 
+    private final ScheduleCandidateIntervalIndex scheduleCandidateIntervalIndex;
+
+    @Transactional(readOnly = true)
     public ScheduleReadOneResponse readOne(long scheduleId) {
-        Schedule schedule = scheduleRepository.findById(scheduleId)
-                          // TODO NotFoundError 만들어주기
-                .orElseThrow(IllegalArgumentException::new);
+        Schedule schedule = scheduleRepository.findDetailById(scheduleId)
+                                              .orElseThrow(ScheduleNotFoundException::new);
 
-        return ScheduleMapper.INSTANCE.toScheduleReadOneResponse(schedule);
+        return RequestTimings.mapping(() -> ScheduleMapper.INSTANCE.toScheduleReadOneResponse(schedule));
     }
 
     public DefaultPostResponse create(long groupId, ScheduleCreationRequest scheduleCreationRequest) {
         Schedule scheduleToSave = ScheduleMapper.INSTANCE.map(groupId, scheduleCreationRequest);
         scheduleRepository.save(scheduleToSave);
+        scheduleCandidateIntervalIndex.evict(groupId);
         return DefaultPostResponse.from(scheduleToSave);
     }
 }
@@ -0,0 +1,75 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.postsquad.scoup.web.schedule.domain.ScheduleVoterBitmap;
+import com.postsquad.scoup.web.schedule.event.SchedulePollCancelledEvent;
+import com.postsquad.scoup.web.schedule.event.SchedulePolledEvent;
+import com.postsquad.scoup.web.schedule.repository.ScheduleVoterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스케줄별 투표자 비트셋을 캐시한다.
+ * 투표나 취소가 커밋되면(SchedulePolledEvent, SchedulePollCancelledEvent) 캐시된 비트셋에 바로 반영하므로 다시 읽지 않는다.
+ * 아직 write-behind 버퍼에만 있는 투표도 읽을 때 함께 반영한다. 버퍼를 DB 보다 먼저 읽어야, 그 사이에 저장된 투표를 놓치지 않는다.
+ */
+@Component
+public class ScheduleVoterBitmapCache {
+
+    private final ScheduleVoterRepository scheduleVoterRepository;
+
+    private final SchedulePollBuffer schedulePollBuffer;
+
+    private final Cache<Long, ScheduleVoterBitmap> bitmaps;
+
+    public ScheduleVoterBitmapCache(
+            ScheduleVoterRepository scheduleVoterRepository,
+            SchedulePollBuffer schedulePollBuffer,
+            @Value("${schedule.poll.voter-bitmap.maximum-size:10000}") long maximumSize,
+            @Value("${schedule.poll.voter-bitmap.expire-after-write-seconds:600}") long expireAfterWriteSeconds
+    ) {
+        this.scheduleVoterRepository = scheduleVoterRepository;
+        this.schedulePollBuffer = schedulePollBuffer;
+        this.bitmaps = Caffeine.newBuilder()
+                               .maximumSize(maximumSize)
+                               .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                               .build();
+    }
+
+    public ScheduleVoterBitmap get(long scheduleId) {
+        return bitmaps.get(scheduleId, this::load);
+    }
+
+    public void evict(long scheduleId) {
+        bitmaps.invalidate(scheduleId);
+    }
+
+    public void evictAll() {
+        bitmaps.invalidateAll();
+    }
+
+    // 읽는 중인 스케줄이면 읽기가 끝날 때까지 기다렸다가 반영된다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulePolled(SchedulePolledEvent event) {
+        bitmaps.asMap().computeIfPresent(event.getScheduleId(), (scheduleId, bitmap) -> bitmap.withVote(event.getScheduleCandidateId(), event.getUserId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSchedulePollCancelled(SchedulePollCancelledEvent event) {
+        bitmaps.asMap().computeIfPresent(event.getScheduleId(), (scheduleId, bitmap) -> bitmap.withoutVote(event.getScheduleCandidateId(), event.getUserId()));
+    }
+
+    private ScheduleVoterBitmap load(long scheduleId) {
+        Map<Long, List<Long>> bufferedVoterIds = schedulePollBuffer.bufferedVoterIds();
+        Map<Long, List<Long>> voterIds = scheduleVoterRepository.findVoterIdsByScheduleId(scheduleId);
+        voterIds.forEach((scheduleCandidateId, candidateVoterIds) -> candidateVoterIds.addAll(bufferedVoterIds.getOrDefault(scheduleCandidateId, new ArrayList<>())));
+        return ScheduleVoterBitmap.of(voterIds);
+    }
+}
@@ -1,17 +1,20 @@
 package com.postsquad.scoup.web.signin.controller;
 
-import com.nimbusds.jwt.SignedJWT;
+import com.postsquad.scoup.web.signin.domain.SignInUser;
 import com.postsquad.scoup.web.signin.exception.AuthorizationFailedException;
-import com.postsquad.scoup.web.signin.exception.UserNotFoundException;
-import com.postsquad.scoup.web.user.domain.User;
-import com.postsquad.scoup.web.user.repository.UserRepository;
+import com.postsquad.scoup.web.signin.service.SignInTokenVerifier;
+import com.postsquad.scoup.web.signin.service.SignInUserCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.List;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Component
@@ -23,21 +26,49 @@ public class SignInInterceptor implements HandlerInterceptor {
 
     private static final List<String> PATH_TO_EXCLUDE = List.of();
 
-    private final UserRepository userRepository;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // 브라우저 EventSource 는 헤더를 붙일 수 없으므로 SSE 요청에 한해 쿼리 파라미터로 토큰을 받는다.
+    private static final String ACCESS_TOKEN_PARAMETER = "access_token";
+
+    private final SignInTokenVerifier signInTokenVerifier;
+
+    private final SignInUserCache signInUserCache;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String authorization = request.getHeader("Authorization");
+        String token = extractToken(request);
+        long userId = signInTokenVerifier.verify(token);
+        SignInUser signInUser = signInUserCache.get(userId);
+        request.setAttribute("user", signInUser);
+
+        return true;
+    }
+
+    private String extractToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null && acceptsEventStream(request)) {
+            authorization = Optional.ofNullable(request.getParameter(ACCESS_TOKEN_PARAMETER))
+                                    .map(accessToken -> BEARER_PREFIX + accessToken)
+                                    .orElse(null);
+        }
+
         if (authorization == null) {
             throw new AuthorizationFailedException("Sign in required");
         }
 
-        String token = authorization.substring("Bearer ".length());
-        Long userId = Long.parseLong(SignedJWT.parse(token).getJWTClaimsSet().getSubject());
-        User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
-        request.setAttribute("user", user);
+        if (!authorization.startsWith(BEARER_PREFIX)) {
+            throw new AuthorizationFailedException("Bearer token required");
+        }
+
+        return authorization.substring(BEARER_PREFIX.length());
+    }
 
-        return true;
+    private boolean acceptsEventStream(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return HttpMethod.GET.matches(request.getMethod())
+                && accept != null
+                && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
     }
 
     public List<String> pathToInclude() {
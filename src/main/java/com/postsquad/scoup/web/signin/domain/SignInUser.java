@@ -0,0 +1,29 @@
+package com.postsquad.scoup.web.signin.domain;
+
+import com.postsquad.scoup.web.user.domain.User;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 로그인한 사용자(principal). SignInUserCache 에 캐시되어 여러 요청이 함께 쓰므로 엔티티 대신 바뀌지 않는 값만 담는다.
+ * 엔티티가 필요하면 id 로 다시 읽는다.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+@Getter
+@ToString
+public final class SignInUser {
+
+    private final long id;
+
+    private final String nickname;
+
+    private final String email;
+
+    public static SignInUser from(User user) {
+        return new SignInUser(user.getId(), user.getNickname(), user.getEmail());
+    }
+}
@@ -0,0 +1,43 @@
+package com.postsquad.scoup.web.signin.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import lombok.Getter;
+
+/**
+ * kid 하나에 대한 서명/검증 객체.
+ * MACSigner, MACVerifier, JWSHeader 는 모두 thread-safe 하므로 한 번 만들어 재사용한다.
+ */
+@Getter
+public class SignInKey {
+
+    private final String keyId;
+
+    private final JWSHeader jwsHeader;
+
+    private final JWSSigner jwsSigner;
+
+    private final JWSVerifier jwsVerifier;
+
+    private SignInKey(String keyId, String secret) throws JOSEException {
+        this.keyId = keyId;
+        this.jwsHeader = new JWSHeader.Builder(JWSAlgorithm.HS256)
+                .keyID(keyId)
+                .build();
+        this.jwsSigner = new MACSigner(secret);
+        this.jwsVerifier = new MACVerifier(secret);
+    }
+
+    public static SignInKey of(String keyId, String secret) {
+        try {
+            return new SignInKey(keyId, secret);
+        } catch (JOSEException joseException) {
+            throw new IllegalStateException("Invalid secret for sign in key '" + keyId + "'", joseException);
+        }
+    }
+}
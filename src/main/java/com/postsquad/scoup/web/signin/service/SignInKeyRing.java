@@ -0,0 +1,73 @@
+package com.postsquad.scoup.web.signin.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 토큰 서명 키 목록.
+ * 새 토큰은 활성 키(jwt.key.id)로만 서명하고, 검증은 kid 로 활성 키와 퇴역 키(jwt.retired.keys) 중에서 찾는다.
+ * 퇴역 키는 "kid:secret,kid:secret" 형식으로 설정하며, 기존 토큰이 모두 만료되면 설정에서 제거한다.
+ */
+@Component
+public class SignInKeyRing {
+
+    private static final String KEY_SEPARATOR = ",";
+
+    private static final String KEY_ID_SEPARATOR = ":";
+
+    private final SignInKey activeKey;
+
+    private final Map<String, SignInKey> keys;
+
+    public SignInKeyRing(
+            @Value("${jwt.key.id:default}") String activeKeyId,
+            @Value("${jwt.secret.mac}") String activeSecret,
+            @Value("${jwt.retired.keys:}") String retiredKeys
+    ) {
+        this.activeKey = SignInKey.of(activeKeyId, activeSecret);
+
+        Map<String, SignInKey> keys = new HashMap<>(parseRetiredKeys(retiredKeys));
+        keys.put(activeKeyId, activeKey);
+        this.keys = Collections.unmodifiableMap(keys);
+    }
+
+    public SignInKey activeKey() {
+        return activeKey;
+    }
+
+    /**
+     * kid 가 없는 토큰은 kid 도입 이전에 활성 키로 발급된 토큰으로 간주한다.
+     */
+    public Optional<SignInKey> find(String keyId) {
+        if (keyId == null) {
+            return Optional.of(activeKey);
+        }
+
+        return Optional.ofNullable(keys.get(keyId));
+    }
+
+    private static Map<String, SignInKey> parseRetiredKeys(String retiredKeys) {
+        Map<String, SignInKey> parsedKeys = new HashMap<>();
+        if (retiredKeys == null || retiredKeys.isBlank()) {
+            return parsedKeys;
+        }
+
+        for (String retiredKey : retiredKeys.split(KEY_SEPARATOR)) {
+            int separatorIndex = retiredKey.indexOf(KEY_ID_SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalStateException("Retired sign in key must be formatted as 'kid:secret'");
+            }
+
+            String keyId = retiredKey.substring(0, separatorIndex).trim();
+            String secret = retiredKey.substring(separatorIndex + 1).trim();
+            parsedKeys.put(keyId, SignInKey.of(keyId, secret));
+        }
+
+        return parsedKeys;
+    }
+}
@@ -25,9 +25,8 @@ public class SignInService {
             // TODO: 2-2-3에서 검증
         }
 
-        String accessToken = signInTokenGenerator.accessToken(user.getId());
-        String refreshToken = signInTokenGenerator.refreshToken(user.getId());
+        SignInTokens signInTokens = signInTokenGenerator.issue(user.getId());
 
-        return SignInResponseMapper.INSTANCE.map(user, accessToken, refreshToken);
+        return SignInResponseMapper.INSTANCE.map(user, signInTokens.getAccessToken(), signInTokens.getRefreshToken());
     }
 }
@@ -1,57 +1,66 @@
 package com.postsquad.scoup.web.signin.service;
 
-import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import lombok.SneakyThrows;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
 
+@RequiredArgsConstructor
 @Component
 public class SignInTokenGenerator {
 
-    @Value("${jwt.secret.mac}")
-    private String jwtSecret;
-    
-    public String accessToken(long userId) {
-        return signInToken(userId, LocalDateTime.now().plusMinutes(30));
-    }
+    private static final long ACCESS_TOKEN_VALIDITY_MINUTES = 30;
 
-    public String refreshToken(long userId) {
-        return signInToken(userId, LocalDateTime.now().plusWeeks(2));
-    }
+    private static final long REFRESH_TOKEN_VALIDITY_WEEKS = 2;
+
+    private final SignInKeyRing signInKeyRing;
+
+    /**
+     * access token 과 refresh token 을 같은 발급 시각과 키로 한 번에 발급한다.
+     */
+    public SignInTokens issue(long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        String subject = String.valueOf(userId);
+        SignInKey signInKey = signInKeyRing.activeKey();
 
-    private String signInToken(long userId, LocalDateTime expirationTime) {
-        return signInToken(String.valueOf(userId), Date.from(expirationTime.toInstant(ZoneOffset.UTC)));
+        return SignInTokens.of(
+                signInToken(signInKey, subject, SignInTokenType.ACCESS, now.plusMinutes(ACCESS_TOKEN_VALIDITY_MINUTES)),
+                signInToken(signInKey, subject, SignInTokenType.REFRESH, now.plusWeeks(REFRESH_TOKEN_VALIDITY_WEEKS))
+        );
     }
 
-    @SneakyThrows
-    private String signInToken(String userId, Date expirationTime) {
-        // TODO: 토큰 검증 들어갈때 처리하기
-        JWSSigner jwsSigner = new MACSigner(jwtSecret);
-        JWSHeader jwsHeader = new JWSHeader(JWSAlgorithm.HS256);
+    public String accessToken(long userId) {
+        return signInToken(signInKeyRing.activeKey(), String.valueOf(userId), SignInTokenType.ACCESS, LocalDateTime.now().plusMinutes(ACCESS_TOKEN_VALIDITY_MINUTES));
+    }
 
-        JWTClaimsSet jwtClaimsSet = claimsSetForSignInToken(userId, expirationTime);
+    public String refreshToken(long userId) {
+        return signInToken(signInKeyRing.activeKey(), String.valueOf(userId), SignInTokenType.REFRESH, LocalDateTime.now().plusWeeks(REFRESH_TOKEN_VALIDITY_WEEKS));
+    }
 
+    private String signInToken(SignInKey signInKey, String userId, SignInTokenType tokenType, LocalDateTime expirationTime) {
         SignedJWT signedJWT = new SignedJWT(
-                jwsHeader,
-                jwtClaimsSet
+                signInKey.getJwsHeader(),
+                claimsSetForSignInToken(userId, tokenType, Date.from(expirationTime.toInstant(ZoneOffset.UTC)))
         );
 
-        signedJWT.sign(jwsSigner);
+        try {
+            signedJWT.sign(signInKey.getJwsSigner());
+        } catch (JOSEException joseException) {
+            throw new IllegalStateException("Failed to sign token with key '" + signInKey.getKeyId() + "'", joseException);
+        }
+
         return signedJWT.serialize();
     }
 
-    private JWTClaimsSet claimsSetForSignInToken(String userId, Date expirationTime) {
+    private JWTClaimsSet claimsSetForSignInToken(String userId, SignInTokenType tokenType, Date expirationTime) {
         return new JWTClaimsSet.Builder()
                 .subject(userId)
+                .claim(SignInTokenType.CLAIM_NAME, tokenType.getClaimValue())
                 .expirationTime(expirationTime)
                 .build();
     }
@@ -0,0 +1,18 @@
+package com.postsquad.scoup.web.signin.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰의 typ claim 값. API 요청에는 access token 만 받는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SignInTokenType {
+    ACCESS("access"),
+    REFRESH("refresh");
+
+    public static final String CLAIM_NAME = "typ";
+
+    private final String claimValue;
+}
@@ -0,0 +1,81 @@
+package com.postsquad.scoup.web.signin.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.postsquad.scoup.web.signin.exception.AuthorizationFailedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+@RequiredArgsConstructor
+@Component
+public class SignInTokenVerifier {
+
+    private final SignInKeyRing signInKeyRing;
+
+    /**
+     * 서명과 만료 시간, access token 인지를 검증한 뒤 토큰의 subject(userId)를 반환한다.
+     */
+    public long verify(String token) {
+        SignedJWT signedJWT = parse(token);
+        if (!verifySignature(signedJWT)) {
+            throw new AuthorizationFailedException("Invalid token signature");
+        }
+
+        JWTClaimsSet jwtClaimsSet = claimsSet(signedJWT);
+        if (isExpired(jwtClaimsSet.getExpirationTime())) {
+            throw new AuthorizationFailedException("Token expired");
+        }
+
+        if (!isAccessToken(jwtClaimsSet)) {
+            throw new AuthorizationFailedException("Access token required");
+        }
+
+        try {
+            return Long.parseLong(jwtClaimsSet.getSubject());
+        } catch (NumberFormatException numberFormatException) {
+            throw new AuthorizationFailedException("Invalid token subject", numberFormatException);
+        }
+    }
+
+    private SignedJWT parse(String token) {
+        try {
+            return SignedJWT.parse(token);
+        } catch (ParseException parseException) {
+            throw new AuthorizationFailedException("Malformed token", parseException);
+        }
+    }
+
+    private boolean verifySignature(SignedJWT signedJWT) {
+        SignInKey signInKey = signInKeyRing.find(signedJWT.getHeader().getKeyID())
+                                           .orElseThrow(() -> new AuthorizationFailedException("Unknown token key id"));
+        try {
+            return signedJWT.verify(signInKey.getJwsVerifier());
+        } catch (JOSEException joseException) {
+            throw new AuthorizationFailedException("Invalid token signature", joseException);
+        }
+    }
+
+    private JWTClaimsSet claimsSet(SignedJWT signedJWT) {
+        try {
+            return signedJWT.getJWTClaimsSet();
+        } catch (ParseException parseException) {
+            throw new AuthorizationFailedException("Malformed token claims", parseException);
+        }
+    }
+
+    private boolean isAccessToken(JWTClaimsSet jwtClaimsSet) {
+        // typ claim 이 없던 이전 토큰도 refresh token 과 구분할 수 없으므로 거부한다.
+        return SignInTokenType.ACCESS.getClaimValue().equals(jwtClaimsSet.getClaim(SignInTokenType.CLAIM_NAME));
+    }
+
+    private boolean isExpired(Date expirationTime) {
+        // SignInTokenGenerator 와 같은 기준(LocalDateTime.now() 를 UTC 로 간주)으로 비교한다.
+        return expirationTime == null || !expirationTime.toInstant().isAfter(LocalDateTime.now().toInstant(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,13 @@
+package com.postsquad.scoup.web.signin.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor(staticName = "of")
+@Getter
+public class SignInTokens {
+
+    private final String accessToken;
+
+    private final String refreshToken;
+}
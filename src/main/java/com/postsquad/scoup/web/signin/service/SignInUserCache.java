@@ -0,0 +1,55 @@
+package com.postsquad.scoup.web.signin.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.postsquad.scoup.web.signin.domain.SignInUser;
+import com.postsquad.scoup.web.signin.exception.UserNotFoundException;
+import com.postsquad.scoup.web.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인한 사용자(principal)를 userId 기준으로 캐싱한다.
+ * 여러 요청이 같은 값을 나눠 쓰므로 엔티티가 아닌 바뀌지 않는 SignInUser 로 캐싱한다.
+ * 크기와 TTL 로 제한되며, 사용자가 수정되거나 삭제되면 SignInUserCacheEvictionListener 가 커밋 후에 evict 를 호출한다.
+ */
+@Component
+public class SignInUserCache {
+
+    private final UserRepository userRepository;
+
+    private final Cache<Long, SignInUser> users;
+
+    public SignInUserCache(
+            UserRepository userRepository,
+            @Value("${signin.user-cache.maximum-size}") long maximumSize,
+            @Value("${signin.user-cache.expire-after-write-seconds}") long expireAfterWriteSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                             .build();
+    }
+
+    public SignInUser get(long userId) {
+        SignInUser signInUser = users.get(userId, id -> userRepository.findById(id)
+                                                                   .map(SignInUser::from)
+                                                                   .orElse(null));
+        if (signInUser == null) {
+            throw new UserNotFoundException(userId);
+        }
+
+        return signInUser;
+    }
+
+    public void evict(long userId) {
+        users.invalidate(userId);
+    }
+
+    public void evictAll() {
+        users.invalidateAll();
+    }
+}
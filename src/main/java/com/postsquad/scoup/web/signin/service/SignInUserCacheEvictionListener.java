@@ -0,0 +1,39 @@
+package com.postsquad.scoup.web.signin.service;
+
+import com.postsquad.scoup.web.user.domain.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 사용자가 수정되거나 삭제되면 SignInUserCache 에서 지운다. 롤백된 변경으로 캐시를 비우지 않도록 커밋 후에 지운다.
+ * Hibernate 가 SpringBeanContainer 로 만드는 엔티티 리스너라서, EntityManagerFactory 보다 늦게 만들어지는 캐시는 ObjectProvider 로 받는다.
+ */
+public class SignInUserCacheEvictionListener {
+
+    private final ObjectProvider<SignInUserCache> signInUserCache;
+
+    public SignInUserCacheEvictionListener(ObjectProvider<SignInUserCache> signInUserCache) {
+        this.signInUserCache = signInUserCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        long userId = user.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            signInUserCache.ifAvailable(cache -> cache.evict(userId));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                signInUserCache.ifAvailable(cache -> cache.evict(userId));
+            }
+        });
+    }
+}
@@ -11,7 +11,14 @@ public class EmailValidationResponse {
 
     private Boolean isExistingEmail = false;
 
+    // false 면 DB 를 보지 않고 Bloom filter 로만 판단한 "아마 사용 가능" 이다. 다른 인스턴스에서 방금 가입했을 수 있다.
+    private Boolean isDefinite = true;
+
     public static EmailValidationResponse valueOf(boolean isExistingEmail) {
-        return new EmailValidationResponse(isExistingEmail);
+        return new EmailValidationResponse(isExistingEmail, true);
+    }
+
+    public static EmailValidationResponse probablyAvailable() {
+        return new EmailValidationResponse(false, false);
     }
 }
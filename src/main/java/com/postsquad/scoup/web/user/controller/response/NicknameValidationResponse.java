@@ -11,7 +11,14 @@ public class NicknameValidationResponse {
 
     private Boolean isExistingNickname = false;
 
+    // false 면 DB 를 보지 않고 Bloom filter 로만 판단한 "아마 사용 가능" 이다. 다른 인스턴스에서 방금 가입했을 수 있다.
+    private Boolean isDefinite = true;
+
     public static NicknameValidationResponse valueOf(boolean isExistingNickname) {
-        return new NicknameValidationResponse(isExistingNickname);
+        return new NicknameValidationResponse(isExistingNickname, true);
+    }
+
+    public static NicknameValidationResponse probablyAvailable() {
+        return new NicknameValidationResponse(false, false);
     }
 }
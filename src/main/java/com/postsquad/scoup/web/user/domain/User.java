@@ -2,6 +2,7 @@ package com.postsquad.scoup.web.user.domain;
 
 import com.postsquad.scoup.web.auth.OAuthType;
 import com.postsquad.scoup.web.common.BaseEntity;
+import com.postsquad.scoup.web.signin.service.SignInUserCacheEvictionListener;
 import lombok.*;
 
 import javax.persistence.*;
@@ -15,6 +16,7 @@ import java.util.Objects;
         @UniqueConstraint(columnNames = {"nickname"}, name = "UK_USER_NICKNAME"),
         @UniqueConstraint(columnNames = {"email"}, name = "UK_USER_EMAIL"),
 })
+@EntityListeners(SignInUserCacheEvictionListener.class)
 @Entity
 public class User extends BaseEntity {
 
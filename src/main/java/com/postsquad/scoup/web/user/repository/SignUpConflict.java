@@ -0,0 +1,10 @@
+package com.postsquad.scoup.web.user.repository;
+
+/**
+ * 가입하려는 사용자와 겹치는 기존 사용자 정보. 여러 개가 겹치면 선언 순서가 앞선 것 하나만 알려준다.
+ */
+public enum SignUpConflict {
+    OAUTH_USER,
+    EMAIL,
+    NICKNAME
+}
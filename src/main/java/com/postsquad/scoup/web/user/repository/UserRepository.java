@@ -2,10 +2,12 @@ package com.postsquad.scoup.web.user.repository;
 
 import com.postsquad.scoup.web.user.domain.OAuthUser;
 import com.postsquad.scoup.web.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends CrudRepository<User, Long> {
@@ -18,6 +20,12 @@ public interface UserRepository extends CrudRepository<User, Long> {
 
     boolean existsByNickname(String nickname);
 
+    @Query("SELECT new com.postsquad.scoup.web.user.repository.UserUniqueKeyRow(u.id, u.email, u.nickname) " +
+           "FROM User u " +
+           "WHERE u.id > :id " +
+           "ORDER BY u.id")
+    List<UserUniqueKeyRow> findUniqueKeysAfter(@Param("id") long id, Pageable pageable);
+
     @Query(value = "select count(*) from \"oauth_user\" where \"oauth_type\"=:oAuthType and \"social_service_id\"=:socialServiceId",
            nativeQuery = true)
     long countOAuthUSer(@Param("oAuthType") String oAuthType, @Param("socialServiceId") String socialServiceId);
@@ -25,4 +33,22 @@ public interface UserRepository extends CrudRepository<User, Long> {
     default boolean existsByOAuthUser(OAuthUser oAuthUser) {
         return countOAuthUSer(oAuthUser.getOAuthTypeName(), oAuthUser.getSocialServiceId()) > 0;
     }
+
+    // 소셜 계정, 이메일, 별명 중복을 한 번에 확인한다. 겹치는 것이 없으면 null 을 반환한다.
+    @Query(value = "select case " +
+                   "when exists (select 1 from \"oauth_user\" where \"oauth_type\"=:oAuthType and \"social_service_id\"=:socialServiceId) then 'OAUTH_USER' " +
+                   "when exists (select 1 from \"user\" where \"email\"=:email) then 'EMAIL' " +
+                   "when exists (select 1 from \"user\" where \"nickname\"=:nickname) then 'NICKNAME' " +
+                   "end",
+           nativeQuery = true)
+    String findSignUpConflictName(@Param("oAuthType") String oAuthType, @Param("socialServiceId") String socialServiceId,
+                                  @Param("email") String email, @Param("nickname") String nickname);
+
+    default Optional<SignUpConflict> findSignUpConflict(User user) {
+        // 이메일로 가입하는 경우에는 oauth_type 을 null 로 넘겨 소셜 계정 조건이 항상 거짓이 되게 한다.
+        String oAuthType = user.isOAuthUser() ? user.getFirstRegisteredOAuthUser().getOAuthTypeName() : null;
+        String socialServiceId = user.isOAuthUser() ? user.getFirstRegisteredOAuthUser().getSocialServiceId() : null;
+        return Optional.ofNullable(findSignUpConflictName(oAuthType, socialServiceId, user.getEmail(), user.getNickname()))
+                       .map(SignUpConflict::valueOf);
+    }
 }
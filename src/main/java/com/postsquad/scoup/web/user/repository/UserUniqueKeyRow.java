@@ -0,0 +1,18 @@
+package com.postsquad.scoup.web.user.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자의 유니크 키(이메일, 별명)만 담은 한 행. Bloom filter 를 다시 만들 때 id 순으로 나눠 읽는다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserUniqueKeyRow {
+
+    private final Long id;
+
+    private final String email;
+
+    private final String nickname;
+}
@@ -0,0 +1,83 @@
+package com.postsquad.scoup.web.user.service;
+
+import com.postsquad.scoup.web.common.RebuildableBloomFilter;
+import com.postsquad.scoup.web.user.domain.User;
+import com.postsquad.scoup.web.user.repository.UserRepository;
+import com.postsquad.scoup.web.user.repository.UserUniqueKeyRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 가입된 이메일과 별명의 Bloom filter. 없다고 답하면 DB 를 조회하지 않고 아마 사용 가능하다고 답할 수 있다.
+ * 애플리케이션이 뜰 때와 주기적으로 DB 에서 다시 만들고, 그 사이에 이 인스턴스에서 가입한 사용자는 바로 넣는다.
+ * 다른 인스턴스에서 가입한 사용자는 다시 만들 때까지 빠질 수 있으므로 중복 확인 API 에만 쓰고, 가입 자체는 DB 로 확인한다.
+ */
+@Component
+public class UserBloomFilter {
+
+    private final UserRepository userRepository;
+
+    private final int rebuildBatchSize;
+
+    private final RebuildableBloomFilter emails;
+
+    private final RebuildableBloomFilter nicknames;
+
+    public UserBloomFilter(
+            UserRepository userRepository,
+            @Value("${user.bloom-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.bloom-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+            @Value("${user.bloom-filter.rebuild-batch-size:1000}") int rebuildBatchSize
+    ) {
+        this.userRepository = userRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.emails = new RebuildableBloomFilter(expectedInsertions, falsePositiveProbability);
+        this.nicknames = new RebuildableBloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    public boolean mightContainEmail(String email) {
+        return emails.mightContain(email);
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        return nicknames.mightContain(nickname);
+    }
+
+    public void put(User user) {
+        emails.put(user.getEmail());
+        nicknames.put(user.getNickname());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${user.bloom-filter.rebuild-interval-millis:3600000}",
+               fixedDelayString = "${user.bloom-filter.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+        // 한 번 훑으면서 두 필터를 같이 만든다.
+        emails.rebuild(putEmail -> nicknames.rebuild(putNickname -> load(putEmail, putNickname)));
+    }
+
+    public void clear() {
+        emails.clear();
+        nicknames.clear();
+    }
+
+    private void load(Consumer<String> putEmail, Consumer<String> putNickname) {
+        long lastId = 0;
+        List<UserUniqueKeyRow> rows;
+        do {
+            rows = userRepository.findUniqueKeysAfter(lastId, PageRequest.of(0, rebuildBatchSize));
+            for (UserUniqueKeyRow row : rows) {
+                putEmail.accept(row.getEmail());
+                putNickname.accept(row.getNickname());
+                lastId = row.getId();
+            }
+        } while (rows.size() == rebuildBatchSize);
+    }
+}
@@ -8,47 +8,106 @@ import com.postsquad.scoup.web.user.controller.response.EmailValidationResponse;
 import com.postsquad.scoup.web.user.controller.response.NicknameValidationResponse;
 import com.postsquad.scoup.web.user.domain.User;
 import com.postsquad.scoup.web.user.mapper.UserMapper;
+import com.postsquad.scoup.web.user.repository.SignUpConflict;
 import com.postsquad.scoup.web.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 public class UserService {
 
+    private static final String EMAIL_CONSTRAINT_NAME = "UK_USER_EMAIL";
+
+    private static final String NICKNAME_CONSTRAINT_NAME = "UK_USER_NICKNAME";
+
     private final UserRepository userRepository;
 
+    private final UserBloomFilter userBloomFilter;
+
+    /**
+     * 중복 확인은 쿼리 한 번으로 끝내고, 확인과 저장 사이에 끼어든 가입은 UK_USER_EMAIL, UK_USER_NICKNAME 제약 조건 위반으로 걸러낸다.
+     */
     public DefaultPostResponse signUp(SignUpRequest signUpRequest) {
         User user = UserMapper.INSTANCE.map(signUpRequest);
 
-        if (user.isOAuthUser() && userRepository.existsByOAuthUser(user.getFirstRegisteredOAuthUser())) {
-            throw new OAuthUserAlreadyExistsException(user);
-        }
+        userRepository.findSignUpConflict(user).ifPresent(signUpConflict -> {
+            throw alreadyExistsException(signUpConflict, user);
+        });
 
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new EmailAlreadyExistsException(user);
-        }
-
-        if (userRepository.existsByNickname(user.getNickname())) {
-            throw new NicknameAlreadyExistsException(user);
-        }
+        User savedUser = save(user);
+        userBloomFilter.put(savedUser);
 
         return DefaultPostResponse.builder()
-                                  .id(userRepository.save(user).getId())
+                                  .id(savedUser.getId())
                                   .build();
     }
 
+    @Transactional(readOnly = true)
     public EmailValidationResponse validateEmail(EmailValidationRequest emailValidationRequest) {
-        if (userRepository.findByEmail(emailValidationRequest.getEmail()).isPresent()) {
-            return EmailValidationResponse.valueOf(true);
+        String email = emailValidationRequest.getEmail();
+        // Bloom filter 에 없으면 DB 를 조회하지 않는다. 다른 인스턴스에서의 가입은 빠져 있을 수 있으므로 "아마 사용 가능"으로 답한다.
+        if (!userBloomFilter.mightContainEmail(email)) {
+            return EmailValidationResponse.probablyAvailable();
         }
-        return EmailValidationResponse.valueOf(false);
+        return EmailValidationResponse.valueOf(userRepository.existsByEmail(email));
     }
 
+    @Transactional(readOnly = true)
     public NicknameValidationResponse validateNickname(NicknameValidationRequest nicknameValidationRequest) {
-        if (userRepository.findByNickname(nicknameValidationRequest.getNickname()).isPresent()) {
-            return NicknameValidationResponse.valueOf(true);
+        String nickname = nicknameValidationRequest.getNickname();
+        if (!userBloomFilter.mightContainNickname(nickname)) {
+            return NicknameValidationResponse.probablyAvailable();
+        }
+        return NicknameValidationResponse.valueOf(userRepository.existsByNickname(nickname));
+    }
+
+    private User save(User user) {
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException dataIntegrityViolationException) {
+            SignUpConflict signUpConflict = violatedSignUpConflict(dataIntegrityViolationException).orElseThrow(() -> dataIntegrityViolationException);
+            throw alreadyExistsException(signUpConflict, user);
+        }
+    }
+
+    // 제약 조건 이름은 DB 마다 다르게 나온다. (MySQL: UK_USER_EMAIL, H2: "UK_USER_EMAIL_INDEX_2 ON ...")
+    private Optional<SignUpConflict> violatedSignUpConflict(DataIntegrityViolationException dataIntegrityViolationException) {
+        if (!(dataIntegrityViolationException.getCause() instanceof ConstraintViolationException)) {
+            return Optional.empty();
+        }
+
+        String constraintName = ((ConstraintViolationException) dataIntegrityViolationException.getCause()).getConstraintName();
+        if (constraintName == null) {
+            return Optional.empty();
+        }
+
+        String upperCaseConstraintName = constraintName.toUpperCase(Locale.ROOT);
+        if (upperCaseConstraintName.contains(EMAIL_CONSTRAINT_NAME)) {
+            return Optional.of(SignUpConflict.EMAIL);
+        }
+        if (upperCaseConstraintName.contains(NICKNAME_CONSTRAINT_NAME)) {
+            return Optional.of(SignUpConflict.NICKNAME);
+        }
+        return Optional.empty();
+    }
+
+    private UserAlreadyExistsException alreadyExistsException(SignUpConflict signUpConflict, User user) {
+        switch (signUpConflict) {
+            case OAUTH_USER:
+                return new OAuthUserAlreadyExistsException(user);
+            case EMAIL:
+                return new EmailAlreadyExistsException(user);
+            case NICKNAME:
+                return new NicknameAlreadyExistsException(user);
+            default:
+                throw new IllegalArgumentException("Unknown sign up conflict: " + signUpConflict);
         }
-        return NicknameValidationResponse.valueOf(false);
     }
 }
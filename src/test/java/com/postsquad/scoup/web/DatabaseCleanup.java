@@ -1,6 +1,7 @@
 package com.postsquad.scoup.web;
 
 import com.google.common.base.CaseFormat;
+import com.postsquad.scoup.web.common.PooledLoSequenceIdGenerator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -8,6 +9,7 @@ import javax.annotation.PostConstruct;
 import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.metamodel.EntityType;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,14 +19,14 @@ public class DatabaseCleanup {
     @PersistenceContext
     private EntityManager entityManager;
 
-    private List<String> tableNames;
+    private List<String> entityNames;
 
     @PostConstruct
     public void init() {
-        tableNames = entityManager.getMetamodel().getEntities().stream()
-                                  .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
-                                  .map(e -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, e.getName()))
-                                  .collect(Collectors.toList());
+        entityNames = entityManager.getMetamodel().getEntities().stream()
+                                   .filter(e -> e.getJavaType().getAnnotation(Entity.class) != null)
+                                   .map(EntityType::getName)
+                                   .collect(Collectors.toList());
     }
 
     @Transactional
@@ -32,12 +34,16 @@ public class DatabaseCleanup {
         entityManager.flush();
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
 
-        for (String tableName : tableNames) {
+        for (String entityName : entityNames) {
+            String tableName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, entityName);
             entityManager.createNativeQuery("TRUNCATE TABLE \"" + tableName + "\"").executeUpdate();
-            entityManager.createNativeQuery("ALTER TABLE \"" + tableName + "\" ALTER COLUMN \"id\" RESTART WITH 1").executeUpdate();
+            // 테스트에서는 increment_size 를 1 로 두므로 시퀀스만 되돌리면 id 가 다시 1 부터 나온다.
+            entityManager.createNativeQuery("ALTER SEQUENCE \"" + entityName + PooledLoSequenceIdGenerator.SEQUENCE_SUFFIX + "\" RESTART WITH 1").executeUpdate();
         }
 
         entityManager.createNativeQuery("TRUNCATE TABLE \"oauth_user\"").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE \"schedule_candidate_polled_user\"").executeUpdate();
+        entityManager.createNativeQuery("TRUNCATE TABLE \"confirmed_schedule_participant\"").executeUpdate();
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
     }
 }
@@ -0,0 +1,28 @@
+package com.postsquad.scoup.web;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate Statistics 로 실행된 SQL 문 수를 센다. 쿼리 수 회귀(N+1)를 테스트에서 잡기 위해 사용한다.
+ * {@code @DataJpaTest} 에서는 {@code @Import(QueryCounter.class)} 로 등록한다.
+ */
+@Component
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public long count(Runnable runnable) {
+        statistics.clear();
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
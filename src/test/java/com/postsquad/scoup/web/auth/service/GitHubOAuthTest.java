@@ -0,0 +1,195 @@
+package com.postsquad.scoup.web.auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.postsquad.scoup.web.auth.OAuthType;
+import com.postsquad.scoup.web.auth.controller.response.SocialAuthenticationResponse;
+import com.postsquad.scoup.web.auth.exception.OAuthException;
+import com.postsquad.scoup.web.auth.property.GitHubProperty;
+import com.postsquad.scoup.web.auth.property.GoogleProperty;
+import com.postsquad.scoup.web.auth.property.KakaoProperty;
+import com.postsquad.scoup.web.auth.property.OAuthProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class GitHubOAuthTest {
+
+    private static final String GITHUB_USER_JSON = "{\"id\":68000537,\"name\":\"name\",\"email\":\"email@email.com\",\"avatar_url\":\"avatarUrl\"}";
+
+    private static final long READ_TIMEOUT_MILLIS = 300;
+
+    private final AtomicInteger userRequestCount = new AtomicInteger();
+
+    private HttpServer mockServer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OAuthWebClientFactory oAuthWebClientFactory;
+
+    private GitHubOAuth gitHubOAuth;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        mockServer.setExecutor(Executors.newCachedThreadPool());
+        mockServer.start();
+
+        String baseUri = "http://localhost:" + mockServer.getAddress().getPort();
+        OAuthProperties oAuthProperties = new OAuthProperties(
+                new GitHubProperty(baseUri + "/login/oauth/access_token", "redirectUri", baseUri + "/user", "clientId", "clientSecret", 2),
+                new KakaoProperty(baseUri, "redirectUri", baseUri, "clientId", "clientSecret", 2),
+                new GoogleProperty(baseUri, "redirectUri", baseUri, "clientId", "clientSecret", 2)
+        );
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        meterRegistry = new SimpleMeterRegistry();
+        oAuthWebClientFactory = new OAuthWebClientFactory(objectMapper, meterRegistry, 1000, READ_TIMEOUT_MILLIS, 1000, 2, 10, 0.5);
+        gitHubOAuth = new GitHubOAuth(oAuthWebClientFactory, oAuthProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        oAuthWebClientFactory.dispose();
+        mockServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("코드로 토큰을 받은 뒤 사용자 정보를 조회한다")
+    void readOAuthUserData() {
+        mockServer.createContext("/login/oauth/access_token", exchange -> respond(exchange, 200, "{\"access_token\":\"accessToken\"}"));
+        AtomicReference<String> actualAuthorization = new AtomicReference<>();
+        mockServer.createContext("/user", exchange -> {
+            actualAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, 200, GITHUB_USER_JSON);
+        });
+
+        SocialAuthenticationResponse actualResponse = gitHubOAuth.readOAuthUserData(OAuthType.GITHUB, "code").block();
+
+        then(actualAuthorization).hasValue("token accessToken");
+        then(actualResponse).usingRecursiveComparison()
+                            .isEqualTo(SocialAuthenticationResponse.builder()
+                                                                   .oauthType(OAuthType.GITHUB)
+                                                                   .socialServiceId("68000537")
+                                                                   .name("name")
+                                                                   .email("email@email.com")
+                                                                   .avatarUrl("avatarUrl")
+                                                                   .build());
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 다시 요청한다")
+    void retryOnServerError() {
+        mockServer.createContext("/user", exchange -> {
+            if (userRequestCount.incrementAndGet() < 3) {
+                respond(exchange, 503, "");
+                return;
+            }
+            respond(exchange, 200, GITHUB_USER_JSON);
+        });
+
+        SocialAuthenticationResponse actualResponse = gitHubOAuth.readOAuthUserDataFromHeader(OAuthType.GITHUB, "token accessToken").block();
+
+        then(actualResponse.getSocialServiceId()).isEqualTo("68000537");
+        then(userRequestCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("인가 코드는 한 번만 쓸 수 있으므로 토큰 교환의 5xx 응답은 다시 요청하지 않는다")
+    void doNotRetryTokenExchangeOnServerError() {
+        AtomicInteger tokenRequestCount = new AtomicInteger();
+        mockServer.createContext("/login/oauth/access_token", exchange -> {
+            tokenRequestCount.incrementAndGet();
+            respond(exchange, 503, "");
+        });
+
+        thenThrownBy(() -> gitHubOAuth.readOAuthUserData(OAuthType.GITHUB, "code").block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        then(tokenRequestCount).hasValue(1);
+        then(userRequestCount).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("재시도한 요청도 한 번씩 응답 시간을 기록한다")
+    void recordRequestMetrics() {
+        mockServer.createContext("/user", exchange -> {
+            if (userRequestCount.incrementAndGet() < 2) {
+                respond(exchange, 503, "");
+                return;
+            }
+            respond(exchange, 200, GITHUB_USER_JSON);
+        });
+
+        gitHubOAuth.readOAuthUserDataFromHeader(OAuthType.GITHUB, "token accessToken").block();
+
+        then(meterRegistry.get("oauth.client.requests").tags("provider", "github", "uri", "/user", "status", "503").timer().count()).isEqualTo(1);
+        then(meterRegistry.get("oauth.client.requests").tags("provider", "github", "uri", "/user", "status", "200").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 마지막 5xx 응답으로 실패한다")
+    void failAfterRetriesExhausted() {
+        mockServer.createContext("/user", exchange -> {
+            userRequestCount.incrementAndGet();
+            respond(exchange, 500, "");
+        });
+
+        thenThrownBy(() -> gitHubOAuth.readOAuthUserDataFromHeader(OAuthType.GITHUB, "token accessToken").block())
+                .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        then(userRequestCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 다시 요청하지 않는다")
+    void doNotRetryOnClientError() {
+        mockServer.createContext("/user", exchange -> {
+            userRequestCount.incrementAndGet();
+            respond(exchange, 401, "");
+        });
+
+        thenThrownBy(() -> gitHubOAuth.readOAuthUserDataFromHeader(OAuthType.GITHUB, "token accessToken").block())
+                .isInstanceOf(OAuthException.class);
+        then(userRequestCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("응답이 읽기 타임아웃보다 늦으면 실패한다")
+    void failOnReadTimeout() {
+        mockServer.createContext("/user", exchange -> {
+            try {
+                Thread.sleep(READ_TIMEOUT_MILLIS * 3);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, GITHUB_USER_JSON);
+        });
+
+        thenThrownBy(() -> gitHubOAuth.readOAuthUserDataFromHeader(OAuthType.GITHUB, "token accessToken").block())
+                .hasRootCauseInstanceOf(ReadTimeoutException.class);
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.postsquad.scoup.web.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있다고 답한다")
+    void mightContainHasNoFalseNegatives() {
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        List<String> values = IntStream.range(0, 10_000)
+                                       .mapToObj(i -> "user" + i + "@email.com")
+                                       .collect(Collectors.toList());
+
+        values.forEach(bloomFilter::put);
+
+        then(values).allMatch(bloomFilter::mightContain);
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 넣었을 때 오탐률이 설정한 값 근처에 머문다")
+    void falsePositiveRateStaysNearConfiguredProbability() {
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("user" + i));
+
+        long falsePositiveCount = IntStream.range(0, 100_000)
+                                           .filter(i -> bloomFilter.mightContain("other" + i))
+                                           .count();
+
+        then(falsePositiveCount).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("다시 만들기 전이나 비운 뒤에는 모든 값이 있을 수도 있다고 답한다")
+    void rebuildableBloomFilterMightContainAnythingUntilRebuilt() {
+        RebuildableBloomFilter bloomFilter = new RebuildableBloomFilter(100, 0.01);
+        then(bloomFilter.mightContain("name")).isTrue();
+
+        bloomFilter.rebuild(put -> put.accept("existing"));
+        then(bloomFilter.mightContain("existing")).isTrue();
+        then(bloomFilter.mightContain("name")).isFalse();
+
+        bloomFilter.clear();
+        then(bloomFilter.mightContain("name")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다시 만드는 동안 넣은 값도 새 필터에 남는다")
+    void rebuildableBloomFilterKeepsValuesPutDuringRebuild() {
+        RebuildableBloomFilter bloomFilter = new RebuildableBloomFilter(100, 0.01);
+        bloomFilter.rebuild(put -> put.accept("existing"));
+
+        bloomFilter.rebuild(put -> {
+            put.accept("existing");
+            bloomFilter.put("signedUpDuringRebuild");
+        });
+
+        then(bloomFilter.mightContain("existing")).isTrue();
+        then(bloomFilter.mightContain("signedUpDuringRebuild")).isTrue();
+    }
+}
@@ -0,0 +1,76 @@
+package com.postsquad.scoup.web.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class IntervalTreeTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2021, 9, 1, 0, 0);
+
+    @Test
+    @DisplayName("구간 경계가 맞닿기만 하는 경우는 겹치지 않는 것으로 본다")
+    void findAllOverlappingExcludesTouchingIntervals() {
+        Interval touchingLeft = new Interval(BASE_DATE_TIME.minusDays(1), BASE_DATE_TIME);
+        Interval inside = new Interval(BASE_DATE_TIME.plusHours(1), BASE_DATE_TIME.plusHours(2));
+        Interval touchingRight = new Interval(BASE_DATE_TIME.plusDays(1), BASE_DATE_TIME.plusDays(2));
+        IntervalTree<Interval> intervalTree = IntervalTree.of(List.of(touchingRight, inside, touchingLeft), Interval::getStart, Interval::getEnd);
+
+        List<Interval> actualIntervals = intervalTree.findAllOverlapping(BASE_DATE_TIME, BASE_DATE_TIME.plusDays(1));
+
+        then(actualIntervals).containsExactly(inside);
+    }
+
+    @Test
+    @DisplayName("임의의 구간들에 대해 전체 탐색과 같은 결과를 시작 시각 순으로 반환한다")
+    void findAllOverlappingMatchesLinearScan() {
+        Random random = new Random(42);
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = BASE_DATE_TIME.plusHours(random.nextInt(24 * 60));
+            intervals.add(new Interval(start, start.plusHours(1 + random.nextInt(72))));
+        }
+        IntervalTree<Interval> intervalTree = IntervalTree.of(intervals, Interval::getStart, Interval::getEnd);
+
+        for (int i = 0; i < 100; i++) {
+            LocalDateTime queryStart = BASE_DATE_TIME.plusHours(random.nextInt(24 * 60));
+            LocalDateTime queryEnd = queryStart.plusDays(1 + random.nextInt(7));
+
+            List<Interval> expectedIntervals = intervals.stream()
+                                                        .filter(interval -> interval.getStart().isBefore(queryEnd) && interval.getEnd().isAfter(queryStart))
+                                                        .sorted(Comparator.comparing(Interval::getStart))
+                                                        .collect(Collectors.toList());
+
+            then(intervalTree.findAllOverlapping(queryStart, queryEnd))
+                    .containsExactlyElementsOf(expectedIntervals);
+        }
+    }
+
+    private static class Interval {
+
+        private final LocalDateTime start;
+
+        private final LocalDateTime end;
+
+        Interval(LocalDateTime start, LocalDateTime end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        LocalDateTime getStart() {
+            return start;
+        }
+
+        LocalDateTime getEnd() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.postsquad.scoup.web.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 커서가 된다")
+    void encodeAndDecode() {
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.of(2021, 9, 1, 12, 30), 42L);
+
+        then(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("시작 시각이 같으면 id 로 순서를 비교한다")
+    void precedes() {
+        LocalDateTime startDateTime = LocalDateTime.of(2021, 9, 1, 12, 30);
+        KeysetCursor cursor = KeysetCursor.of(startDateTime, 42L);
+
+        then(cursor.precedes(startDateTime, 43L)).isTrue();
+        then(cursor.precedes(startDateTime, 42L)).isFalse();
+        then(cursor.precedes(startDateTime.plusSeconds(1), 1L)).isTrue();
+        then(cursor.precedes(startDateTime.minusSeconds(1), 100L)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "bm8tc2VwYXJhdG9y", "MjAyMS0wOS0wMXwx"})
+    @DisplayName("형식이 맞지 않는 커서는 InvalidCursorException 을 던진다")
+    void decodeInvalidCursor(String encodedCursor) {
+        thenThrownBy(() -> KeysetCursor.decode(encodedCursor)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("id 가 숫자가 아닌 커서는 InvalidCursorException 을 던진다")
+    void decodeCursorWithInvalidId() {
+        String encodedCursor = Base64.getUrlEncoder().encodeToString("2021-09-01T12:30|abc".getBytes(StandardCharsets.UTF_8));
+
+        thenThrownBy(() -> KeysetCursor.decode(encodedCursor)).isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.postsquad.scoup.web.common;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class MeteredAsyncAppenderTest {
+
+    private LoggerContext loggerContext;
+
+    private CountDownLatch delivering;
+
+    private CountDownLatch release;
+
+    private MeteredAsyncAppender meteredAsyncAppender;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        delivering = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        meteredAsyncAppender.stop();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차 넣지 못한 로그를 버린 수로 센다")
+    void countDroppedWhenQueueIsFull() throws InterruptedException {
+        // given
+        meteredAsyncAppender = startedAppender(1, 0);
+        deliverAndHold();
+        meteredAsyncAppender.doAppend(event(Level.WARN));
+
+        // when
+        meteredAsyncAppender.doAppend(event(Level.WARN));
+
+        // then
+        then(meteredAsyncAppender.getDroppedCount()).isOne();
+        then(meteredAsyncAppender.getNumberOfElementsInQueue()).isOne();
+    }
+
+    @Test
+    @DisplayName("남은 자리가 discardingThreshold 아래면 INFO 이하만 버리고 한 번씩 센다")
+    void countDiscardedBelowThreshold() throws InterruptedException {
+        // given
+        meteredAsyncAppender = startedAppender(2, 2);
+        deliverAndHold();
+        meteredAsyncAppender.doAppend(event(Level.WARN));
+
+        // when
+        meteredAsyncAppender.doAppend(event(Level.INFO));
+
+        // then
+        then(meteredAsyncAppender.getDroppedCount()).isOne();
+        then(meteredAsyncAppender.getNumberOfElementsInQueue()).isOne();
+    }
+
+    // 첫 로그를 worker 가 꺼내 전달하다 멈춰 있게 해서, 이후 로그가 큐에 쌓이게 한다.
+    private void deliverAndHold() throws InterruptedException {
+        meteredAsyncAppender.doAppend(event(Level.WARN));
+        then(delivering.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private MeteredAsyncAppender startedAppender(int queueSize, int discardingThreshold) {
+        AppenderBase<ILoggingEvent> holdingAppender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent eventObject) {
+                delivering.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        holdingAppender.setContext(loggerContext);
+        holdingAppender.start();
+
+        MeteredAsyncAppender appender = new MeteredAsyncAppender();
+        appender.setContext(loggerContext);
+        appender.setQueueSize(queueSize);
+        appender.setDiscardingThreshold(discardingThreshold);
+        appender.setNeverBlock(true);
+        appender.addAppender(holdingAppender);
+        appender.start();
+        return appender;
+    }
+
+    private LoggingEvent event(Level level) {
+        return new LoggingEvent(MeteredAsyncAppenderTest.class.getName(), loggerContext.getLogger("test"), level, "message", null, null);
+    }
+}
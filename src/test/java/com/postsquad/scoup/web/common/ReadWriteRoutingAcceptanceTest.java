@@ -0,0 +1,133 @@
+package com.postsquad.scoup.web.common;
+
+import com.postsquad.scoup.web.AcceptanceTestBase;
+import com.postsquad.scoup.web.TestEntityManager;
+import com.postsquad.scoup.web.group.controller.request.GroupCreationRequest;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleReadOneResponse;
+import com.postsquad.scoup.web.schedule.service.ScheduleService;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+// replica 는 primary 와 다른 H2 DB 다. 인라인 프로퍼티도 .properties 처럼 읽히므로 INIT 의 \; 를 한 번 더 이스케이프한다.
+@TestPropertySource(properties = {
+        "datasource.replica.jdbc-url=jdbc:h2:mem:replica;DB_CLOSE_ON_EXIT=FALSE;MODE=MYSQL;INIT=CREATE SCHEMA IF NOT EXISTS `scoup`\\\\;SET SCHEMA scoup;",
+        "datasource.replica.username=sa",
+        "datasource.replica.password="
+})
+class ReadWriteRoutingAcceptanceTest extends AcceptanceTestBase {
+
+    private static final String COUNT_SCOUP_TABLES = "select count(*) from information_schema.tables where table_schema = 'scoup'";
+
+    private static final String SELECT_SCOUP_TABLE_NAMES = "select table_name from information_schema.tables where table_schema = 'scoup'";
+
+    private static final String COUNT_GROUPS_BY_NAME = "select count(*) from \"group\" where \"name\" = ?";
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    ScheduleService scheduleService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    DataSource replicaDataSource;
+
+    JdbcTemplate primary;
+
+    JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        testEntityManager.persist(testUser);
+        replicate();
+    }
+
+    @Test
+    @DisplayName("@Transactional(readOnly = true) 서비스 메서드는 replica 에서 읽는다")
+    void readOnlyTransactionReadsFromReplica() {
+        // given
+        replica.update("insert into \"group\" (\"id\", \"name\") values (?, ?)", 100L, "replica group");
+        replica.update("insert into \"schedule\" (\"id\", \"group_id\", \"title\") values (?, ?, ?)", 100L, 100L, "replica schedule");
+
+        // when
+        ScheduleReadOneResponse actualResponse = scheduleService.readOne(100L);
+
+        // then
+        then(actualResponse.getTitle()).isEqualTo("replica schedule");
+    }
+
+    @Test
+    @DisplayName("open-in-view 로 세션이 열린 요청에서 replica 로 읽은 뒤의 쓰기는 primary 로 간다")
+    void writeAfterReadInSameRequestGoesToPrimary() {
+        // given
+        // 로그인 사용자 조회, 그룹 이름 중복 확인, 소유자 조회는 리포지토리의 읽기 전용 트랜잭션이라 replica 로 가고, 저장만 primary 로 가야 한다.
+        GroupCreationRequest givenGroupCreationRequest = GroupCreationRequest.builder()
+                                                                             .name("primary group")
+                                                                             .build();
+
+        // when
+        Response actualResponse = RestAssured.given()
+                                             .baseUri(BASE_URL)
+                                             .port(port)
+                                             .basePath("/api/groups")
+                                             .contentType(ContentType.JSON)
+                                             .header("Authorization", testToken)
+                                             .body(givenGroupCreationRequest)
+                                             .log().all()
+                                             .post();
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.CREATED.value());
+        then(primary.queryForObject(COUNT_GROUPS_BY_NAME, Integer.class, "primary group")).isOne();
+        then(replica.queryForObject(COUNT_GROUPS_BY_NAME, Integer.class, "primary group")).isZero();
+    }
+
+    // 복제 지연이 없는 replica 처럼, primary 의 스키마(처음 한 번)와 데이터를 replica 로 그대로 옮긴다.
+    private void replicate() {
+        List<String> schemaStatements = new ArrayList<>();
+        List<String> dataStatements = new ArrayList<>();
+        for (String statement : primary.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class)) {
+            if (statement.startsWith("--")) {
+                continue;
+            }
+            if (statement.startsWith("INSERT INTO")) {
+                dataStatements.add(statement);
+            } else {
+                schemaStatements.add(statement);
+            }
+        }
+
+        if (replica.queryForObject(COUNT_SCOUP_TABLES, Integer.class) == 0) {
+            schemaStatements.forEach(replica::execute);
+        }
+
+        replica.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        replica.queryForList(SELECT_SCOUP_TABLE_NAMES, String.class)
+               .forEach(tableName -> replica.execute("TRUNCATE TABLE \"" + tableName + "\""));
+        dataStatements.forEach(replica::execute);
+        replica.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+}
@@ -0,0 +1,63 @@
+package com.postsquad.scoup.web.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary");
+        DataSource replica = h2("routing_replica");
+        DataSource routingDataSource = ReadWriteRoutingDataSource.lazy(primary, replica);
+
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routingDataSource));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 로 간다")
+    void readOnlyTransaction() {
+        transactionTemplate.setReadOnly(true);
+
+        then(transactionTemplate.execute(status -> currentDataSourceName())).isEqualTo("routing_replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 트랜잭션은 primary 로 간다")
+    void readWriteTransaction() {
+        then(transactionTemplate.execute(status -> currentDataSourceName())).isEqualTo("routing_primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 쿼리는 primary 로 간다")
+    void withoutTransaction() {
+        then(currentDataSourceName()).isEqualTo("routing_primary");
+    }
+
+    private String currentDataSourceName() {
+        return jdbcTemplate.queryForObject("select name from data_source_name", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists data_source_name (name varchar(255))");
+        jdbcTemplate.update("delete from data_source_name");
+        jdbcTemplate.update("insert into data_source_name values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,39 @@
+package com.postsquad.scoup.web.common;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class RequestLogSamplingTurboFilterTest {
+
+    private final RequestLogSamplingTurboFilter turboFilter = new RequestLogSamplingTurboFilter();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("뽑히지 않은 요청은 WARN 미만 로그만 버린다")
+    void notSampledRequest() {
+        MDC.put(RequestLogSamplingFilter.SAMPLED_KEY, "false");
+
+        then(turboFilter.decide(null, null, Level.INFO, "message", null, null)).isEqualTo(FilterReply.DENY);
+        then(turboFilter.decide(null, null, Level.WARN, "message", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("뽑힌 요청과 요청 밖의 로그는 버리지 않는다")
+    void sampledRequestOrOutsideRequest() {
+        then(turboFilter.decide(null, null, Level.DEBUG, "message", null, null)).isEqualTo(FilterReply.NEUTRAL);
+
+        MDC.put(RequestLogSamplingFilter.SAMPLED_KEY, "true");
+
+        then(turboFilter.decide(null, null, Level.DEBUG, "message", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+}
@@ -0,0 +1,95 @@
+package com.postsquad.scoup.web.common;
+
+import com.postsquad.scoup.web.AcceptanceTestBase;
+import com.postsquad.scoup.web.TestEntityManager;
+import com.postsquad.scoup.web.group.domain.Group;
+import com.postsquad.scoup.web.schedule.domain.ConfirmedSchedule;
+import com.postsquad.scoup.web.schedule.domain.Schedule;
+import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@TestPropertySource(properties = "request-timing.enabled=true")
+class RequestTimingAcceptanceTest extends AcceptanceTestBase {
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Test
+    @DisplayName("스케줄 상세 조회 응답에 Server-Timing 헤더가 붙고, 후보 수와 관계없이 정해진 수의 쿼리만 실행한다")
+    void serverTimingOfReadOneSchedule() {
+        // given
+        testEntityManager.persist(testUser);
+        Group givenGroup = Group.builder()
+                                .name("name")
+                                .owner(testUser)
+                                .build();
+        testEntityManager.persist(givenGroup);
+        Schedule givenSchedule = Schedule.builder()
+                                         .group(givenGroup)
+                                         .title("schedule title")
+                                         .description("schedule description")
+                                         .dueDateTime(LocalDateTime.of(2021, 11, 21, 0, 0))
+                                         .confirmedSchedule(ConfirmedSchedule.builder()
+                                                                             .startDateTime(LocalDateTime.of(2021, 11, 22, 0, 0))
+                                                                             .endDateTime(LocalDateTime.of(2021, 11, 23, 0, 0))
+                                                                             .confirmedParticipant(testUser)
+                                                                             .build())
+                                         .scheduleCandidate(polledScheduleCandidate(LocalDateTime.of(2021, 11, 22, 0, 0)))
+                                         .scheduleCandidate(polledScheduleCandidate(LocalDateTime.of(2021, 11, 23, 0, 0)))
+                                         .scheduleCandidate(polledScheduleCandidate(LocalDateTime.of(2021, 11, 24, 0, 0)))
+                                         .build();
+        givenSchedule.getScheduleCandidates().forEach(scheduleCandidate -> scheduleCandidate.setSchedule(givenSchedule));
+        testEntityManager.persist(givenSchedule);
+
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenGroup.getId())
+                                                       .pathParam("scheduleId", givenSchedule.getId());
+        // 로그인 사용자 캐시를 채워 두어 사용자 조회 쿼리가 세어지지 않게 한다.
+        RestAssured.given(givenRequest)
+                   .get("/groups/{groupId}/schedules/{scheduleId}")
+                   .then()
+                   .statusCode(HttpStatus.OK.value());
+
+        // when
+        Response actualResponse = RestAssured.given(givenRequest)
+                                             .accept(ContentType.JSON)
+                                             .log().all()
+                                             .get("/groups/{groupId}/schedules/{scheduleId}");
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.OK.value());
+
+        // 스케줄(그룹, 확정 일정, 후보), 후보의 투표자, 확정 일정의 참여자 (ScheduleRepositoryCustom.findDetailById)
+        then(actualResponse.getHeader(RequestTimings.SERVER_TIMING_HEADER))
+                .startsWith("db;desc=\"3 queries\";dur=")
+                .contains(", mapping;dur=", ", serialization;dur=", ", total;dur=");
+    }
+
+    private ScheduleCandidate polledScheduleCandidate(LocalDateTime startDateTime) {
+        ScheduleCandidate scheduleCandidate = ScheduleCandidate.builder()
+                                                               .startDateTime(startDateTime)
+                                                               .endDateTime(startDateTime.plusHours(1))
+                                                               .build();
+        scheduleCandidate.poll(testUser);
+        return scheduleCandidate;
+    }
+}
@@ -0,0 +1,38 @@
+package com.postsquad.scoup.web.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    @DisplayName("요청 안에서 실행한 쿼리 수를 Server-Timing 에 넣는다")
+    void serverTiming() {
+        RequestTimings requestTimings = RequestTimings.start();
+        for (int i = 0; i < 3; i++) {
+            RequestTimings.queryStarted();
+            RequestTimings.queryFinished();
+        }
+
+        then(requestTimings.getQueryCount()).isEqualTo(3);
+        then(requestTimings.serverTiming()).matches("db;desc=\"3 queries\";dur=\\d+\\.\\d, mapping;dur=\\d+\\.\\d, serialization;dur=\\d+\\.\\d, total;dur=\\d+\\.\\d");
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 기록하지 않고 매핑 결과만 돌려준다")
+    void withoutRequest() {
+        RequestTimings.queryStarted();
+        RequestTimings.queryFinished();
+
+        then(RequestTimings.mapping(() -> "mapped")).isEqualTo("mapped");
+        then(RequestTimings.current()).isNull();
+    }
+}
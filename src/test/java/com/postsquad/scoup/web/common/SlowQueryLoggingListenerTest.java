@@ -0,0 +1,77 @@
+package com.postsquad.scoup.web.common;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class SlowQueryLoggingListenerTest {
+
+    private static final long THRESHOLD_MILLIS = 200L;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLoggingListener.class);
+
+    private final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+
+    private final SlowQueryLoggingListener slowQueryLoggingListener = new SlowQueryLoggingListener(THRESHOLD_MILLIS);
+
+    @BeforeEach
+    void setUp() {
+        listAppender.start();
+        logger.addAppender(listAppender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(listAppender);
+    }
+
+    @Test
+    @DisplayName("기준 이상 걸린 statement 는 WARN 으로 남긴다")
+    void logSlowQuery() {
+        // given
+        ExecutionInfo givenExecutionInfo = executionInfo(THRESHOLD_MILLIS);
+        List<QueryInfo> givenQueries = List.of(new QueryInfo("select 1"), new QueryInfo("select 2"));
+
+        // when
+        slowQueryLoggingListener.afterQuery(givenExecutionInfo, givenQueries);
+
+        // then
+        then(listAppender.list).hasSize(1);
+        ILoggingEvent actualEvent = listAppender.list.get(0);
+        then(actualEvent.getLevel()).isEqualTo(Level.WARN);
+        then(actualEvent.getFormattedMessage()).isEqualTo("slow_query elapsed_ms=200 batch_size=2 success=true query=\"select 1; select 2\"");
+    }
+
+    @Test
+    @DisplayName("기준보다 빨리 끝난 statement 는 남기지 않는다")
+    void skipFastQuery() {
+        // given
+        ExecutionInfo givenExecutionInfo = executionInfo(THRESHOLD_MILLIS - 1);
+
+        // when
+        slowQueryLoggingListener.afterQuery(givenExecutionInfo, List.of(new QueryInfo("select 1")));
+
+        // then
+        then(listAppender.list).isEmpty();
+    }
+
+    private static ExecutionInfo executionInfo(long elapsedTime) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedTime);
+        executionInfo.setBatchSize(2);
+        executionInfo.setSuccess(true);
+        return executionInfo;
+    }
+}
@@ -0,0 +1,80 @@
+package com.postsquad.scoup.web.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.Trigger;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class QuartzJobLagListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private QuartzJobLagListener quartzJobLagListener;
+
+    private Trigger trigger;
+
+    private JobExecutionContext context;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        quartzJobLagListener = new QuartzJobLagListener(meterRegistry);
+        trigger = mock(Trigger.class);
+        given(trigger.getJobKey()).willReturn(JobKey.jobKey("scheduleAutoConfirmation"));
+        context = mock(JobExecutionContext.class);
+    }
+
+    @Test
+    @DisplayName("원래 실행 시각보다 늦게 실행된 만큼을 job 태그를 붙여 기록한다")
+    void recordLag() {
+        // given
+        given(context.getScheduledFireTime()).willReturn(new Date(10_000));
+        given(context.getFireTime()).willReturn(new Date(11_500));
+
+        // when
+        quartzJobLagListener.triggerFired(trigger, context);
+
+        // then
+        Timer actualTimer = meterRegistry.get("quartz.job.lag").tag("job", "scheduleAutoConfirmation").timer();
+        then(actualTimer.count()).isEqualTo(1);
+        then(actualTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1_500);
+    }
+
+    @Test
+    @DisplayName("원래 실행 시각보다 먼저 실행되면 지연을 0 으로 기록한다")
+    void recordNoLagWhenFiredEarly() {
+        // given
+        given(context.getScheduledFireTime()).willReturn(new Date(10_000));
+        given(context.getFireTime()).willReturn(new Date(9_990));
+
+        // when
+        quartzJobLagListener.triggerFired(trigger, context);
+
+        // then
+        then(meterRegistry.get("quartz.job.lag").timer().totalTime(TimeUnit.MILLISECONDS)).isZero();
+    }
+
+    @Test
+    @DisplayName("원래 실행 시각이 없는 즉시 실행은 기록하지 않는다")
+    void skipWithoutScheduledFireTime() {
+        // given
+        given(context.getScheduledFireTime()).willReturn(null);
+
+        // when
+        quartzJobLagListener.triggerFired(trigger, context);
+
+        // then
+        then(meterRegistry.find("quartz.job.lag").timer()).isNull();
+    }
+}
@@ -0,0 +1,87 @@
+package com.postsquad.scoup.web.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
+
+import java.util.Date;
+import java.util.Set;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class QuartzMetricsConfigTest {
+
+    private final TriggerKey overdueTriggerKey = TriggerKey.triggerKey("overdue");
+
+    private final TriggerKey upcomingTriggerKey = TriggerKey.triggerKey("upcoming");
+
+    private Scheduler scheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = mock(Scheduler.class);
+        meterRegistry = new SimpleMeterRegistry();
+        new QuartzMetricsConfig().quartzTriggerOverdueMetrics(scheduler).bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("다음 실행 시각이 가장 오래 지난 트리거의 지연을 초 단위로 보여준다")
+    void maxOverdueSeconds() throws SchedulerException {
+        // given
+        long now = System.currentTimeMillis();
+        given(scheduler.getTriggerKeys(any(GroupMatcher.class))).willReturn(Set.of(overdueTriggerKey, upcomingTriggerKey));
+        givenTrigger(overdueTriggerKey, new Date(now - 90_000));
+        givenTrigger(upcomingTriggerKey, new Date(now + 60_000));
+
+        // when
+        double actualOverdueSeconds = meterRegistry.get("quartz.trigger.overdue").gauge().value();
+
+        // then
+        then(actualOverdueSeconds).isCloseTo(90, within(5.0));
+    }
+
+    @Test
+    @DisplayName("밀린 트리거가 없으면 0 을 보여준다")
+    void noOverdueTrigger() throws SchedulerException {
+        // given
+        given(scheduler.getTriggerKeys(any(GroupMatcher.class))).willReturn(Set.of(upcomingTriggerKey));
+        givenTrigger(upcomingTriggerKey, new Date(System.currentTimeMillis() + 60_000));
+
+        // when
+        double actualOverdueSeconds = meterRegistry.get("quartz.trigger.overdue").gauge().value();
+
+        // then
+        then(actualOverdueSeconds).isZero();
+    }
+
+    @Test
+    @DisplayName("스케줄러를 읽지 못하면 NaN 을 보여준다")
+    void schedulerFailure() throws SchedulerException {
+        // given
+        given(scheduler.getTriggerKeys(any(GroupMatcher.class))).willThrow(new SchedulerException("job store unavailable"));
+
+        // when
+        double actualOverdueSeconds = meterRegistry.get("quartz.trigger.overdue").gauge().value();
+
+        // then
+        then(actualOverdueSeconds).isNaN();
+    }
+
+    private void givenTrigger(TriggerKey triggerKey, Date nextFireTime) throws SchedulerException {
+        Trigger trigger = mock(Trigger.class);
+        given(trigger.getNextFireTime()).willReturn(nextFireTime);
+        given(scheduler.getTrigger(triggerKey)).willReturn(trigger);
+    }
+}
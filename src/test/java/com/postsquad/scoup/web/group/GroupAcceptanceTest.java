@@ -51,6 +51,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
             fieldWithPath("image")
                     .type(JsonFieldType.STRING)
                     .description("이미지")
+                    .optional()
     );
 
     private static final Snippet GROUP_CREATION_REQUEST_FIELDS = requestFields(
@@ -91,7 +92,10 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
     private static final Snippet GROUP_NAME_VALIDATION_RESPONSE_FIELDS = responseFields(
             fieldWithPath("is_existing_name")
                     .type(JsonFieldType.BOOLEAN)
-                    .description("그룹 명 중복 여부")
+                    .description("그룹 명 중복 여부"),
+            fieldWithPath("is_definite")
+                    .type(JsonFieldType.BOOLEAN)
+                    .description("DB 로 확인한 결과인지 여부 (false 면 아마 사용 가능)")
     );
 
     private static final Snippet GROUP_LEAVE_PATH_PARAMETERS = pathParameters(
@@ -114,12 +118,12 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
         Group givenGroup = Group.builder()
                                 .name("name")
                                 .description("description")
+                                .owner(testUser)
                                 // TODO: .image("image")
                                 .build();
         testEntityManager.persist(givenGroup);
         GroupReadOneResponse expectedGroupReadOneResponse = GroupReadOneResponse.builder()
                                                                                 .id(1L)
-                                                                                .image("image")
                                                                                 .name("name")
                                                                                 .description("description")
                                                                                 .build();
@@ -130,7 +134,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .pathParam("groupId", givenGroup.getId());
 
         //when
@@ -154,6 +158,57 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                 .isEqualTo(expectedGroupReadOneResponse);
     }
 
+    @Test
+    @DisplayName("그룹 정보를 수정하면 수정된 정보가 바로 조회된다")
+    void readOneAfterModification() {
+        // given
+        Group givenGroup = Group.builder()
+                                .name("name")
+                                .description("description")
+                                .owner(testUser)
+                                .build();
+        testEntityManager.persist(givenGroup);
+        GroupModificationRequest givenGroupModificationRequest = GroupModificationRequest.builder()
+                                                                                         .name("modifiedName")
+                                                                                         .description("modified description")
+                                                                                         .build();
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Accept-Language", "en-US")
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenGroup.getId());
+        // 수정 전에 조회해서 캐시에 올려 둔다.
+        RestAssured.given(givenRequest)
+                   .get("/groups/{groupId}")
+                   .then()
+                   .statusCode(HttpStatus.OK.value());
+        RestAssured.given(givenRequest)
+                   .body(givenGroupModificationRequest)
+                   .put("/groups/{groupId}")
+                   .then()
+                   .statusCode(HttpStatus.NO_CONTENT.value());
+
+        // when
+        Response actualResponse = RestAssured.given(givenRequest)
+                                             .log().all()
+                                             .get("/groups/{groupId}");
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.OK.value());
+        then(actualResponse.as(GroupReadOneResponse.class))
+                .usingRecursiveComparison()
+                .isEqualTo(GroupReadOneResponse.builder()
+                                               .id(givenGroup.getId())
+                                               .name("modifiedName")
+                                               .description("modified description")
+                                               .build());
+    }
+
     @ParameterizedTest
     @ArgumentsSource(CreateGroupProvider.class)
     @DisplayName("사용자가 새로운 그룹을 생성할 수 있다")
@@ -166,7 +221,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath(path)
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .body(givenGroupCreationRequest);
 
         // when
@@ -212,7 +267,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath(path)
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .body(givenGroupCreationRequest);
 
         // when
@@ -247,7 +302,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath(path)
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .body(givenGroupCreationRequest);
 
         // when
@@ -281,7 +336,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                                                        .pathParam("groupId", givenGroupId)
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .body(givenGroupModificationRequest);
 
         // when
@@ -322,7 +377,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                                                        .pathParam("groupId", givenGroup.getId())
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN);
+                                                       .header("Authorization", testToken);
 
         // when
         Response actualResponse = givenRequest.when()
@@ -360,7 +415,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .queryParam("group_name", givenGroup.getName());
 
         //when
@@ -394,7 +449,7 @@ public class GroupAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .pathParam("groupId", 1L);
 
         // when
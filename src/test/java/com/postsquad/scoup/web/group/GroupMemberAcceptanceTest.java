@@ -2,14 +2,22 @@ package com.postsquad.scoup.web.group;
 
 import com.postsquad.scoup.web.AcceptanceTestBase;
 import com.postsquad.scoup.web.TestEntityManager;
+import com.postsquad.scoup.web.auth.OAuthType;
 import com.postsquad.scoup.web.group.controller.request.GroupMemberCreationRequest;
 import com.postsquad.scoup.web.group.controller.request.GroupMemberRoleModificationRequest;
 import com.postsquad.scoup.web.group.controller.response.GroupMemberReadAllResponse;
 import com.postsquad.scoup.web.group.controller.response.GroupMemberReadAllResponses;
+import com.postsquad.scoup.web.group.domain.Group;
+import com.postsquad.scoup.web.group.domain.GroupMember;
+import com.postsquad.scoup.web.group.repository.GroupMemberRepository;
+import com.postsquad.scoup.web.user.domain.OAuthUser;
+import com.postsquad.scoup.web.user.domain.User;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -65,7 +73,7 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
             parameterWithName("groupId")
                     .description("그룹 ID"),
             parameterWithName("memberId")
-                    .description("그룹 멤버 ID")
+                    .description("그룹 멤버의 사용자 ID")
     );
 
     private static final Snippet GROUP_MEMBER_ROLE_MODIFICATION_REQUEST_FIELDS = requestFields(
@@ -78,25 +86,58 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
             parameterWithName("groupId")
                     .description("그룹 ID"),
             parameterWithName("memberId")
-                    .description("그룹 멤버 ID")
+                    .description("그룹 멤버의 사용자 ID")
     );
 
     @Autowired
     TestEntityManager testEntityManager;
 
+    @Autowired
+    GroupMemberRepository groupMemberRepository;
+
+    private Group givenGroup;
+
+    private User givenMember;
+
+    @BeforeEach
+    void setUp() {
+        testEntityManager.persist(testUser);
+        givenGroup = Group.builder()
+                          .name("name")
+                          .description("description")
+                          .owner(testUser)
+                          .build();
+        testEntityManager.persist(givenGroup);
+        givenMember = User.builder()
+                          .nickname("member")
+                          .email("member@email.com")
+                          .password("password")
+                          .avatarUrl("memberUrl")
+                          .username("member")
+                          .oAuthUsers(List.of(OAuthUser.of(OAuthType.NONE, "")))
+                          .build();
+        testEntityManager.persist(givenMember);
+    }
 
     @Test
+    @DisplayName("그룹 소유자와 그룹에 추가된 멤버를 조회할 수 있다")
     void readAll() {
         // given
+        testEntityManager.persist(GroupMember.of(givenGroup, givenMember));
         GroupMemberReadAllResponses expectedGroupMemberReadAllResponses = GroupMemberReadAllResponses.from(List.of(
                 GroupMemberReadAllResponse.builder()
-                                          .userId(1L)
+                                          .userId(testUser.getId())
                                           .nickname("nickname")
-                                          .email("email")
-                                          .avatarUrl("avatarUrl")
+                                          .email("email@email.com")
+                                          .avatarUrl("url")
+                                          .build(),
+                GroupMemberReadAllResponse.builder()
+                                          .userId(givenMember.getId())
+                                          .nickname("member")
+                                          .email("member@email.com")
+                                          .avatarUrl("memberUrl")
                                           .build()
         ));
-        testEntityManager.persist(testUser);
         String path = "/groups/{groupId}/members";
         RequestSpecification givenRequest = RestAssured.given(this.spec)
                                                        .baseUri(BASE_URL)
@@ -104,8 +145,8 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
-                                                       .pathParam("groupId", 1L);
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenGroup.getId());
 
         // when
         Response actualResponse = givenRequest.when()
@@ -128,11 +169,11 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
     }
 
     @Test
+    @DisplayName("이메일로 그룹 멤버를 추가할 수 있다")
     void create() {
         // given
-        testEntityManager.persist(testUser);
         GroupMemberCreationRequest givenGroupMemberCreationRequest = GroupMemberCreationRequest.builder()
-                                                                                               .email("email")
+                                                                                               .email("member@email.com")
                                                                                                .build();
         String path = "/groups/{groupId}/members/email";
         RequestSpecification givenRequest = RestAssured.given(this.spec)
@@ -141,8 +182,8 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
-                                                       .pathParam("groupId", 1L)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenGroup.getId())
                                                        .body(givenGroupMemberCreationRequest);
 
         // when
@@ -161,13 +202,53 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
                       .log().all()
                       .statusCode(HttpStatus.CREATED.value());
 
-        // TODO: id로 조회하여 검증
+        then(groupMemberRepository.existsByGroupIdAndUserId(givenGroup.getId(), givenMember.getId())).isTrue();
     }
 
     @Test
+    @DisplayName("멤버를 추가하면 캐시된 멤버 목록에도 바로 보인다")
+    void readAllAfterCreation() {
+        // given
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Accept-Language", "en-US")
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenGroup.getId());
+        // 멤버를 추가하기 전에 조회해서 캐시에 올려 둔다.
+        then(RestAssured.given(givenRequest)
+                        .get("/groups/{groupId}/members")
+                        .as(GroupMemberReadAllResponses.class)
+                        .getGroupMembers()).hasSize(1);
+        RestAssured.given(givenRequest)
+                   .body(GroupMemberCreationRequest.builder()
+                                                   .email("member@email.com")
+                                                   .build())
+                   .post("/groups/{groupId}/members/email")
+                   .then()
+                   .statusCode(HttpStatus.CREATED.value());
+
+        // when
+        Response actualResponse = RestAssured.given(givenRequest)
+                                             .log().all()
+                                             .get("/groups/{groupId}/members");
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.OK.value());
+        then(actualResponse.as(GroupMemberReadAllResponses.class).getGroupMembers())
+                .extracting(GroupMemberReadAllResponse::getUserId)
+                .containsExactly(testUser.getId(), givenMember.getId());
+    }
+
+    @Test
+    @DisplayName("그룹 멤버의 역할을 바꿀 수 있다")
     void modifyRole() {
         // given
-        testEntityManager.persist(testUser);
+        testEntityManager.persist(GroupMember.of(givenGroup, givenMember));
         GroupMemberRoleModificationRequest givenGroupMemberRoleModificationRequest = GroupMemberRoleModificationRequest.builder()
                                                                                                                        .role("role")
                                                                                                                        .build();
@@ -178,9 +259,9 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
-                                                       .pathParam("groupId", 1L)
-                                                       .pathParam("memberId", 1L)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenGroup.getId())
+                                                       .pathParam("memberId", givenMember.getId())
                                                        .body(givenGroupMemberRoleModificationRequest);
 
         // when
@@ -198,13 +279,15 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
                       .log().all()
                       .statusCode(HttpStatus.NO_CONTENT.value());
 
-        // TODO: id로 조회하여 검증
+        then(groupMemberRepository.findByGroupIdAndUserId(givenGroup.getId(), givenMember.getId()))
+                .hasValueSatisfying(groupMember -> then(groupMember.getRole()).isEqualTo("role"));
     }
 
     @Test
+    @DisplayName("그룹 멤버를 삭제할 수 있다")
     void delete() {
         // given
-        testEntityManager.persist(testUser);
+        testEntityManager.persist(GroupMember.of(givenGroup, givenMember));
         String path = "/groups/{groupId}/members/{memberId}";
         RequestSpecification givenRequest = RestAssured.given(this.spec)
                                                        .baseUri(BASE_URL)
@@ -212,9 +295,9 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
                                                        .header("Accept-Language", "en-US")
-                                                       .header("Authorization", TEST_TOKEN)
-                                                       .pathParam("groupId", 1L)
-                                                       .pathParam("memberId", 1L);
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenGroup.getId())
+                                                       .pathParam("memberId", givenMember.getId());
 
         // when
         Response actualResponse = givenRequest.when()
@@ -230,6 +313,6 @@ public class GroupMemberAcceptanceTest extends AcceptanceTestBase {
                       .log().all()
                       .statusCode(HttpStatus.NO_CONTENT.value());
 
-        // TODO: id로 조회하여 검증
+        then(groupMemberRepository.existsByGroupIdAndUserId(givenGroup.getId(), givenMember.getId())).isFalse();
     }
 }
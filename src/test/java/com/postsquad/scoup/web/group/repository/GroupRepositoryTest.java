@@ -1,5 +1,6 @@
 package com.postsquad.scoup.web.group.repository;
 
+import com.postsquad.scoup.web.config.QuerydslConfig;
 import com.postsquad.scoup.web.group.domain.Group;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -7,6 +8,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.stream.Stream;
@@ -15,6 +17,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 
 @DataJpaTest
+@Import(QuerydslConfig.class)
 public class GroupRepositoryTest {
 
     @Autowired
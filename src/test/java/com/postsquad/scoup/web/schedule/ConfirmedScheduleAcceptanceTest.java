@@ -68,7 +68,11 @@ class ConfirmedScheduleAcceptanceTest extends AcceptanceTestBase {
                     .description("확정된 스케줄의 참가자 닉네임"),
             fieldWithPath("confirmed_schedules[].confirmed_participants[].username")
                     .type(JsonFieldType.STRING)
-                    .description("확정된 스케줄의 참가자 이름")
+                    .description("확정된 스케줄의 참가자 이름"),
+            fieldWithPath("next_cursor")
+                    .type(JsonFieldType.STRING)
+                    .description("다음 페이지 커서. 마지막 페이지면 null")
+                    .optional()
     );
 
     private static final Snippet CONFIRMED_SCHEDULE_PERIOD_PATH_PARAMETERS = pathParameters(
@@ -108,31 +112,7 @@ class ConfirmedScheduleAcceptanceTest extends AcceptanceTestBase {
     void readAllConfirmedSchedules(String description, Long givenGroupId,
                                    ConfirmedScheduleReadAllResponses expectedConfirmedScheduleReadAllResponses) {
         // given
-        testEntityManager.persist(testUser);
-        testEntityManager.persist(testUser2);
-
-        Group group = Group.builder()
-                           .name("name")
-                           .description("")
-                           .schedules(new ArrayList<>())
-                           .owner(testUser)
-                           .build();
-
-        Schedule schedule = Schedule.builder()
-                                    .group(group)
-                                    .title("schedule title")
-                                    .description("schedule description")
-                                    .dueDateTime(LocalDateTime.of(2021, 9, 23, 0, 0))
-                                    .build();
-        group.addSchedule(schedule);
-
-        ConfirmedSchedule confirmedSchedule = ConfirmedSchedule.builder()
-                                                               .startDateTime(LocalDateTime.of(2021, 9, 25, 9, 0))
-                                                               .endDateTime(LocalDateTime.of(2021, 9, 25, 11, 0))
-                                                               .confirmedParticipants(List.of(testUser, testUser2))
-                                                               .build();
-        schedule.confirmSchedule(confirmedSchedule);
-        testEntityManager.persist(group);
+        givenConfirmedScheduleWithParticipants();
         String path = "/groups/{groupId}/confirmed-schedules";
 
         RequestSpecification givenRequest = RestAssured.given(this.spec)
@@ -141,7 +121,7 @@ class ConfirmedScheduleAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .pathParam("groupId", givenGroupId)
                                                        .contentType(ContentType.JSON)
-                                                       .header(AUTHORIZATION, TEST_TOKEN);
+                                                       .header(AUTHORIZATION, testToken);
 
         // when
         Response actualResponse = givenRequest.when()
@@ -165,10 +145,61 @@ class ConfirmedScheduleAcceptanceTest extends AcceptanceTestBase {
                 .isEqualTo(expectedConfirmedScheduleReadAllResponses);
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(ConfirmedScheduleReadAllProvider.class)
+    @DisplayName("확정된 일정을 스트리밍으로 내보낼 수 있다")
+    void streamConfirmedSchedules(String description, Long givenGroupId,
+                                  ConfirmedScheduleReadAllResponses expectedConfirmedScheduleReadAllResponses) {
+        // given
+        givenConfirmedScheduleWithParticipants();
+        String path = "/groups/{groupId}/confirmed-schedules/stream";
+
+        RequestSpecification givenRequest = RestAssured.given(this.spec)
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .pathParam("groupId", givenGroupId)
+                                                       .header(AUTHORIZATION, testToken);
+
+        // when
+        Response actualResponse = givenRequest.when()
+                                              .accept(ContentType.JSON)
+                                              .filter(document(
+                                                      DEFAULT_RESTDOCS_PATH,
+                                                      CONFIRMED_SCHEDULE_READ_ALL_PATH_PARAMETERS,
+                                                      CONFIRMED_SCHEDULE_READ_ALL_RESPONSE_FIELDS
+                                              ))
+                                              .log().all()
+                                              .get(path);
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.OK.value());
+
+        then(actualResponse.as(ConfirmedScheduleReadAllResponses.class))
+                .as("확정 일정 스트리밍 조회 : %s", description)
+                .usingRecursiveComparison()
+                .isEqualTo(expectedConfirmedScheduleReadAllResponses);
+    }
+
     @Test
+    @DisplayName("조회 구간과 겹치는 확정 일정들을 합친 기간을 조회할 수 있다")
     void readConfirmedSchedulePeriods() {
         // given
         testEntityManager.persist(testUser);
+
+        Group group = Group.builder()
+                           .name("name")
+                           .description("")
+                           .schedules(new ArrayList<>())
+                           .owner(testUser)
+                           .build();
+        group.addSchedule(confirmedSchedule(group, LocalDateTime.of(2021, 11, 24, 22, 0), LocalDateTime.of(2021, 11, 25, 12, 0)));
+        group.addSchedule(confirmedSchedule(group, LocalDateTime.of(2021, 11, 25, 10, 0), LocalDateTime.of(2021, 11, 26, 2, 0)));
+        group.addSchedule(confirmedSchedule(group, LocalDateTime.of(2021, 11, 27, 10, 0), LocalDateTime.of(2021, 11, 27, 12, 0)));
+        testEntityManager.persist(group);
+
         List<ConfirmedSchedulePeriodReadAllResponse> expectedConfirmedSchedulePeriodReadAllRespons = List.of(
                 ConfirmedSchedulePeriodReadAllResponse.builder()
                                                       .startDateTime(LocalDateTime.of(2021, 11, 25, 0, 0))
@@ -182,7 +213,7 @@ class ConfirmedScheduleAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .pathParam("groupId", 1L)
                                                        .contentType(ContentType.JSON)
-                                                       .header(AUTHORIZATION, TEST_TOKEN)
+                                                       .header(AUTHORIZATION, testToken)
                                                        .queryParam("start_date_time", LocalDateTime.of(2021, 11, 25, 0, 0).toString())
                                                        .queryParam("end_date_time", LocalDateTime.of(2021, 11, 26, 0, 0).toString());
 
@@ -207,4 +238,74 @@ class ConfirmedScheduleAcceptanceTest extends AcceptanceTestBase {
         })).usingRecursiveComparison()
            .isEqualTo(expectedConfirmedSchedulePeriodReadAllRespons);
     }
+
+    @Test
+    @DisplayName("1년보다 긴 구간의 확정 일정 기간은 조회할 수 없다")
+    void readConfirmedSchedulePeriodsOverMaximumPeriod() {
+        // given
+        testEntityManager.persist(testUser);
+        String path = "/groups/{groupId}/existing-schedules";
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .pathParam("groupId", 1L)
+                                                       .contentType(ContentType.JSON)
+                                                       .header(AUTHORIZATION, testToken)
+                                                       .queryParam("start_date_time", LocalDateTime.of(2021, 1, 1, 0, 0).toString())
+                                                       .queryParam("end_date_time", LocalDateTime.of(9999, 1, 1, 0, 0).toString());
+
+        // when
+        Response actualResponse = givenRequest.when()
+                                              .accept(ContentType.JSON)
+                                              .log().all()
+                                              .get(path);
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    private Schedule confirmedSchedule(Group group, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Schedule schedule = Schedule.builder()
+                                    .group(group)
+                                    .title("schedule title")
+                                    .description("schedule description")
+                                    .dueDateTime(startDateTime.minusDays(1))
+                                    .build();
+        schedule.confirmSchedule(ConfirmedSchedule.builder()
+                                                  .startDateTime(startDateTime)
+                                                  .endDateTime(endDateTime)
+                                                  .build());
+        return schedule;
+    }
+
+    private void givenConfirmedScheduleWithParticipants() {
+        testEntityManager.persist(testUser);
+        testEntityManager.persist(testUser2);
+
+        Group group = Group.builder()
+                           .name("name")
+                           .description("")
+                           .schedules(new ArrayList<>())
+                           .owner(testUser)
+                           .build();
+
+        Schedule schedule = Schedule.builder()
+                                    .group(group)
+                                    .title("schedule title")
+                                    .description("schedule description")
+                                    .dueDateTime(LocalDateTime.of(2021, 9, 23, 0, 0))
+                                    .build();
+        group.addSchedule(schedule);
+
+        ConfirmedSchedule confirmedSchedule = ConfirmedSchedule.builder()
+                                                               .startDateTime(LocalDateTime.of(2021, 9, 25, 9, 0))
+                                                               .endDateTime(LocalDateTime.of(2021, 9, 25, 11, 0))
+                                                               .confirmedParticipants(List.of(testUser, testUser2))
+                                                               .build();
+        schedule.confirmSchedule(confirmedSchedule);
+        testEntityManager.persist(group);
+    }
 }
@@ -2,6 +2,7 @@ package com.postsquad.scoup.web.schedule;
 
 import com.postsquad.scoup.web.AcceptanceTestBase;
 import com.postsquad.scoup.web.TestEntityManager;
+import com.postsquad.scoup.web.auth.OAuthType;
 import com.postsquad.scoup.web.error.controller.response.ErrorResponse;
 import com.postsquad.scoup.web.group.domain.Group;
 import com.postsquad.scoup.web.schedule.controller.request.ScheduleCandidateCreationRequest;
@@ -16,15 +17,19 @@ import com.postsquad.scoup.web.schedule.domain.ConfirmedSchedule;
 import com.postsquad.scoup.web.schedule.domain.Schedule;
 import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
 import com.postsquad.scoup.web.schedule.provider.ValidateScheduleCreationRequestProvider;
+import com.postsquad.scoup.web.user.domain.OAuthUser;
+import com.postsquad.scoup.web.user.domain.User;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.restdocs.snippet.Snippet;
 
@@ -162,7 +167,36 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
     private static final Snippet SCHEDULE_CONFIRMATION_REQUEST_FIELDS = requestFields(
             fieldWithPathAndConstraints("schedule_candidate_id", ScheduleConfirmationRequest.class)
                     .type(JsonFieldType.NUMBER)
-                    .description("확정할 일정 후보 id")
+                    .description("확정할 일정 후보 id, 비어 있으면 추천 1순위 후보로 확정")
+                    .optional()
+    );
+
+    private static final Snippet SCHEDULE_RECOMMENDATION_PATH_PARAMETERS = pathParameters(
+            parameterWithName("groupId")
+                    .description("그룹 ID"),
+            parameterWithName("scheduleId")
+                    .description("일정 ID")
+    );
+
+    private static final Snippet SCHEDULE_RECOMMENDATION_RESPONSE_FIELDS = responseFields(
+            fieldWithPath("[].schedule_candidate_id")
+                    .type(JsonFieldType.NUMBER)
+                    .description("일정 후보 id"),
+            fieldWithPath("[].start_date_time")
+                    .type(JsonFieldType.STRING)
+                    .description("시작 시간"),
+            fieldWithPath("[].end_date_time")
+                    .type(JsonFieldType.STRING)
+                    .description("종료 시간"),
+            fieldWithPath("[].poll_count")
+                    .type(JsonFieldType.NUMBER)
+                    .description("투표 수"),
+            fieldWithPath("[].available_count")
+                    .type(JsonFieldType.NUMBER)
+                    .description("투표자 가운데 겹치는 확정 일정이 없는 인원 수"),
+            fieldWithPath("[].conflicting_schedule_count")
+                    .type(JsonFieldType.NUMBER)
+                    .description("겹치는 확정 일정 수")
     );
 
     private static final Snippet SCHEDULE_DELETION_PATH_PARAMETERS = pathParameters(
@@ -175,6 +209,9 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
     @Autowired
     TestEntityManager testEntityManager;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Test
     void readOne() {
         //given
@@ -248,7 +285,7 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
                                                     .port(port)
                                                     .basePath("/api")
                                                     .contentType(ContentType.JSON)
-                                                    .header("Authorization", TEST_TOKEN)
+                                                    .header("Authorization", testToken)
                                                     .pathParam("groupId", 1L)
                                                     .pathParam("scheduleId", 1L);
         //when
@@ -273,6 +310,30 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
                 .isEqualTo(expectedScheduleReadOneResponse);
     }
 
+    @Test
+    @DisplayName("없는 일정을 조회하면 404 를 받는다")
+    void readOneNotFound() {
+        //given
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", 1L)
+                                                       .pathParam("scheduleId", 1L);
+
+        //when
+        Response actualResponse = givenRequest.when()
+                                              .accept(ContentType.JSON)
+                                              .log().all()
+                                              .get("/groups/{groupId}/schedules/{scheduleId}");
+
+        //then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
     @Test
     void create() {
         //given
@@ -302,7 +363,7 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
                                                        .port(port)
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .pathParam("groupId", givenGroup.getId())
                                                        .body(givenScheduleCreationRequest);
         //when
@@ -348,7 +409,7 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
                                                        .port(port)
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .pathParam("groupId", givenGroup.getId())
                                                        .body(givenScheduleCreationRequest);
 
@@ -384,7 +445,7 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
                                                        .port(port)
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .pathParam("groupId", 1L)
                                                        .pathParam("scheduleId", 1L)
                                                        .body(scheduleConfirmationRequest);
@@ -418,7 +479,7 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
                                                        .port(port)
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
-                                                       .header("Authorization", TEST_TOKEN)
+                                                       .header("Authorization", testToken)
                                                        .pathParam("groupId", 1L)
                                                        .pathParam("scheduleId", 1L);
 
@@ -442,9 +503,10 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
     @Test
     void confirmSchedule() {
         //given
-        testEntityManager.persist(testUser);
+        Schedule givenSchedule = givenScheduleWithPolledCandidate();
+        ScheduleCandidate givenScheduleCandidate = givenSchedule.getScheduleCandidates().get(0);
         ScheduleConfirmationRequest scheduleConfirmationRequest = ScheduleConfirmationRequest.builder()
-                                                                                             .scheduleCandidateId(1L)
+                                                                                             .scheduleCandidateId(givenScheduleCandidate.getId())
                                                                                              .build();
 
         String path = "/groups/{groupId}/schedules/{scheduleId}/confirm";
@@ -453,9 +515,9 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
                                                        .port(port)
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
-                                                       .header("Authorization", TEST_TOKEN)
-                                                       .pathParam("groupId", 1L)
-                                                       .pathParam("scheduleId", 1L)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenSchedule.getGroup().getId())
+                                                       .pathParam("scheduleId", givenSchedule.getId())
                                                        .body(scheduleConfirmationRequest);
 
         //when
@@ -474,6 +536,183 @@ public class ScheduleAcceptanceTest extends AcceptanceTestBase {
                       .log().all()
                       .statusCode(HttpStatus.NO_CONTENT.value());
 
-        // TODO: id로 db 조회하여 검증
+        testEntityManager.findAndConsume(Schedule.class, givenSchedule.getId(), schedule -> {
+            assertThat(schedule.isConfirmed()).isTrue();
+            assertThat(schedule.getConfirmedSchedule()).hasFieldOrPropertyWithValue("startDateTime", givenScheduleCandidate.getStartDateTime())
+                                                       .hasFieldOrPropertyWithValue("endDateTime", givenScheduleCandidate.getEndDateTime());
+            assertThat(schedule.getConfirmedSchedule().getConfirmedParticipants()).extracting("id")
+                                                                                   .containsExactly(testUser.getId());
+        });
+    }
+
+    @Test
+    void confirmScheduleTwice() {
+        //given
+        Schedule givenSchedule = givenScheduleWithPolledCandidate();
+        ScheduleConfirmationRequest scheduleConfirmationRequest = ScheduleConfirmationRequest.builder()
+                                                                                             .build();
+
+        String path = "/groups/{groupId}/schedules/{scheduleId}/confirm";
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenSchedule.getGroup().getId())
+                                                       .pathParam("scheduleId", givenSchedule.getId())
+                                                       .body(scheduleConfirmationRequest);
+        givenRequest.when()
+                    .patch(path)
+                    .then()
+                    .statusCode(HttpStatus.NO_CONTENT.value());
+
+        //when
+        Response actualResponse = givenRequest.when()
+                                              .log().all()
+                                              .patch(path);
+
+        //then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.CONFLICT.value());
+    }
+
+    @Test
+    @DisplayName("추천 1순위로 확정할 때는 캐시된 투표자가 아니라 DB 의 투표자로 순위를 매긴다")
+    void confirmScheduleWithStaleVoterCache() {
+        //given
+        Schedule givenSchedule = givenScheduleWithPolledCandidate();
+        ScheduleCandidate givenBusyScheduleCandidate = givenSchedule.getScheduleCandidates().get(0);
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenSchedule.getGroup().getId())
+                                                       .pathParam("scheduleId", givenSchedule.getId());
+        // 추천을 한 번 조회해 투표자 비트셋을 캐시에 올려 둔다.
+        RestAssured.given(givenRequest)
+                   .get("/groups/{groupId}/schedules/{scheduleId}/recommendations")
+                   .then()
+                   .statusCode(HttpStatus.OK.value());
+        // 다른 노드에서 저장된 투표처럼, 이 노드의 캐시에는 반영되지 않은 투표를 연결 테이블에 바로 넣는다.
+        List<User> givenVoters = List.of(givenUser("voter1"), givenUser("voter2"));
+        givenVoters.forEach(voter -> jdbcTemplate.update(
+                "insert into \"schedule_candidate_polled_user\" (\"schedule_candidate_id\", \"user_id\") values (?, ?)",
+                givenBusyScheduleCandidate.getId(), voter.getId()
+        ));
+
+        //when
+        Response actualResponse = RestAssured.given(givenRequest)
+                                             .body(ScheduleConfirmationRequest.builder()
+                                                                              .build())
+                                             .log().all()
+                                             .patch("/groups/{groupId}/schedules/{scheduleId}/confirm");
+
+        //then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.NO_CONTENT.value());
+
+        testEntityManager.findAndConsume(Schedule.class, givenSchedule.getId(), schedule -> {
+            assertThat(schedule.getConfirmedSchedule()).hasFieldOrPropertyWithValue("startDateTime", givenBusyScheduleCandidate.getStartDateTime());
+            assertThat(schedule.getConfirmedSchedule().getConfirmedParticipants()).extracting("id")
+                                                                                   .containsExactlyInAnyOrder(testUser.getId(), givenVoters.get(0).getId(), givenVoters.get(1).getId());
+        });
+    }
+
+    @Test
+    void recommend() {
+        //given
+        Schedule givenSchedule = givenScheduleWithPolledCandidate();
+
+        String path = "/groups/{groupId}/schedules/{scheduleId}/recommendations";
+        RequestSpecification givenRequest = RestAssured.given(this.spec)
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenSchedule.getGroup().getId())
+                                                       .pathParam("scheduleId", givenSchedule.getId());
+
+        //when
+        Response actualResponse = givenRequest.when()
+                                              .accept(ContentType.JSON)
+                                              .filter(document(
+                                                      DEFAULT_RESTDOCS_PATH,
+                                                      SCHEDULE_RECOMMENDATION_PATH_PARAMETERS,
+                                                      SCHEDULE_RECOMMENDATION_RESPONSE_FIELDS
+                                              ))
+                                              .log().all()
+                                              .get(path);
+
+        //then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.OK.value());
+
+        then(actualResponse.jsonPath().getList("schedule_candidate_id", Long.class))
+                .containsExactly(givenSchedule.getScheduleCandidates().get(1).getId(), givenSchedule.getScheduleCandidates().get(0).getId());
+    }
+
+    // 두 후보 모두 testUser 가 투표했고, 첫 번째 후보는 testUser 가 참여하는 확정 일정과 겹친다.
+    private Schedule givenScheduleWithPolledCandidate() {
+        testEntityManager.persist(testUser);
+        Group givenGroup = Group.builder()
+                                .name("name")
+                                .build();
+        testEntityManager.persist(givenGroup);
+
+        ConfirmedSchedule busyConfirmedSchedule = ConfirmedSchedule.builder()
+                                                                   .startDateTime(LocalDateTime.of(2021, 11, 22, 12, 0))
+                                                                   .endDateTime(LocalDateTime.of(2021, 11, 22, 14, 0))
+                                                                   .confirmedParticipant(testUser)
+                                                                   .build();
+        Schedule busySchedule = Schedule.builder()
+                                        .group(givenGroup)
+                                        .title("busy schedule title")
+                                        .confirmedSchedule(busyConfirmedSchedule)
+                                        .build();
+        testEntityManager.persist(busySchedule);
+
+        ScheduleCandidate busyScheduleCandidate = ScheduleCandidate.builder()
+                                                                   .startDateTime(LocalDateTime.of(2021, 11, 22, 0, 0))
+                                                                   .endDateTime(LocalDateTime.of(2021, 11, 23, 0, 0))
+                                                                   .build();
+        busyScheduleCandidate.poll(testUser);
+        ScheduleCandidate freeScheduleCandidate = ScheduleCandidate.builder()
+                                                                   .startDateTime(LocalDateTime.of(2021, 11, 24, 0, 0))
+                                                                   .endDateTime(LocalDateTime.of(2021, 11, 25, 0, 0))
+                                                                   .build();
+        freeScheduleCandidate.poll(testUser);
+
+        Schedule schedule = Schedule.builder()
+                                    .group(givenGroup)
+                                    .title("schedule title")
+                                    .description("schedule description")
+                                    .dueDateTime(LocalDateTime.of(2021, 11, 21, 0, 0))
+                                    .scheduleCandidate(busyScheduleCandidate)
+                                    .scheduleCandidate(freeScheduleCandidate)
+                                    .build();
+        busyScheduleCandidate.setSchedule(schedule);
+        freeScheduleCandidate.setSchedule(schedule);
+        testEntityManager.persist(schedule);
+        return schedule;
+    }
+
+    private User givenUser(String nickname) {
+        User user = User.builder()
+                        .nickname(nickname)
+                        .email(nickname + "@email.com")
+                        .password("password")
+                        .avatarUrl("url")
+                        .username(nickname)
+                        .oAuthUsers(List.of(OAuthUser.of(OAuthType.NONE, "")))
+                        .build();
+        testEntityManager.persist(user);
+        return user;
     }
 }
@@ -4,22 +4,41 @@ import com.postsquad.scoup.web.AcceptanceTestBase;
 import com.postsquad.scoup.web.TestEntityManager;
 import com.postsquad.scoup.web.group.domain.Group;
 import com.postsquad.scoup.web.schedule.controller.request.SchedulePollRequest;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleCandidateVotersResponse;
+import com.postsquad.scoup.web.schedule.controller.response.SchedulePollCountResponse;
 import com.postsquad.scoup.web.schedule.controller.response.SchedulePollResponse;
+import com.postsquad.scoup.web.schedule.controller.response.SchedulePollTallyResponse;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleVotersResponse;
 import com.postsquad.scoup.web.schedule.domain.Schedule;
 import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.signin.service.SignInTokenGenerator;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.restdocs.snippet.Snippet;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
@@ -46,9 +65,29 @@ public class SchedulePollAcceptanceTest extends AcceptanceTestBase {
                     .description("스케줄 후보 투표 횟수")
     );
 
+    private static final Snippet SCHEDULE_VOTERS_RESPONSE_FIELDS = responseFields(
+            fieldWithPath("schedule_candidates[].schedule_candidate_id")
+                    .type(JsonFieldType.NUMBER)
+                    .description("스케줄 후보 id"),
+            fieldWithPath("schedule_candidates[].poll_count")
+                    .type(JsonFieldType.NUMBER)
+                    .description("스케줄 후보 투표 수"),
+            fieldWithPath("schedule_candidates[].voter_ids")
+                    .type(JsonFieldType.ARRAY)
+                    .description("스케줄 후보에 투표한 사용자 id"),
+            fieldWithPath("common_voter_ids")
+                    .type(JsonFieldType.ARRAY)
+                    .description("모든 후보에 투표한 사용자 id")
+    );
+
+    private static final Duration STREAM_TIMEOUT = Duration.ofSeconds(10);
+
     @Autowired
     TestEntityManager testEntityManager;
 
+    @Autowired
+    SignInTokenGenerator signInTokenGenerator;
+
     @Test
     void pollSchedule() {
         // given
@@ -80,9 +119,9 @@ public class SchedulePollAcceptanceTest extends AcceptanceTestBase {
                                                        .port(port)
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
-                                                       .header("Authorization", TEST_TOKEN)
-                                                       .pathParam("groupId", 1L)
-                                                       .pathParam("scheduleId", 1L)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", group.getId())
+                                                       .pathParam("scheduleId", givenSchedule.getId())
                                                        .body(givenSchedulePollRequest);
 
         // when
@@ -108,15 +147,125 @@ public class SchedulePollAcceptanceTest extends AcceptanceTestBase {
                 .isEqualTo(expectedSchedulePollResponse);
     }
 
+    @Test
+    void pollScheduleTwice() {
+        // given
+        ScheduleCandidate givenScheduleCandidate = givenScheduleCandidate(false);
+        SchedulePollRequest givenSchedulePollRequest = SchedulePollRequest.builder()
+                                                                          .scheduleCandidateId(givenScheduleCandidate.getId())
+                                                                          .build();
+
+        String path = "/groups/{groupId}/schedules/{scheduleId}/poll";
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenScheduleCandidate.getSchedule().getGroup().getId())
+                                                       .pathParam("scheduleId", givenScheduleCandidate.getSchedule().getId())
+                                                       .body(givenSchedulePollRequest);
+        givenRequest.when()
+                    .post(path)
+                    .then()
+                    .statusCode(HttpStatus.CREATED.value());
+
+        // when
+        Response actualResponse = givenRequest.when()
+                                              .log().all()
+                                              .post(path);
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.CREATED.value());
+
+        then(actualResponse.as(SchedulePollResponse.class).getPollCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 투표를 동시에 두 번 보내도 둘 다 성공하고 투표는 하나만 저장된다")
+    void pollScheduleConcurrently() {
+        // given
+        ScheduleCandidate givenScheduleCandidate = givenScheduleCandidate(false);
+        SchedulePollRequest givenSchedulePollRequest = SchedulePollRequest.builder()
+                                                                          .scheduleCandidateId(givenScheduleCandidate.getId())
+                                                                          .build();
+        Supplier<Integer> givenPoll = () -> RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenScheduleCandidate.getSchedule().getGroup().getId())
+                                                       .pathParam("scheduleId", givenScheduleCandidate.getSchedule().getId())
+                                                       .body(givenSchedulePollRequest)
+                                                       .post("/groups/{groupId}/schedules/{scheduleId}/poll")
+                                                       .statusCode();
+
+        // when
+        CompletableFuture<Integer> firstPoll = CompletableFuture.supplyAsync(givenPoll);
+        CompletableFuture<Integer> secondPoll = CompletableFuture.supplyAsync(givenPoll);
+
+        // then
+        then(List.of(firstPoll.join(), secondPoll.join())).containsOnly(HttpStatus.CREATED.value());
+        testEntityManager.findAndConsume(ScheduleCandidate.class, givenScheduleCandidate.getId(), scheduleCandidate -> {
+            then(scheduleCandidate.getPolledUser()).hasSize(1);
+            then(scheduleCandidate.getPollCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("경로의 스케줄에 없는 후보에 투표하면 400 을 받고 투표는 저장되지 않는다")
+    void pollScheduleCandidateOfOtherSchedule() {
+        // given
+        ScheduleCandidate givenScheduleCandidate = givenScheduleCandidate(false);
+        Group otherGroup = Group.builder()
+                                .name("other group")
+                                .build();
+        Schedule otherSchedule = Schedule.builder()
+                                         .title("other title")
+                                         .group(otherGroup)
+                                         .build();
+        otherGroup.addSchedule(otherSchedule);
+        testEntityManager.persist(otherGroup);
+
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .contentType(ContentType.JSON)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", otherGroup.getId())
+                                                       .pathParam("scheduleId", otherSchedule.getId())
+                                                       .body(SchedulePollRequest.builder()
+                                                                                .scheduleCandidateId(givenScheduleCandidate.getId())
+                                                                                .build());
+
+        // when
+        Response actualResponse = givenRequest.when()
+                                              .log().all()
+                                              .post("/groups/{groupId}/schedules/{scheduleId}/poll");
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.BAD_REQUEST.value());
+
+        testEntityManager.findAndConsume(ScheduleCandidate.class, givenScheduleCandidate.getId(), scheduleCandidate ->
+                then(scheduleCandidate.getPolledUser()).isEmpty()
+        );
+    }
+
     @Test
     void cancelPollSchedule() {
         // given
-        testEntityManager.persist(testUser);
+        ScheduleCandidate givenScheduleCandidate = givenScheduleCandidate(true);
         SchedulePollRequest givenSchedulePollRequest = SchedulePollRequest.builder()
-                                                                          .scheduleCandidateId(1L)
+                                                                          .scheduleCandidateId(givenScheduleCandidate.getId())
                                                                           .build();
         SchedulePollResponse expectedSchedulePollResponse = SchedulePollResponse.builder()
-                                                                                .pollCount(1)
+                                                                                .pollCount(0)
                                                                                 .build();
 
         String path = "/groups/{groupId}/schedules/{scheduleId}/poll";
@@ -125,9 +274,9 @@ public class SchedulePollAcceptanceTest extends AcceptanceTestBase {
                                                        .port(port)
                                                        .basePath("/api")
                                                        .contentType(ContentType.JSON)
-                                                       .header("Authorization", TEST_TOKEN)
-                                                       .pathParam("groupId", 1L)
-                                                       .pathParam("scheduleId", 1L)
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenScheduleCandidate.getSchedule().getGroup().getId())
+                                                       .pathParam("scheduleId", givenScheduleCandidate.getSchedule().getId())
                                                        .body(givenSchedulePollRequest);
 
         // when
@@ -151,5 +300,210 @@ public class SchedulePollAcceptanceTest extends AcceptanceTestBase {
                 // TODO: Add description
                 .usingRecursiveComparison()
                 .isEqualTo(expectedSchedulePollResponse);
+
+        testEntityManager.findAndConsume(ScheduleCandidate.class, givenScheduleCandidate.getId(), scheduleCandidate ->
+                then(scheduleCandidate.getPolledUser()).isEmpty()
+        );
+    }
+
+    @Test
+    void readVoters() {
+        // given
+        testEntityManager.persist(testUser);
+        Group group = Group.builder()
+                           .name("group")
+                           .build();
+        ScheduleCandidate givenPolledScheduleCandidate = ScheduleCandidate.builder()
+                                                                          .build();
+        givenPolledScheduleCandidate.poll(testUser);
+        ScheduleCandidate givenScheduleCandidate = ScheduleCandidate.builder()
+                                                                    .build();
+        Schedule givenSchedule = Schedule.builder()
+                                         .title("title")
+                                         .group(group)
+                                         .scheduleCandidate(givenPolledScheduleCandidate)
+                                         .scheduleCandidate(givenScheduleCandidate)
+                                         .build();
+        givenPolledScheduleCandidate.setSchedule(givenSchedule);
+        givenScheduleCandidate.setSchedule(givenSchedule);
+        group.addSchedule(givenSchedule);
+        testEntityManager.persist(group);
+
+        String path = "/groups/{groupId}/schedules/{scheduleId}/voters";
+        RequestSpecification givenRequest = RestAssured.given(this.spec)
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", group.getId())
+                                                       .pathParam("scheduleId", givenSchedule.getId());
+
+        // when
+        Response actualResponse = givenRequest.when()
+                                              .accept(ContentType.JSON)
+                                              .filter(document(
+                                                      DEFAULT_RESTDOCS_PATH,
+                                                      SCHEDULE_POLL_PATH_PARAMETERS,
+                                                      SCHEDULE_VOTERS_RESPONSE_FIELDS
+                                              ))
+                                              .log().all()
+                                              .get(path);
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.OK.value());
+
+        ScheduleVotersResponse actualScheduleVotersResponse = actualResponse.as(ScheduleVotersResponse.class);
+        then(actualScheduleVotersResponse.getScheduleCandidates()).extracting(ScheduleCandidateVotersResponse::getPollCount)
+                                                                  .containsExactly(1, 0);
+        then(actualScheduleVotersResponse.getScheduleCandidates().get(0).getVoterIds()).containsExactly(testUser.getId());
+        then(actualScheduleVotersResponse.getCommonVoterIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("그룹에 없는 스케줄의 투표자를 조회하면 404 를 받는다")
+    void readVotersOfUnknownSchedule() {
+        // given
+        ScheduleCandidate givenScheduleCandidate = givenScheduleCandidate(true);
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenScheduleCandidate.getSchedule().getGroup().getId())
+                                                       .pathParam("scheduleId", givenScheduleCandidate.getSchedule().getId() + 1);
+
+        // when
+        Response actualResponse = givenRequest.when()
+                                              .accept(ContentType.JSON)
+                                              .log().all()
+                                              .get("/groups/{groupId}/schedules/{scheduleId}/voters");
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    @DisplayName("EventSource 처럼 쿼리 파라미터로 토큰을 넘겨 투표 집계를 구독하고, 투표하면 바뀐 집계를 받는다")
+    void streamPollTally() throws Exception {
+        // given
+        ScheduleCandidate givenScheduleCandidate = givenScheduleCandidate(false);
+        long givenGroupId = givenScheduleCandidate.getSchedule().getGroup().getId();
+        long givenScheduleId = givenScheduleCandidate.getSchedule().getId();
+        HttpRequest givenRequest = HttpRequest.newBuilder(pollStreamUri(givenGroupId, givenScheduleId, testToken.substring("Bearer ".length())))
+                                              .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                                              .GET()
+                                              .build();
+
+        // when
+        HttpResponse<Stream<String>> actualResponse = HttpClient.newHttpClient()
+                                                                .send(givenRequest, HttpResponse.BodyHandlers.ofLines());
+
+        // then
+        then(actualResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        try (Stream<String> lines = actualResponse.body()) {
+            Iterator<String> frames = lines.filter(line -> line.startsWith("data:"))
+                                           .map(line -> line.substring("data:".length()))
+                                           .iterator();
+            SchedulePollTallyResponse actualFirstTally = assertTimeoutPreemptively(STREAM_TIMEOUT, () -> objectMapper.readValue(frames.next(), SchedulePollTallyResponse.class));
+            then(actualFirstTally.getPollCounts()).extracting(SchedulePollCountResponse::getPollCount)
+                                                  .containsExactly(0);
+
+            RestAssured.given()
+                       .baseUri(BASE_URL)
+                       .port(port)
+                       .basePath("/api")
+                       .contentType(ContentType.JSON)
+                       .header("Authorization", testToken)
+                       .pathParam("groupId", givenGroupId)
+                       .pathParam("scheduleId", givenScheduleId)
+                       .body(SchedulePollRequest.builder()
+                                                .scheduleCandidateId(givenScheduleCandidate.getId())
+                                                .build())
+                       .post("/groups/{groupId}/schedules/{scheduleId}/poll")
+                       .then()
+                       .statusCode(HttpStatus.CREATED.value());
+
+            SchedulePollTallyResponse actualChangedTally = assertTimeoutPreemptively(STREAM_TIMEOUT, () -> objectMapper.readValue(frames.next(), SchedulePollTallyResponse.class));
+            then(actualChangedTally.getScheduleId()).isEqualTo(givenScheduleId);
+            then(actualChangedTally.getPollCounts()).usingRecursiveFieldByFieldElementComparator()
+                                                    .containsExactly(new SchedulePollCountResponse(givenScheduleCandidate.getId(), 1));
+        }
+    }
+
+    @Test
+    @DisplayName("그룹에 없는 스케줄의 투표 집계를 구독하면 404 를 받는다")
+    void streamPollTallyOfUnknownSchedule() {
+        // given
+        ScheduleCandidate givenScheduleCandidate = givenScheduleCandidate(false);
+        RequestSpecification givenRequest = RestAssured.given()
+                                                       .baseUri(BASE_URL)
+                                                       .port(port)
+                                                       .basePath("/api")
+                                                       .header("Authorization", testToken)
+                                                       .pathParam("groupId", givenScheduleCandidate.getSchedule().getGroup().getId() + 1)
+                                                       .pathParam("scheduleId", givenScheduleCandidate.getSchedule().getId());
+
+        // when
+        Response actualResponse = givenRequest.when()
+                                              .log().all()
+                                              .get("/groups/{groupId}/schedules/{scheduleId}/poll/stream");
+
+        // then
+        actualResponse.then()
+                      .log().all()
+                      .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    @DisplayName("쿼리 파라미터로 refresh token 을 넘겨 투표 집계를 구독하면 401 을 받는다")
+    void streamPollTallyWithRefreshToken() throws Exception {
+        // given
+        ScheduleCandidate givenScheduleCandidate = givenScheduleCandidate(false);
+        String givenRefreshToken = signInTokenGenerator.refreshToken(testUser.getId());
+        HttpRequest givenRequest = HttpRequest.newBuilder(pollStreamUri(givenScheduleCandidate.getSchedule().getGroup().getId(), givenScheduleCandidate.getSchedule().getId(), givenRefreshToken))
+                                              .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE)
+                                              .GET()
+                                              .build();
+
+        // when
+        HttpResponse<String> actualResponse = HttpClient.newHttpClient()
+                                                        .send(givenRequest, HttpResponse.BodyHandlers.ofString());
+
+        // then
+        then(actualResponse.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private URI pollStreamUri(long groupId, long scheduleId, String accessToken) {
+        return UriComponentsBuilder.fromUriString(BASE_URL)
+                                   .port(port)
+                                   .path("/api/groups/{groupId}/schedules/{scheduleId}/poll/stream")
+                                   .queryParam("access_token", accessToken)
+                                   .buildAndExpand(groupId, scheduleId)
+                                   .toUri();
+    }
+
+    private ScheduleCandidate givenScheduleCandidate(boolean polled) {
+        testEntityManager.persist(testUser);
+        Group group = Group.builder()
+                           .name("group")
+                           .build();
+        ScheduleCandidate givenScheduleCandidate = ScheduleCandidate.builder()
+                                                                    .build();
+        if (polled) {
+            givenScheduleCandidate.poll(testUser);
+        }
+        Schedule givenSchedule = Schedule.builder()
+                                         .title("title")
+                                         .group(group)
+                                         .scheduleCandidate(givenScheduleCandidate)
+                                         .build();
+        givenScheduleCandidate.setSchedule(givenSchedule);
+        group.addSchedule(givenSchedule);
+        testEntityManager.persist(group);
+        return givenScheduleCandidate;
     }
 }
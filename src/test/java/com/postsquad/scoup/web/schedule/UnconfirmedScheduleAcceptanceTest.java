@@ -135,7 +135,7 @@ class UnconfirmedScheduleAcceptanceTest extends AcceptanceTestBase {
                                                        .basePath("/api")
                                                        .pathParam("groupId", group.getId())
                                                        .contentType(ContentType.JSON)
-                                                       .header(AUTHORIZATION, TEST_TOKEN);
+                                                       .header(AUTHORIZATION, testToken);
 
         // when
         Response actualResponse = givenRequest.when()
@@ -0,0 +1,87 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class DayBucketsTest {
+
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2021, 9, 1, 0, 0);
+
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(2021, 9, 4, 0, 0);
+
+    private static final SchedulePeriod FIRST_DAY = new SchedulePeriod(LocalDateTime.of(2021, 9, 1, 9, 0), LocalDateTime.of(2021, 9, 1, 10, 0));
+
+    private static final SchedulePeriod OVERNIGHT = new SchedulePeriod(LocalDateTime.of(2021, 9, 1, 22, 0), LocalDateTime.of(2021, 9, 2, 2, 0));
+
+    private static final SchedulePeriod UNTIL_MIDNIGHT = new SchedulePeriod(LocalDateTime.of(2021, 9, 2, 20, 0), LocalDateTime.of(2021, 9, 3, 0, 0));
+
+    private static final SchedulePeriod BEYOND_WINDOW = new SchedulePeriod(LocalDateTime.of(2021, 9, 3, 12, 0), LocalDateTime.of(2021, 9, 6, 0, 0));
+
+    private static final List<SchedulePeriod> SORTED_PERIODS = List.of(FIRST_DAY, OVERNIGHT, UNTIL_MIDNIGHT, BEYOND_WINDOW);
+
+    @Test
+    @DisplayName("START_DAY 는 시작 날짜에만 넣고 날짜 순으로 정렬한다")
+    void startDay() {
+        TreeMap<LocalDate, List<SchedulePeriod>> actualBuckets = bucket(DayBucketingPolicy.START_DAY);
+
+        then(actualBuckets.keySet()).containsExactly(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 2), LocalDate.of(2021, 9, 3));
+        then(actualBuckets.get(LocalDate.of(2021, 9, 1))).containsExactly(FIRST_DAY, OVERNIGHT);
+        then(actualBuckets.get(LocalDate.of(2021, 9, 2))).containsExactly(UNTIL_MIDNIGHT);
+        then(actualBuckets.get(LocalDate.of(2021, 9, 3))).containsExactly(BEYOND_WINDOW);
+    }
+
+    @Test
+    @DisplayName("EVERY_DAY 는 걸친 날짜마다 넣되 자정에 끝나는 날과 조회 구간 밖의 날은 제외한다")
+    void everyDay() {
+        TreeMap<LocalDate, List<SchedulePeriod>> actualBuckets = bucket(DayBucketingPolicy.EVERY_DAY);
+
+        then(actualBuckets.keySet()).containsExactly(LocalDate.of(2021, 9, 1), LocalDate.of(2021, 9, 2), LocalDate.of(2021, 9, 3));
+        then(actualBuckets.get(LocalDate.of(2021, 9, 1))).containsExactly(FIRST_DAY, OVERNIGHT);
+        then(actualBuckets.get(LocalDate.of(2021, 9, 2))).containsExactly(OVERNIGHT, UNTIL_MIDNIGHT);
+        then(actualBuckets.get(LocalDate.of(2021, 9, 3))).containsExactly(BEYOND_WINDOW);
+    }
+
+    @Test
+    @DisplayName("forEach 는 여러 날에 걸친 일정을 다음 일정보다 먼저, 날짜 순으로 넘긴다")
+    void forEachEveryDay() {
+        SchedulePeriod givenThreeDays = new SchedulePeriod(LocalDateTime.of(2021, 9, 1, 22, 0), LocalDateTime.of(2021, 9, 3, 2, 0));
+        SchedulePeriod givenThirdDay = new SchedulePeriod(LocalDateTime.of(2021, 9, 3, 12, 0), LocalDateTime.of(2021, 9, 3, 15, 0));
+        List<String> actualAccepted = new ArrayList<>();
+
+        DayBuckets.forEach(
+                List.of(givenThreeDays, givenThirdDay).iterator(),
+                SchedulePeriod::getStartDateTime,
+                SchedulePeriod::getEndDateTime,
+                DayBucketingPolicy.EVERY_DAY,
+                WINDOW_START,
+                WINDOW_END,
+                (LocalDate day, SchedulePeriod value) -> actualAccepted.add(day + " " + value.getStartDateTime())
+        );
+
+        then(actualAccepted).containsExactly(
+                "2021-09-01 2021-09-01T22:00",
+                "2021-09-02 2021-09-01T22:00",
+                "2021-09-03 2021-09-01T22:00",
+                "2021-09-03 2021-09-03T12:00"
+        );
+    }
+
+    private static TreeMap<LocalDate, List<SchedulePeriod>> bucket(DayBucketingPolicy dayBucketingPolicy) {
+        return DayBuckets.of(
+                SORTED_PERIODS,
+                SchedulePeriod::getStartDateTime,
+                SchedulePeriod::getEndDateTime,
+                dayBucketingPolicy,
+                WINDOW_START,
+                WINDOW_END
+        );
+    }
+}
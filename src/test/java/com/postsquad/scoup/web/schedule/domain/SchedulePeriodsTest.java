@@ -0,0 +1,49 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class SchedulePeriodsTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2021, 11, 25, 0, 0);
+
+    @Test
+    @DisplayName("겹치거나 맞닿은 기간은 하나로 합치고 떨어진 기간은 그대로 둔다")
+    void merge() {
+        List<SchedulePeriod> periods = List.of(
+                period(20, 22),
+                period(0, 2),
+                period(1, 3),
+                period(3, 5),
+                period(2, 4),
+                period(6, 7)
+        );
+
+        List<SchedulePeriod> actualPeriods = SchedulePeriods.merge(periods);
+
+        then(actualPeriods).containsExactly(period(0, 5), period(6, 7), period(20, 22));
+    }
+
+    @Test
+    @DisplayName("다른 기간을 완전히 포함하는 기간의 종료 시각을 유지한다")
+    void mergeContainedPeriod() {
+        List<SchedulePeriod> actualPeriods = SchedulePeriods.merge(List.of(period(0, 10), period(1, 2), period(3, 4)));
+
+        then(actualPeriods).containsExactly(period(0, 10));
+    }
+
+    @Test
+    @DisplayName("빈 입력은 빈 결과를 반환한다")
+    void mergeEmpty() {
+        then(SchedulePeriods.merge(List.of())).isEmpty();
+    }
+
+    private static SchedulePeriod period(int startHour, int endHour) {
+        return new SchedulePeriod(BASE_DATE_TIME.plusHours(startHour), BASE_DATE_TIME.plusHours(endHour));
+    }
+}
@@ -0,0 +1,73 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class ScheduleVoterBitmapTest {
+
+    @Test
+    @DisplayName("후보별 투표 여부와 투표 수를 사용자 엔티티 없이 구한다")
+    void hasVotedAndPollCount() {
+        ScheduleVoterBitmap scheduleVoterBitmap = ScheduleVoterBitmap.of(voterIdsByCandidate());
+
+        then(scheduleVoterBitmap.hasVoted(1L, 10L)).isTrue();
+        then(scheduleVoterBitmap.hasVoted(3L, 10L)).isFalse();
+        then(scheduleVoterBitmap.hasVoted(4L, 10L)).isFalse();
+        then(scheduleVoterBitmap.pollCount(1L)).isEqualTo(3);
+        then(scheduleVoterBitmap.pollCount(3L)).isZero();
+        then(scheduleVoterBitmap.voterIds(2L)).containsExactlyInAnyOrder(20L, 30L);
+    }
+
+    @Test
+    @DisplayName("여러 후보에 모두 투표한 사용자를 구한다")
+    void commonVoterIds() {
+        ScheduleVoterBitmap scheduleVoterBitmap = ScheduleVoterBitmap.of(voterIdsByCandidate());
+
+        then(scheduleVoterBitmap.commonVoterIds(List.of(1L, 2L))).containsExactlyInAnyOrder(20L, 30L);
+        then(scheduleVoterBitmap.commonVoterCount(List.of(1L, 2L, 3L))).isZero();
+        then(scheduleVoterBitmap.commonVoterIds(List.of())).isEmpty();
+        then(scheduleVoterBitmap.commonVoterIds(List.of(1L, 4L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("투표를 반영한 새 비트셋을 만들고 기존 비트셋은 바꾸지 않는다")
+    void withVote() {
+        ScheduleVoterBitmap scheduleVoterBitmap = ScheduleVoterBitmap.of(voterIdsByCandidate());
+
+        ScheduleVoterBitmap actualScheduleVoterBitmap = scheduleVoterBitmap.withVote(3L, 40L)
+                                                                           .withVote(2L, 10L);
+
+        then(actualScheduleVoterBitmap.voterIds(3L)).containsExactly(40L);
+        then(actualScheduleVoterBitmap.commonVoterIds(List.of(1L, 2L))).containsExactlyInAnyOrder(10L, 20L, 30L);
+        then(scheduleVoterBitmap.pollCount(3L)).isZero();
+        then(scheduleVoterBitmap.hasVoted(2L, 10L)).isFalse();
+        then(scheduleVoterBitmap.withVote(4L, 10L)).isSameAs(scheduleVoterBitmap);
+    }
+
+    @Test
+    @DisplayName("투표 취소를 반영한 새 비트셋을 만든다")
+    void withoutVote() {
+        ScheduleVoterBitmap scheduleVoterBitmap = ScheduleVoterBitmap.of(voterIdsByCandidate());
+
+        ScheduleVoterBitmap actualScheduleVoterBitmap = scheduleVoterBitmap.withoutVote(1L, 20L);
+
+        then(actualScheduleVoterBitmap.voterIds(1L)).containsExactlyInAnyOrder(10L, 30L);
+        then(actualScheduleVoterBitmap.voterIds(2L)).containsExactlyInAnyOrder(20L, 30L);
+        then(scheduleVoterBitmap.hasVoted(1L, 20L)).isTrue();
+        then(scheduleVoterBitmap.withoutVote(3L, 20L)).isSameAs(scheduleVoterBitmap);
+    }
+
+    private static Map<Long, List<Long>> voterIdsByCandidate() {
+        Map<Long, List<Long>> voterIdsByCandidate = new LinkedHashMap<>();
+        voterIdsByCandidate.put(1L, List.of(10L, 20L, 30L));
+        voterIdsByCandidate.put(2L, List.of(20L, 30L));
+        voterIdsByCandidate.put(3L, List.of());
+        return voterIdsByCandidate;
+    }
+}
@@ -0,0 +1,72 @@
+package com.postsquad.scoup.web.schedule.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class SlotRecommenderTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2021, 11, 25, 0, 0);
+
+    @Test
+    @DisplayName("겹치는 확정 일정의 참여자를 뺀 참석 가능 인원이 많은 후보부터 추천한다")
+    void recommend() {
+        List<CandidateSlot> candidateSlots = List.of(
+                CandidateSlot.of(1L, at(0), at(2), Set.of(1L, 2L, 3L)),
+                CandidateSlot.of(2L, at(4), at(6), Set.of(1L, 2L)),
+                CandidateSlot.of(3L, at(8), at(10), Set.of(1L))
+        );
+        List<BusyPeriod> busyPeriods = List.of(
+                BusyPeriod.of(10L, at(1), at(5), Set.of(1L, 2L))
+        );
+
+        List<SlotRecommendation> actualRecommendations = SlotRecommender.recommend(candidateSlots, busyPeriods);
+
+        then(actualRecommendations).extracting(SlotRecommendation::getScheduleCandidateId)
+                                   .containsExactly(3L, 1L, 2L);
+        then(actualRecommendations).extracting(SlotRecommendation::getAvailableCount)
+                                   .containsExactly(1, 1, 0);
+        then(actualRecommendations).extracting(SlotRecommendation::getConflictingScheduleCount)
+                                   .containsExactly(0, 1, 1);
+    }
+
+    @Test
+    @DisplayName("맞닿기만 한 확정 일정은 겹치는 것으로 보지 않는다")
+    void recommendTouchingPeriod() {
+        List<CandidateSlot> candidateSlots = List.of(CandidateSlot.of(1L, at(2), at(4), Set.of(1L)));
+        List<BusyPeriod> busyPeriods = List.of(
+                BusyPeriod.of(10L, at(0), at(2), Set.of(1L)),
+                BusyPeriod.of(11L, at(4), at(6), Set.of(1L))
+        );
+
+        List<SlotRecommendation> actualRecommendations = SlotRecommender.recommend(candidateSlots, busyPeriods);
+
+        then(actualRecommendations.get(0)).hasFieldOrPropertyWithValue("availableCount", 1)
+                                          .hasFieldOrPropertyWithValue("conflictingScheduleCount", 0);
+    }
+
+    @Test
+    @DisplayName("참석 가능 인원이 같으면 투표 수가 많아도 겹치는 일정이 적은 후보를 먼저, 그다음 시작이 이른 후보를 먼저 추천한다")
+    void recommendTieBreak() {
+        List<CandidateSlot> candidateSlots = List.of(
+                CandidateSlot.of(1L, at(6), at(8), Set.of(1L)),
+                CandidateSlot.of(2L, at(2), at(4), Set.of(1L)),
+                CandidateSlot.of(3L, at(0), at(2), Set.of(1L, 2L))
+        );
+        List<BusyPeriod> busyPeriods = List.of(BusyPeriod.of(10L, at(0), at(2), Set.of(2L)));
+
+        List<SlotRecommendation> actualRecommendations = SlotRecommender.recommend(candidateSlots, busyPeriods);
+
+        then(actualRecommendations).extracting(SlotRecommendation::getScheduleCandidateId)
+                                   .containsExactly(2L, 1L, 3L);
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE_DATE_TIME.plusHours(hour);
+    }
+}
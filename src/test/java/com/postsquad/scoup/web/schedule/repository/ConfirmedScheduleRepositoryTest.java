@@ -1,22 +1,34 @@
 package com.postsquad.scoup.web.schedule.repository;
 
+import com.postsquad.scoup.web.auth.OAuthType;
+import com.postsquad.scoup.web.common.CursorSlice;
+import com.postsquad.scoup.web.config.QuerydslConfig;
 import com.postsquad.scoup.web.group.domain.Group;
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedParticipantResponse;
+import com.postsquad.scoup.web.schedule.controller.response.ConfirmedScheduleReadAllResponse;
 import com.postsquad.scoup.web.schedule.domain.ConfirmedSchedule;
 import com.postsquad.scoup.web.schedule.domain.Schedule;
 import com.postsquad.scoup.web.schedule.provider.FindConfirmedSchedulesByGroupIdProvider;
+import com.postsquad.scoup.web.user.domain.OAuthUser;
+import com.postsquad.scoup.web.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
 @DataJpaTest
+@Import(QuerydslConfig.class)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class ConfirmedScheduleRepositoryTest {
 
@@ -56,4 +68,96 @@ class ConfirmedScheduleRepositoryTest {
                 .ignoringFields("id", "createdDateTime", "modifiedDateTime", "schedule")
                 .isEqualTo(expectedConfirmedSchedule);
     }
+
+    @Test
+    @DisplayName("확정 일정 목록을 참여자와 함께 응답 DTO 로 바로 조회한다")
+    void findReadAllResponsesByGroupId() {
+        // given
+        User owner = user("owner");
+        User participant = user("participant");
+        User laterParticipant = user("laterParticipant");
+        Group group = Group.builder()
+                           .name("group")
+                           .description("description")
+                           .owner(owner)
+                           .build();
+        entityManager.persist(group);
+
+        Schedule laterSchedule = confirmedSchedule(group, "later", LocalDateTime.of(2021, 9, 26, 9, 0), List.of(laterParticipant));
+        Schedule earlierSchedule = confirmedSchedule(group, "earlier", LocalDateTime.of(2021, 9, 25, 9, 0), List.of(owner, participant));
+        entityManager.persist(laterSchedule);
+        entityManager.persist(earlierSchedule);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<ConfirmedScheduleReadAllResponse> actualResponses = confirmedScheduleRepository.findReadAllResponsesByGroupId(group.getId(), null, 10).getContent();
+
+        // then
+        then(actualResponses).extracting(ConfirmedScheduleReadAllResponse::getTitle)
+                             .containsExactly("earlier", "later");
+        then(actualResponses.get(0).getConfirmedParticipants())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(new ConfirmedParticipantResponse("owner", "username"),
+                                 new ConfirmedParticipantResponse("participant", "username"));
+        then(actualResponses.get(0).getEndDateTime()).isEqualTo(LocalDateTime.of(2021, 9, 25, 11, 0));
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 항목의 커서를 함께 반환하고, 커서로 이어서 조회한다")
+    void findReadAllResponsesByGroupIdAfterCursor() {
+        // given
+        User owner = user("owner");
+        Group group = Group.builder()
+                           .name("group")
+                           .description("description")
+                           .owner(owner)
+                           .build();
+        entityManager.persist(group);
+
+        LocalDateTime startDateTime = LocalDateTime.of(2021, 9, 25, 9, 0);
+        entityManager.persist(confirmedSchedule(group, "first", startDateTime, List.of()));
+        entityManager.persist(confirmedSchedule(group, "second", startDateTime, List.of()));
+        entityManager.persist(confirmedSchedule(group, "third", startDateTime.plusDays(1), List.of()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        CursorSlice<ConfirmedScheduleReadAllResponse> firstPage = confirmedScheduleRepository.findReadAllResponsesByGroupId(group.getId(), null, 2);
+        CursorSlice<ConfirmedScheduleReadAllResponse> secondPage = confirmedScheduleRepository.findReadAllResponsesByGroupId(group.getId(), firstPage.getNextCursor(), 2);
+
+        // then
+        then(firstPage.getContent()).extracting(ConfirmedScheduleReadAllResponse::getTitle)
+                                    .containsExactly("first", "second");
+        then(firstPage.getNextCursor()).isNotNull();
+        then(secondPage.getContent()).extracting(ConfirmedScheduleReadAllResponse::getTitle)
+                                     .containsExactly("third");
+        then(secondPage.getNextCursor()).isNull();
+    }
+
+    private User user(String nickname) {
+        User user = User.builder()
+                        .nickname(nickname)
+                        .email(nickname + "@email.com")
+                        .password("password")
+                        .username("username")
+                        .oAuthUsers(List.of(OAuthUser.of(OAuthType.NONE, "")))
+                        .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Schedule confirmedSchedule(Group group, String title, LocalDateTime startDateTime, List<User> participants) {
+        Schedule schedule = Schedule.builder()
+                                    .group(group)
+                                    .title(title)
+                                    .description("description")
+                                    .build();
+        schedule.confirmSchedule(ConfirmedSchedule.builder()
+                                                  .startDateTime(startDateTime)
+                                                  .endDateTime(startDateTime.plusHours(2))
+                                                  .confirmedParticipants(participants)
+                                                  .build());
+        return schedule;
+    }
 }
@@ -1,14 +1,23 @@
 package com.postsquad.scoup.web.schedule.repository;
 
+import com.postsquad.scoup.web.auth.OAuthType;
+import com.postsquad.scoup.web.config.QuerydslConfig;
 import com.postsquad.scoup.web.group.domain.Group;
 import com.postsquad.scoup.web.schedule.domain.Schedule;
 import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.user.domain.OAuthUser;
+import com.postsquad.scoup.web.user.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityManager;
 import java.time.LocalDate;
@@ -21,6 +30,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.BDDAssertions.then;
 
 @DataJpaTest
+@Import(QuerydslConfig.class)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class ScheduleCandidateRepositoryTest {
 
@@ -51,7 +61,7 @@ class ScheduleCandidateRepositoryTest {
         }
 
         // when
-        List<ScheduleCandidate> actualScheduleCandidates = scheduleCandidateRepository.findAllByDateTimeIncluding(group.getId(), givenStartDate.atStartOfDay(), givenEndDate.atStartOfDay());
+        List<ScheduleCandidate> actualScheduleCandidates = scheduleCandidateRepository.findAllByDateTimeIncluding(group.getId(), givenStartDate.atStartOfDay(), givenEndDate.atStartOfDay(), Pageable.unpaged());
 
         // then
         then(actualScheduleCandidates)
@@ -61,6 +71,151 @@ class ScheduleCandidateRepositoryTest {
                 .isEqualTo(expectedScheduleCandidates);
     }
 
+    @Test
+    @DisplayName("다른 그룹의 스케줄 후보는 조회하지 않는다")
+    void findAllByDateTimeIncludingOnlyGivenGroup() {
+        // given
+        Group group = Group.builder()
+                           .name("group")
+                           .build();
+        Group otherGroup = Group.builder()
+                                .name("other group")
+                                .build();
+        entityManager.persist(group);
+        entityManager.persist(otherGroup);
+
+        ScheduleCandidate scheduleCandidate = ScheduleCandidate.builder()
+                                                               .startDateTime(LocalDateTime.of(2021, 9, 1, 1, 0))
+                                                               .endDateTime(LocalDateTime.of(2021, 9, 1, 2, 0))
+                                                               .build();
+        ScheduleCandidate otherGroupScheduleCandidate = ScheduleCandidate.builder()
+                                                                         .startDateTime(LocalDateTime.of(2021, 9, 1, 1, 0))
+                                                                         .endDateTime(LocalDateTime.of(2021, 9, 1, 2, 0))
+                                                                         .build();
+        Schedule schedule = Schedule.builder()
+                                    .group(group)
+                                    .title("title")
+                                    .scheduleCandidate(scheduleCandidate)
+                                    .build();
+        Schedule otherGroupSchedule = Schedule.builder()
+                                              .group(otherGroup)
+                                              .title("title")
+                                              .scheduleCandidate(otherGroupScheduleCandidate)
+                                              .build();
+        scheduleCandidate.setSchedule(schedule);
+        otherGroupScheduleCandidate.setSchedule(otherGroupSchedule);
+        entityManager.persist(schedule);
+        entityManager.persist(otherGroupSchedule);
+
+        // when
+        List<ScheduleCandidate> actualScheduleCandidates = scheduleCandidateRepository.findAllByDateTimeIncluding(
+                group.getId(),
+                LocalDate.of(2021, 9, 1).atStartOfDay(),
+                LocalDate.of(2021, 9, 2).atStartOfDay(),
+                Pageable.unpaged()
+        );
+
+        // then
+        then(actualScheduleCandidates).extracting(ScheduleCandidate::getId)
+                                      .containsExactly(scheduleCandidate.getId());
+    }
+
+    @Test
+    @DisplayName("커서 다음부터 (시작 시각, id) 순서로 이어서 조회한다")
+    void findAllByDateTimeIncludingAfter() {
+        // given
+        Group group = Group.builder()
+                           .name("group")
+                           .build();
+        entityManager.persist(group);
+
+        Schedule schedule = Schedule.builder()
+                                    .group(group)
+                                    .title("title")
+                                    .build();
+        List<ScheduleCandidate> scheduleCandidates = List.of(
+                ScheduleCandidate.builder()
+                                 .startDateTime(LocalDateTime.of(2021, 9, 1, 1, 0))
+                                 .endDateTime(LocalDateTime.of(2021, 9, 1, 2, 0))
+                                 .build(),
+                ScheduleCandidate.builder()
+                                 .startDateTime(LocalDateTime.of(2021, 9, 1, 3, 0))
+                                 .endDateTime(LocalDateTime.of(2021, 9, 1, 4, 0))
+                                 .build(),
+                ScheduleCandidate.builder()
+                                 .startDateTime(LocalDateTime.of(2021, 9, 1, 3, 0))
+                                 .endDateTime(LocalDateTime.of(2021, 9, 1, 5, 0))
+                                 .build(),
+                ScheduleCandidate.builder()
+                                 .startDateTime(LocalDateTime.of(2021, 9, 1, 6, 0))
+                                 .endDateTime(LocalDateTime.of(2021, 9, 1, 7, 0))
+                                 .build()
+        );
+        scheduleCandidates.forEach(schedule::addScheduleCandidate);
+        entityManager.persist(schedule);
+
+        LocalDateTime startDateTime = LocalDate.of(2021, 9, 1).atStartOfDay();
+        LocalDateTime endDateTime = LocalDate.of(2021, 9, 2).atStartOfDay();
+
+        // when
+        List<ScheduleCandidate> firstPage = scheduleCandidateRepository.findAllByDateTimeIncluding(group.getId(), startDateTime, endDateTime, PageRequest.of(0, 2));
+        ScheduleCandidate last = firstPage.get(firstPage.size() - 1);
+        List<ScheduleCandidate> secondPage = scheduleCandidateRepository.findAllByDateTimeIncludingAfter(
+                group.getId(), startDateTime, endDateTime, last.getStartDateTime(), last.getId(), PageRequest.of(0, 2)
+        );
+
+        // then
+        then(firstPage).extracting(ScheduleCandidate::getId)
+                       .containsExactly(scheduleCandidates.get(0).getId(), scheduleCandidates.get(1).getId());
+        then(secondPage).extracting(ScheduleCandidate::getId)
+                        .containsExactly(scheduleCandidates.get(2).getId(), scheduleCandidates.get(3).getId());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 중복 투표는 투표 행과 투표 수를 늘리지 않는다")
+    void insertPolledUserOnlyOnce() {
+        // given
+        User user = User.builder()
+                        .nickname("nickname")
+                        .email("email@email.com")
+                        .password("password")
+                        .username("username")
+                        .oAuthUsers(List.of(OAuthUser.of(OAuthType.NONE, "")))
+                        .build();
+        entityManager.persist(user);
+
+        ScheduleCandidate scheduleCandidate = ScheduleCandidate.builder()
+                                                               .startDateTime(LocalDateTime.of(2021, 9, 1, 1, 0))
+                                                               .endDateTime(LocalDateTime.of(2021, 9, 1, 2, 0))
+                                                               .build();
+        Schedule schedule = Schedule.builder()
+                                    .title("title")
+                                    .scheduleCandidate(scheduleCandidate)
+                                    .build();
+        scheduleCandidate.setSchedule(schedule);
+        entityManager.persist(schedule);
+        entityManager.flush();
+
+        // when
+        int firstInsertedRows = scheduleCandidateRepository.insertPolledUser(scheduleCandidate.getId(), user.getId());
+        if (firstInsertedRows > 0) {
+            scheduleCandidateRepository.increasePollCount(scheduleCandidate.getId());
+        }
+        int secondInsertedRows = scheduleCandidateRepository.insertPolledUser(scheduleCandidate.getId(), user.getId());
+
+        // then
+        then(firstInsertedRows).isEqualTo(1);
+        then(secondInsertedRows).isZero();
+        then(scheduleCandidateRepository.findPollCountById(scheduleCandidate.getId())).contains(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 후보에는 투표 행을 추가하지 않는다")
+    void insertPolledUserToNotExistingCandidate() {
+        then(scheduleCandidateRepository.insertPolledUser(Long.MAX_VALUE, 1L)).isZero();
+        then(scheduleCandidateRepository.findPollCountById(Long.MAX_VALUE)).isEmpty();
+    }
+
     static Stream<Arguments> findAllByDateTimeIncludingProvider() {
         class Provider {
             Schedule scheduleFrom(List<ScheduleCandidate> scheduleCandidates) {
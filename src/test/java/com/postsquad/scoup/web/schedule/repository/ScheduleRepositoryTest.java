@@ -1,20 +1,40 @@
 package com.postsquad.scoup.web.schedule.repository;
 
+import com.postsquad.scoup.web.QueryCounter;
+import com.postsquad.scoup.web.auth.OAuthType;
+import com.postsquad.scoup.web.config.QuerydslConfig;
 import com.postsquad.scoup.web.group.domain.Group;
 import com.postsquad.scoup.web.group.repository.GroupRepository;
+import com.postsquad.scoup.web.schedule.controller.response.ScheduleReadOneResponse;
+import com.postsquad.scoup.web.schedule.domain.ConfirmedSchedule;
 import com.postsquad.scoup.web.schedule.domain.Schedule;
+import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.schedule.mapper.ScheduleMapper;
+import com.postsquad.scoup.web.user.domain.OAuthUser;
+import com.postsquad.scoup.web.user.domain.User;
 import com.postsquad.scoup.web.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
 
 @DataJpaTest
+@Import({QuerydslConfig.class, QueryCounter.class})
 class ScheduleRepositoryTest {
 
+    private static final long MAX_QUERY_COUNT_FOR_READ_ONE = 8;
+
     @Autowired
     GroupRepository groupRepository;
 
@@ -24,6 +44,11 @@ class ScheduleRepositoryTest {
     @Autowired
     EntityManager entityManager;
 
+    @Autowired
+    QueryCounter queryCounter;
+
+    private int userSequence;
+
     @Test
     void save() {
         Group givenGroup = Group.builder()
@@ -49,4 +74,113 @@ class ScheduleRepositoryTest {
         Group actualGroup = groupRepository.findById(targetGroup.getId()).orElseThrow();
         assertThat(actualGroup.getSchedules()).hasSize(1);
     }
+
+    @Test
+    @DisplayName("스케줄 상세 조회의 쿼리 수는 후보와 투표자 수에 따라 늘어나지 않는다")
+    void findDetailByIdWithBoundedQueries() {
+        // given
+        long scheduleWithOneCandidateId = persistConfirmedSchedule(1, 1);
+        long scheduleWithManyCandidatesId = persistConfirmedSchedule(10, 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        AtomicReference<ScheduleReadOneResponse> actualResponse = new AtomicReference<>();
+        long queryCountForOneCandidate = queryCounter.count(() -> readOne(scheduleWithOneCandidateId));
+        entityManager.clear();
+        long queryCountForManyCandidates = queryCounter.count(() -> actualResponse.set(readOne(scheduleWithManyCandidatesId)));
+
+        // then
+        then(actualResponse.get().getScheduleCandidates()).hasSize(10)
+                                                          .allSatisfy(candidate -> then(candidate.getConfirmedParticipants()).hasSize(5));
+        then(actualResponse.get().getConfirmedSchedule().getConfirmedParticipants()).hasSize(5);
+        then(queryCountForManyCandidates).isEqualTo(queryCountForOneCandidate)
+                                         .isLessThanOrEqualTo(MAX_QUERY_COUNT_FOR_READ_ONE);
+    }
+
+    private ScheduleReadOneResponse readOne(long scheduleId) {
+        return ScheduleMapper.INSTANCE.toScheduleReadOneResponse(scheduleRepository.findDetailById(scheduleId).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("마감이 지났고 후보가 있는 미확정 스케줄만 마감 순으로 조회한다")
+    void findDueUnconfirmedIds() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2021, 11, 25, 0, 0);
+        long laterDueScheduleId = persistUnconfirmedSchedule(now.minusHours(1), 1);
+        long earlierDueScheduleId = persistUnconfirmedSchedule(now.minusDays(1), 1);
+        persistUnconfirmedSchedule(now.plusHours(1), 1);
+        persistUnconfirmedSchedule(now.minusDays(1), 0);
+        long confirmedScheduleId = persistConfirmedSchedule(1, 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> actualIds = scheduleRepository.findDueUnconfirmedIds(now, PageRequest.of(0, 10));
+
+        // then
+        then(actualIds).containsExactly(earlierDueScheduleId, laterDueScheduleId)
+                       .doesNotContain(confirmedScheduleId);
+    }
+
+    private long persistUnconfirmedSchedule(LocalDateTime dueDateTime, int candidateCount) {
+        Schedule schedule = Schedule.builder()
+                                    .title("title")
+                                    .dueDateTime(dueDateTime)
+                                    .build();
+        for (int i = 0; i < candidateCount; i++) {
+            schedule.addScheduleCandidate(ScheduleCandidate.builder()
+                                                           .startDateTime(dueDateTime.plusDays(i + 1))
+                                                           .endDateTime(dueDateTime.plusDays(i + 2))
+                                                           .build());
+        }
+
+        entityManager.persist(schedule);
+        return schedule.getId();
+    }
+
+    private long persistConfirmedSchedule(int candidateCount, int voterCount) {
+        List<User> voters = new ArrayList<>();
+        for (int i = 0; i < voterCount; i++) {
+            voters.add(persistUser());
+        }
+
+        Schedule schedule = Schedule.builder()
+                                    .title("title")
+                                    .build();
+        for (int i = 0; i < candidateCount; i++) {
+            ScheduleCandidate scheduleCandidate = ScheduleCandidate.builder()
+                                                                   .startDateTime(LocalDateTime.of(2021, 11, 25, 0, 0).plusDays(i))
+                                                                   .endDateTime(LocalDateTime.of(2021, 11, 26, 0, 0).plusDays(i))
+                                                                   .build();
+            voters.forEach(scheduleCandidate::poll);
+            schedule.addScheduleCandidate(scheduleCandidate);
+        }
+
+        List<User> confirmedParticipants = new ArrayList<>();
+        for (int i = 0; i < voterCount; i++) {
+            confirmedParticipants.add(persistUser());
+        }
+        schedule.confirmSchedule(ConfirmedSchedule.builder()
+                                                  .startDateTime(LocalDateTime.of(2021, 11, 25, 0, 0))
+                                                  .endDateTime(LocalDateTime.of(2021, 11, 26, 0, 0))
+                                                  .confirmedParticipants(confirmedParticipants)
+                                                  .build());
+
+        entityManager.persist(schedule);
+        return schedule.getId();
+    }
+
+    private User persistUser() {
+        userSequence++;
+        User user = User.builder()
+                        .nickname("nick" + userSequence)
+                        .email("email" + userSequence + "@email.com")
+                        .password("password")
+                        .username("username")
+                        .oAuthUsers(List.of(OAuthUser.of(OAuthType.NONE, "")))
+                        .build();
+        entityManager.persist(user);
+        return user;
+    }
 }
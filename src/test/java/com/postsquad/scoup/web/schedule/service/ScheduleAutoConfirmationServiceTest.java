@@ -0,0 +1,78 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.schedule.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class ScheduleAutoConfirmationServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2021, 11, 25, 0, 0);
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final int MAX_BATCHES_PER_RUN = 3;
+
+    ScheduleRepository scheduleRepository;
+
+    ScheduleConfirmationService scheduleConfirmationService;
+
+    ScheduleAutoConfirmationService scheduleAutoConfirmationService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        scheduleConfirmationService = mock(ScheduleConfirmationService.class);
+        scheduleAutoConfirmationService = new ScheduleAutoConfirmationService(scheduleRepository, scheduleConfirmationService, BATCH_SIZE, MAX_BATCHES_PER_RUN);
+    }
+
+    @Test
+    @DisplayName("마감이 지난 스케줄이 없을 때까지 batch 단위로 확정한다")
+    void confirmAllDue() {
+        BDDMockito.given(scheduleRepository.findDueUnconfirmedIds(NOW, PageRequest.of(0, BATCH_SIZE)))
+                  .willReturn(List.of(1L, 2L), List.of(3L), Collections.emptyList());
+        BDDMockito.given(scheduleConfirmationService.confirmAll(List.of(1L, 2L))).willReturn(2);
+        BDDMockito.given(scheduleConfirmationService.confirmAll(List.of(3L))).willReturn(1);
+
+        int actualConfirmedCount = scheduleAutoConfirmationService.confirmAllDue(NOW);
+
+        then(actualConfirmedCount).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한 번에 max-batches-per-run 개의 batch 까지만 처리한다")
+    void confirmAllDueUpToMaxBatches() {
+        BDDMockito.given(scheduleRepository.findDueUnconfirmedIds(NOW, PageRequest.of(0, BATCH_SIZE)))
+                  .willReturn(List.of(1L, 2L));
+        BDDMockito.given(scheduleConfirmationService.confirmAll(List.of(1L, 2L))).willReturn(2);
+
+        int actualConfirmedCount = scheduleAutoConfirmationService.confirmAllDue(NOW);
+
+        then(actualConfirmedCount).isEqualTo(BATCH_SIZE * MAX_BATCHES_PER_RUN);
+        BDDMockito.then(scheduleConfirmationService).should(times(MAX_BATCHES_PER_RUN)).confirmAll(anyList());
+    }
+
+    @Test
+    @DisplayName("확정하지 못한 batch 를 다시 읽지 않는다")
+    void confirmAllDueStopsWithoutProgress() {
+        BDDMockito.given(scheduleRepository.findDueUnconfirmedIds(NOW, PageRequest.of(0, BATCH_SIZE)))
+                  .willReturn(List.of(1L));
+        BDDMockito.given(scheduleConfirmationService.confirmAll(List.of(1L))).willReturn(0);
+
+        int actualConfirmedCount = scheduleAutoConfirmationService.confirmAllDue(NOW);
+
+        then(actualConfirmedCount).isZero();
+        BDDMockito.then(scheduleConfirmationService).should(times(1)).confirmAll(anyList());
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.BDDMockito;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,11 +30,14 @@ class ScheduleCandidateServiceTest {
     @MockBean
     ScheduleCandidateRepository scheduleCandidateRepository;
 
+    @MockBean
+    ScheduleCandidateIntervalIndex scheduleCandidateIntervalIndex;
+
     ScheduleCandidateService scheduleCandidateService;
 
     @BeforeEach
     void setUp() {
-        scheduleCandidateService = new ScheduleCandidateService(scheduleCandidateRepository);
+        scheduleCandidateService = new ScheduleCandidateService(scheduleCandidateRepository, scheduleCandidateIntervalIndex);
     }
 
     @ParameterizedTest
@@ -49,7 +53,8 @@ class ScheduleCandidateServiceTest {
         BDDMockito.given(scheduleCandidateRepository.findAllByDateTimeIncluding(
                 groupId,
                 givenScheduleCandidateReadRequest.getStartDate().atStartOfDay(),
-                givenScheduleCandidateReadRequest.getEndDate().atStartOfDay()
+                givenScheduleCandidateReadRequest.getEndDate().atStartOfDay(),
+                PageRequest.of(0, ScheduleCandidateReadRequest.DEFAULT_SIZE + 1)
         )).willReturn(givenScheduleCandidate);
 
         // when
@@ -0,0 +1,103 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.DatabaseCleanup;
+import com.postsquad.scoup.web.TestEntityManager;
+import com.postsquad.scoup.web.auth.OAuthType;
+import com.postsquad.scoup.web.group.domain.Group;
+import com.postsquad.scoup.web.schedule.controller.request.ScheduleConfirmationRequest;
+import com.postsquad.scoup.web.schedule.domain.Schedule;
+import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.user.domain.OAuthUser;
+import com.postsquad.scoup.web.user.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@SpringBootTest(properties = {
+        "schedule.poll.write-behind.enabled=true",
+        "schedule.poll.write-behind.flush-interval-millis=3600000"
+})
+class ScheduleConfirmationServiceTest {
+
+    @Autowired
+    ScheduleConfirmationService scheduleConfirmationService;
+
+    @Autowired
+    SchedulePollBuffer schedulePollBuffer;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulePollBuffer.flush();
+    }
+
+    @Test
+    @DisplayName("write-behind 버퍼에만 있는 투표도 추천 순위와 확정 참여자에 넣는다")
+    void confirmWithBufferedVotes() {
+        // given
+        User voter = user("voter");
+        ScheduleCandidate earlierScheduleCandidate = ScheduleCandidate.builder()
+                                                                      .startDateTime(LocalDateTime.of(2021, 11, 25, 9, 0))
+                                                                      .endDateTime(LocalDateTime.of(2021, 11, 25, 10, 0))
+                                                                      .build();
+        ScheduleCandidate polledScheduleCandidate = ScheduleCandidate.builder()
+                                                                     .startDateTime(LocalDateTime.of(2021, 11, 25, 12, 0))
+                                                                     .endDateTime(LocalDateTime.of(2021, 11, 25, 13, 0))
+                                                                     .build();
+        Group group = Group.builder()
+                           .name("group")
+                           .build();
+        Schedule schedule = Schedule.builder()
+                                    .title("title")
+                                    .group(group)
+                                    .scheduleCandidates(List.of(earlierScheduleCandidate, polledScheduleCandidate))
+                                    .build();
+        earlierScheduleCandidate.setSchedule(schedule);
+        polledScheduleCandidate.setSchedule(schedule);
+        group.addSchedule(schedule);
+        testEntityManager.persist(group);
+
+        then(schedulePollBuffer.offer(polledScheduleCandidate.getId(), voter.getId())).hasValue(1);
+
+        // when
+        scheduleConfirmationService.confirm(group.getId(), schedule.getId(), ScheduleConfirmationRequest.builder()
+                                                                                                        .build());
+
+        // then
+        testEntityManager.findAndConsume(Schedule.class, schedule.getId(), confirmedSchedule -> {
+            then(confirmedSchedule.getConfirmedSchedule().getStartDateTime()).isEqualTo(polledScheduleCandidate.getStartDateTime());
+            then(confirmedSchedule.getConfirmedSchedule().getConfirmedParticipants()).extracting(User::getId)
+                                                                                      .containsExactly(voter.getId());
+        });
+    }
+
+    private User user(String name) {
+        User user = User.builder()
+                        .nickname(name)
+                        .email(name + "@email.com")
+                        .password("password")
+                        .username(name)
+                        .oAuthUsers(List.of(OAuthUser.of(OAuthType.NONE, "")))
+                        .build();
+        testEntityManager.persist(user);
+        return user;
+    }
+}
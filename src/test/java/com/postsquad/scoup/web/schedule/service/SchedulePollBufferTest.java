@@ -0,0 +1,128 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.DatabaseCleanup;
+import com.postsquad.scoup.web.TestEntityManager;
+import com.postsquad.scoup.web.auth.OAuthType;
+import com.postsquad.scoup.web.schedule.domain.Schedule;
+import com.postsquad.scoup.web.schedule.domain.ScheduleCandidate;
+import com.postsquad.scoup.web.schedule.repository.ScheduleCandidateRepository;
+import com.postsquad.scoup.web.user.domain.OAuthUser;
+import com.postsquad.scoup.web.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@SpringBootTest(properties = {
+        "schedule.poll.write-behind.enabled=true",
+        "schedule.poll.write-behind.capacity=2",
+        "schedule.poll.write-behind.batch-size=100",
+        "schedule.poll.write-behind.flush-interval-millis=3600000"
+})
+class SchedulePollBufferTest {
+
+    @Autowired
+    SchedulePollBuffer schedulePollBuffer;
+
+    @Autowired
+    ScheduleCandidateRepository scheduleCandidateRepository;
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+
+    @BeforeEach
+    void setUp() {
+        databaseCleanup.execute();
+    }
+
+    @Test
+    @DisplayName("투표를 중복 없이 모았다가 flush 할 때 저장하고, 가득 차면 거절한다")
+    void offerAndFlush() {
+        // given
+        User firstUser = user("first");
+        User secondUser = user("second");
+        User thirdUser = user("third");
+        ScheduleCandidate scheduleCandidate = scheduleCandidate();
+        long scheduleCandidateId = scheduleCandidate.getId();
+
+        // when
+        then(schedulePollBuffer.offer(scheduleCandidateId, firstUser.getId())).hasValue(1);
+        then(schedulePollBuffer.offer(scheduleCandidateId, firstUser.getId())).hasValue(1);
+        then(schedulePollBuffer.offer(scheduleCandidateId, secondUser.getId())).hasValue(2);
+        then(schedulePollBuffer.offer(scheduleCandidateId, thirdUser.getId())).isEmpty();
+
+        then(scheduleCandidateRepository.findPollCountById(scheduleCandidateId)).contains(0);
+
+        schedulePollBuffer.flush();
+
+        // then
+        then(scheduleCandidateRepository.findPollCountById(scheduleCandidateId)).contains(2);
+        then(schedulePollBuffer.bufferedCount(scheduleCandidateId)).isZero();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        schedulePollBuffer.bindTo(meterRegistry);
+        then(meterRegistry.get("schedule.poll.buffer.pending").gauge().value()).isZero();
+        then(meterRegistry.get("schedule.poll.buffer.in.flight").gauge().value()).isZero();
+        then(meterRegistry.get("schedule.poll.buffer.offers").tag("result", "duplicated").functionCounter().count()).isEqualTo(1);
+        then(meterRegistry.get("schedule.poll.buffer.offers").tag("result", "rejected").functionCounter().count()).isEqualTo(1);
+        then(meterRegistry.get("schedule.poll.buffer.writes").tag("result", "flushed").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장되기 전에 취소한 투표는 저장하지 않는다")
+    void cancelBeforeFlush() {
+        // given
+        User firstUser = user("first");
+        User secondUser = user("second");
+        ScheduleCandidate scheduleCandidate = scheduleCandidate();
+        long scheduleCandidateId = scheduleCandidate.getId();
+        schedulePollBuffer.offer(scheduleCandidateId, firstUser.getId());
+        schedulePollBuffer.offer(scheduleCandidateId, secondUser.getId());
+
+        // when
+        then(schedulePollBuffer.cancel(scheduleCandidateId, firstUser.getId())).isTrue();
+        then(schedulePollBuffer.cancel(scheduleCandidateId, firstUser.getId())).isFalse();
+        then(schedulePollBuffer.bufferedCount(scheduleCandidateId)).isEqualTo(1);
+
+        schedulePollBuffer.flush();
+
+        // then
+        then(scheduleCandidateRepository.findPollCountById(scheduleCandidateId)).contains(1);
+    }
+
+    private User user(String name) {
+        User user = User.builder()
+                        .nickname(name)
+                        .email(name + "@email.com")
+                        .password("password")
+                        .username(name)
+                        .oAuthUsers(List.of(OAuthUser.of(OAuthType.NONE, "")))
+                        .build();
+        testEntityManager.persist(user);
+        return user;
+    }
+
+    private ScheduleCandidate scheduleCandidate() {
+        ScheduleCandidate scheduleCandidate = ScheduleCandidate.builder()
+                                                               .startDateTime(LocalDateTime.of(2021, 11, 25, 0, 0))
+                                                               .endDateTime(LocalDateTime.of(2021, 11, 26, 0, 0))
+                                                               .build();
+        Schedule schedule = Schedule.builder()
+                                    .title("title")
+                                    .scheduleCandidate(scheduleCandidate)
+                                    .build();
+        scheduleCandidate.setSchedule(schedule);
+        testEntityManager.persist(schedule);
+        return scheduleCandidate;
+    }
+}
@@ -0,0 +1,95 @@
+package com.postsquad.scoup.web.schedule.service;
+
+import com.postsquad.scoup.web.schedule.controller.response.SchedulePollCountResponse;
+import com.postsquad.scoup.web.schedule.event.SchedulePolledEvent;
+import com.postsquad.scoup.web.schedule.exception.ScheduleNotFoundException;
+import com.postsquad.scoup.web.schedule.repository.ScheduleCandidateRepository;
+import com.postsquad.scoup.web.schedule.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class SchedulePollTallyBroadcasterTest {
+
+    private static final long SCHEDULE_ID = 1L;
+
+    ScheduleRepository scheduleRepository;
+
+    ScheduleCandidateRepository scheduleCandidateRepository;
+
+    SchedulePollBuffer schedulePollBuffer;
+
+    SchedulePollTallyBroadcaster schedulePollTallyBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        scheduleCandidateRepository = mock(ScheduleCandidateRepository.class);
+        schedulePollBuffer = mock(SchedulePollBuffer.class);
+        schedulePollTallyBroadcaster = new SchedulePollTallyBroadcaster(scheduleRepository, scheduleCandidateRepository, schedulePollBuffer, 1000L);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안의 투표는 바뀐 후보만 담은 한 프레임으로 보낸다")
+    void flushCoalescesVotes() {
+        // given
+        CapturingSseEmitter emitter = new CapturingSseEmitter();
+        schedulePollTallyBroadcaster.register(SCHEDULE_ID, emitter);
+        BDDMockito.given(scheduleCandidateRepository.findPollCountsByIds(SCHEDULE_ID, Set.of(10L, 11L)))
+                  .willReturn(List.of(new SchedulePollCountResponse(10L, 2), new SchedulePollCountResponse(11L, 1)));
+
+        schedulePollTallyBroadcaster.onSchedulePolled(SchedulePolledEvent.of(SCHEDULE_ID, 10L, 100L));
+        schedulePollTallyBroadcaster.onSchedulePolled(SchedulePolledEvent.of(SCHEDULE_ID, 10L, 101L));
+        schedulePollTallyBroadcaster.onSchedulePolled(SchedulePolledEvent.of(SCHEDULE_ID, 11L, 100L));
+
+        // when
+        schedulePollTallyBroadcaster.flush();
+        schedulePollTallyBroadcaster.flush();
+
+        // then
+        then(emitter.sentEvents).hasSize(1);
+        BDDMockito.then(scheduleCandidateRepository).should().findPollCountsByIds(SCHEDULE_ID, Set.of(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 스케줄의 투표는 집계하지 않는다")
+    void ignoreVotesWithoutSubscribers() {
+        schedulePollTallyBroadcaster.onSchedulePolled(SchedulePolledEvent.of(SCHEDULE_ID, 10L, 100L));
+
+        schedulePollTallyBroadcaster.flush();
+
+        BDDMockito.then(scheduleCandidateRepository).should(never()).findPollCountsByIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("그룹에 없는 스케줄은 구독하지 않고 ScheduleNotFoundException 을 던진다")
+    void subscribeUnknownSchedule() {
+        BDDMockito.given(scheduleRepository.existsByIdAndGroupId(SCHEDULE_ID, 2L)).willReturn(false);
+
+        thenThrownBy(() -> schedulePollTallyBroadcaster.subscribe(2L, SCHEDULE_ID)).isInstanceOf(ScheduleNotFoundException.class);
+        BDDMockito.then(scheduleCandidateRepository).should(never()).findPollCountsByScheduleId(anyLong());
+    }
+
+    private static class CapturingSseEmitter extends SseEmitter {
+
+        private final List<Object> sentEvents = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sentEvents.add(builder.build());
+        }
+    }
+}
@@ -175,6 +175,9 @@ class SignInAcceptanceTest extends AcceptanceTestBase {
         then(actualAccessToken.verify(macVerifier()))
                 .as("로그인 결과(access token 서명 검증) : %s", description)
                 .isTrue();
+        then(actualAccessToken.getJWTClaimsSet().getClaim("typ"))
+                .as("로그인 결과(access token typ 검증) : %s", description)
+                .isEqualTo("access");
         then(actualAccessToken.getJWTClaimsSet().getSubject())
                 .as("로그인 결과(access token subject 검증) : %s", description)
                 .isEqualTo(String.valueOf(userId));
@@ -210,6 +213,9 @@ class SignInAcceptanceTest extends AcceptanceTestBase {
         then(actualRefreshToken.verify(macVerifier()))
                 .as("로그인 결과(refresh token 서명 검증) : %s", description)
                 .isTrue();
+        then(actualRefreshToken.getJWTClaimsSet().getClaim("typ"))
+                .as("로그인 결과(refresh token typ 검증) : %s", description)
+                .isEqualTo("refresh");
         then(actualRefreshToken.getJWTClaimsSet().getSubject())
                 .as("로그인 결과(refresh token subject 검증) : %s", description)
                 .isEqualTo(String.valueOf(userId));
@@ -15,7 +15,7 @@ import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 import static org.mockito.BDDMockito.given;
 
 
-@SpringBootTest(classes = {SignInService.class, SignInTokenGenerator.class})
+@SpringBootTest(classes = {SignInService.class, SignInTokenGenerator.class, SignInKeyRing.class})
 class SignInServiceTest {
 
     @MockBean
@@ -0,0 +1,119 @@
+package com.postsquad.scoup.web.signin.service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.postsquad.scoup.web.signin.exception.AuthorizationFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+@SpringBootTest(classes = {SignInKeyRing.class, SignInTokenGenerator.class, SignInTokenVerifier.class})
+class SignInTokenVerifierTest {
+
+    @Value("${jwt.secret.mac}")
+    String jwtSecret;
+
+    @Autowired
+    SignInTokenGenerator signInTokenGenerator;
+
+    @Autowired
+    SignInTokenVerifier signInTokenVerifier;
+
+    @Test
+    @DisplayName("발급한 토큰을 검증하면 userId 를 반환한다")
+    void verify() {
+        String accessToken = signInTokenGenerator.accessToken(1L);
+
+        then(signInTokenVerifier.verify(accessToken)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 검증에 실패한다")
+    void verifyFailsWithInvalidSignature() throws JOSEException {
+        String forgedToken = token(jwtSecret + "-forged", LocalDateTime.now().plusMinutes(30));
+
+        thenThrownBy(() -> signInTokenVerifier.verify(forgedToken))
+                .isInstanceOf(AuthorizationFailedException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 검증에 실패한다")
+    void verifyFailsWithExpiredToken() throws JOSEException {
+        String expiredToken = token(jwtSecret, LocalDateTime.now().minusMinutes(1));
+
+        thenThrownBy(() -> signInTokenVerifier.verify(expiredToken))
+                .isInstanceOf(AuthorizationFailedException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 검증에 실패한다")
+    void verifyFailsWithMalformedToken() {
+        thenThrownBy(() -> signInTokenVerifier.verify("malformed"))
+                .isInstanceOf(AuthorizationFailedException.class);
+    }
+
+    @Test
+    @DisplayName("refresh token 은 검증에 실패한다")
+    void verifyFailsWithRefreshToken() {
+        String refreshToken = signInTokenGenerator.refreshToken(1L);
+
+        thenThrownBy(() -> signInTokenVerifier.verify(refreshToken))
+                .isInstanceOf(AuthorizationFailedException.class);
+    }
+
+    @Test
+    @DisplayName("typ claim 이 없는 토큰은 검증에 실패한다")
+    void verifyFailsWithoutTokenType() throws JOSEException {
+        String untypedToken = token(jwtSecret, LocalDateTime.now().plusMinutes(30));
+
+        thenThrownBy(() -> signInTokenVerifier.verify(untypedToken))
+                .isInstanceOf(AuthorizationFailedException.class);
+    }
+
+    @Test
+    @DisplayName("퇴역 키로 발급된 토큰은 kid 로 키를 찾아 검증한다")
+    void verifyWithRetiredKey() {
+        String oldSecret = "old-secret-for-sign-in-token-rotation-test";
+        String newSecret = "new-secret-for-sign-in-token-rotation-test";
+        SignInTokenGenerator oldGenerator = new SignInTokenGenerator(new SignInKeyRing("old", oldSecret, ""));
+        SignInTokenVerifier rotatedVerifier = new SignInTokenVerifier(new SignInKeyRing("new", newSecret, "old:" + oldSecret));
+
+        String issuedWithOldKey = oldGenerator.accessToken(1L);
+
+        then(rotatedVerifier.verify(issuedWithOldKey)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid 로 서명된 토큰은 검증에 실패한다")
+    void verifyFailsWithUnknownKeyId() {
+        String unknownKeyToken = new SignInTokenGenerator(new SignInKeyRing("unknown", jwtSecret, "")).accessToken(1L);
+
+        thenThrownBy(() -> signInTokenVerifier.verify(unknownKeyToken))
+                .isInstanceOf(AuthorizationFailedException.class);
+    }
+
+    private String token(String secret, LocalDateTime expirationTime) throws JOSEException {
+        SignedJWT signedJWT = new SignedJWT(
+                new JWSHeader(JWSAlgorithm.HS256),
+                new JWTClaimsSet.Builder()
+                        .subject("1")
+                        .expirationTime(Date.from(expirationTime.toInstant(ZoneOffset.UTC)))
+                        .build()
+        );
+        signedJWT.sign(new MACSigner(secret));
+        return signedJWT.serialize();
+    }
+}
@@ -0,0 +1,72 @@
+package com.postsquad.scoup.web.signin.service;
+
+import com.postsquad.scoup.web.DatabaseCleanup;
+import com.postsquad.scoup.web.signin.domain.SignInUser;
+import com.postsquad.scoup.web.signin.exception.UserNotFoundException;
+import com.postsquad.scoup.web.user.domain.User;
+import com.postsquad.scoup.web.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+@SpringBootTest
+class SignInUserCacheTest {
+
+    @Autowired
+    SignInUserCache signInUserCache;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    DatabaseCleanup databaseCleanup;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanup.execute();
+        signInUserCache.evictAll();
+    }
+
+    @Test
+    @DisplayName("엔티티가 아닌 바뀌지 않는 SignInUser 를 캐싱한다")
+    void get() {
+        // given
+        User user = userRepository.save(givenUser());
+
+        // when
+        SignInUser signInUser = signInUserCache.get(user.getId());
+
+        // then
+        then(signInUser).isEqualTo(SignInUser.from(user));
+        then(signInUserCache.get(user.getId())).isSameAs(signInUser);
+    }
+
+    @Test
+    @DisplayName("사용자가 삭제되면 캐시에서도 지워진다")
+    void evictOnDelete() {
+        // given
+        User user = userRepository.save(givenUser());
+        signInUserCache.get(user.getId());
+
+        // when
+        userRepository.delete(user);
+
+        // then
+        thenThrownBy(() -> signInUserCache.get(user.getId()))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    private User givenUser() {
+        return User.builder()
+                   .nickname("nickname")
+                   .username("username")
+                   .email("email@email.com")
+                   .password("password")
+                   .build();
+    }
+}
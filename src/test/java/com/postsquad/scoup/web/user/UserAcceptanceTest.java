@@ -94,7 +94,10 @@ class UserAcceptanceTest extends AcceptanceTestBase {
     private static final Snippet EMAIL_VALIDATION_RESPONSE_FIELDS = responseFields(
             fieldWithPath("is_existing_email")
                     .type(JsonFieldType.BOOLEAN)
-                    .description("이메일 중복 여부")
+                    .description("이메일 중복 여부"),
+            fieldWithPath("is_definite")
+                    .type(JsonFieldType.BOOLEAN)
+                    .description("DB 로 확인한 결과인지 여부 (false 면 아마 사용 가능)")
     );
 
     private static final Snippet NICKNAME_VALIDATION_REQUEST_PARAMS = requestParameters(
@@ -105,7 +108,10 @@ class UserAcceptanceTest extends AcceptanceTestBase {
     private static final Snippet NICKNAME_VALIDATION_RESPONSE_FIELDS = responseFields(
             fieldWithPath("is_existing_nickname")
                     .type(JsonFieldType.BOOLEAN)
-                    .description("닉네임 중복 여부")
+                    .description("닉네임 중복 여부"),
+            fieldWithPath("is_definite")
+                    .type(JsonFieldType.BOOLEAN)
+                    .description("DB 로 확인한 결과인지 여부 (false 면 아마 사용 가능)")
     );
 
     @Autowired
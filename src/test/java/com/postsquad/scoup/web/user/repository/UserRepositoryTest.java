@@ -1,5 +1,8 @@
 package com.postsquad.scoup.web.user.repository;
 
+import com.postsquad.scoup.web.auth.OAuthType;
+import com.postsquad.scoup.web.config.QuerydslConfig;
+import com.postsquad.scoup.web.user.domain.OAuthUser;
 import com.postsquad.scoup.web.user.domain.User;
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.Test;
@@ -8,14 +11,17 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
 @DataJpaTest
+@Import(QuerydslConfig.class)
 class UserRepositoryTest {
 
     @Autowired
@@ -40,6 +46,38 @@ class UserRepositoryTest {
                 .isEqualTo(user);
     }
 
+    @Test
+    void findSignUpConflict() {
+        // given
+        userRepository.save(User.builder()
+                                .nickname("nickname")
+                                .username("username")
+                                .email("email")
+                                .password("password")
+                                .oAuthUsers(List.of(OAuthUser.of(OAuthType.GITHUB, "socialServiceId")))
+                                .build());
+
+        // when, then
+        then(userRepository.findSignUpConflict(givenSignUpUser("other", "other", OAuthType.GITHUB, "socialServiceId")))
+                .contains(SignUpConflict.OAUTH_USER);
+        then(userRepository.findSignUpConflict(givenSignUpUser("nickname", "email", OAuthType.NONE, "")))
+                .contains(SignUpConflict.EMAIL);
+        then(userRepository.findSignUpConflict(givenSignUpUser("nickname", "other", OAuthType.NONE, "")))
+                .contains(SignUpConflict.NICKNAME);
+        then(userRepository.findSignUpConflict(givenSignUpUser("other", "other", OAuthType.NONE, "socialServiceId")))
+                .isEmpty();
+    }
+
+    private User givenSignUpUser(String nickname, String email, OAuthType oAuthType, String socialServiceId) {
+        return User.builder()
+                   .nickname(nickname)
+                   .username("username")
+                   .email(email)
+                   .password("password")
+                   .oAuthUsers(List.of(OAuthUser.of(oAuthType, socialServiceId)))
+                   .build();
+    }
+
     @ParameterizedTest
     @MethodSource("saveWithNotnullViolationProvider")
     void saveWithNotnullViolation(String description, User givenUser) {
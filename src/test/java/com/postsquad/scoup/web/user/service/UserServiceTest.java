@@ -4,22 +4,30 @@ import com.postsquad.scoup.web.user.controller.request.EmailValidationRequest;
 import com.postsquad.scoup.web.user.controller.request.SignUpRequest;
 import com.postsquad.scoup.web.user.controller.response.EmailValidationResponse;
 import com.postsquad.scoup.web.user.domain.User;
+import com.postsquad.scoup.web.user.repository.SignUpConflict;
 import com.postsquad.scoup.web.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.BDDMockito;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 
 @SpringBootTest(classes = UserService.class)
 public class UserServiceTest {
@@ -29,23 +37,28 @@ public class UserServiceTest {
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private UserBloomFilter userBloomFilter;
+
     private UserService userService;
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository);
+        userService = new UserService(userRepository, userBloomFilter);
 
         TEST_USER = User.builder().avatarUrl(null).email("email@email.com").nickname(null).password(null).username(null).build();
 
-        Mockito.when(userRepository.findByEmail(TEST_USER.getEmail()))
-               .thenReturn(Optional.of(TEST_USER));
+        Mockito.when(userRepository.existsByEmail(TEST_USER.getEmail()))
+               .thenReturn(true);
+        Mockito.when(userBloomFilter.mightContainEmail(TEST_USER.getEmail()))
+               .thenReturn(true);
     }
 
     @Test
     void signUpThrowsEmailAlreadyExistsException() {
         String existingEmail = "existing@email.com";
-        given(userRepository.existsByEmail(existingEmail))
-                .willReturn(true);
+        given(userRepository.findSignUpConflict(any(User.class)))
+                .willReturn(Optional.of(SignUpConflict.EMAIL));
 
         thenThrownBy(() -> userService.signUp(SignUpRequest.builder().email(existingEmail).build()))
                 .isInstanceOf(EmailAlreadyExistsException.class);
@@ -54,13 +67,47 @@ public class UserServiceTest {
     @Test
     void signUpThrowsNicknameAlreadyExistsException() {
         String existingNickname = "existing";
-        given(userRepository.existsByNickname(existingNickname))
-                .willReturn(true);
+        given(userRepository.findSignUpConflict(any(User.class)))
+                .willReturn(Optional.of(SignUpConflict.NICKNAME));
 
         thenThrownBy(() -> userService.signUp(SignUpRequest.builder().nickname(existingNickname).build()))
                 .isInstanceOf(NicknameAlreadyExistsException.class);
     }
 
+    @Test
+    @DisplayName("중복 확인 뒤에 같은 이메일로 먼저 가입한 사용자가 있으면 제약 조건 위반을 EmailAlreadyExistsException 으로 바꾼다")
+    void signUpTranslatesEmailConstraintViolation() {
+        ConstraintViolationException constraintViolationException = new ConstraintViolationException("Unique index or primary key violation", new SQLException(), "\"UK_USER_EMAIL_INDEX_2 ON \"\"SCOUP\".\"USER\"(\"EMAIL\")\"");
+        given(userRepository.save(any(User.class)))
+                .willThrow(new DataIntegrityViolationException("could not execute statement", constraintViolationException));
+
+        thenThrownBy(() -> userService.signUp(SignUpRequest.builder().email("racing@email.com").build()))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+    }
+
+    @Test
+    void signUpRethrowsUnknownConstraintViolation() {
+        ConstraintViolationException constraintViolationException = new ConstraintViolationException("Unique index or primary key violation", new SQLException(), "PRIMARY");
+        given(userRepository.save(any(User.class)))
+                .willThrow(new DataIntegrityViolationException("could not execute statement", constraintViolationException));
+
+        thenThrownBy(() -> userService.signUp(SignUpRequest.builder().email("racing@email.com").build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void validateEmailSkipsQueryWhenBloomFilterDoesNotContainEmail() {
+        String notExistingEmail = "notExistingEmail@email.com";
+        given(userBloomFilter.mightContainEmail(notExistingEmail))
+                .willReturn(false);
+
+        EmailValidationResponse response = userService.validateEmail(EmailValidationRequest.builder().email(notExistingEmail).build());
+
+        then(response.getIsExistingEmail()).isFalse();
+        then(response.getIsDefinite()).isFalse();
+        BDDMockito.then(userRepository).should(never()).existsByEmail(notExistingEmail);
+    }
+
     @ParameterizedTest
     @MethodSource("validateEmailProvider")
     public void validateEmail(EmailValidationRequest emailValidationRequest, EmailValidationResponse expected) {